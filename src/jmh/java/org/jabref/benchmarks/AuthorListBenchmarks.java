@@ -0,0 +1,70 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.model.entry.AuthorList;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Parses author fields from several threads at once, as happens when the main table is sorted while keys are
+ * generated. Most of the fields repeat, so the parser cache is hit most of the time.
+ */
+@State(Scope.Benchmark)
+public class AuthorListBenchmarks {
+
+    private final List<String> authorFields = new ArrayList<>();
+
+    @Setup
+    public void init() {
+        String[] firstNames = {"John", "Peter", "Anna", "María", "Hans"};
+        String[] lastNames = {"Smith", "von Neumann", "Black Brown", "Dingsøyr", "{van der Vliet}"};
+        Random randomizer = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            String first = firstNames[randomizer.nextInt(firstNames.length)];
+            String last = lastNames[randomizer.nextInt(lastNames.length)];
+            authorFields.add(last + ", " + first + " and " + first + " " + last + (i % 200) + " and Others, Some");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Position {
+        private int next;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public AuthorList parseSingleThreaded(Position position) {
+        return parseNext(position);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public AuthorList parseUnderContention(Position position) {
+        return parseNext(position);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String formatUnderContention(Position position) {
+        return parseNext(position).getAsLastFirstNamesWithAnd(true);
+    }
+
+    private AuthorList parseNext(Position position) {
+        position.next = (position.next + 1) % authorFields.size();
+        return AuthorList.parse(authorFields.get(position.next));
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,107 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares the heap retained by a library whose entries store their fields in packed arrays with a library whose
+ * entries store their fields in hash maps. The storage is chosen per fork by the system property
+ * {@link BibEntry#FIELD_STORAGE_PROPERTY}.
+ * <p>
+ * Each operation creates a library, as the parser does, and caches the latex free title of each entry, as the search
+ * does. The library is kept reachable while the used heap is measured after a full garbage collection, and the
+ * difference to the used heap before creating the library is reported per entry as the counter
+ * {@code retainedBytesPerEntry}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class BibEntryHeapBenchmarks {
+
+    private static final int ENTRIES = 10_000;
+
+    @State(Scope.Thread)
+    public static class Library {
+
+        private BibDatabase database;
+
+        @Setup(Level.Iteration)
+        public void releaseDatabase() {
+            database = null;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+
+        public long retainedBytesPerEntry;
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = {"-XX:+UseSerialGC", "-D" + BibEntry.FIELD_STORAGE_PROPERTY + "=packed"})
+    public BibDatabase createLibraryWithPackedFields(Library library, RetainedHeap retainedHeap) {
+        return createLibrary(library, retainedHeap);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = {"-XX:+UseSerialGC", "-D" + BibEntry.FIELD_STORAGE_PROPERTY + "=hashed"})
+    public BibDatabase createLibraryWithHashedFields(Library library, RetainedHeap retainedHeap) {
+        return createLibrary(library, retainedHeap);
+    }
+
+    private static BibDatabase createLibrary(Library library, RetainedHeap retainedHeap) {
+        long usedBefore = usedHeapAfterGc();
+
+        List<BibEntry> entries = new ArrayList<>(ENTRIES);
+        for (int i = 0; i < ENTRIES; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCiteKey("id" + i);
+            entry.setField(StandardField.TITLE, "This is my title " + i);
+            entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+            entry.setField(StandardField.JOURNAL, "Journal Title " + i);
+            entry.setField(StandardField.KEYWORDS, "testkeyword");
+            entry.setField(StandardField.YEAR, "1" + i);
+            entry.setField(new UnknownField("rnd"), "2" + i);
+            entry.getLatexFreeField(StandardField.TITLE);
+            entries.add(entry);
+        }
+        library.database = new BibDatabase(entries);
+
+        retainedHeap.retainedBytesPerEntry = (usedHeapAfterGc() - usedBefore) / ENTRIES;
+        return library.database;
+    }
+
+    private static long usedHeapAfterGc() {
+        // Several collections, since a single one does not necessarily free all unreachable objects
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,40 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.IdGenerator;
+import org.jabref.model.entry.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures the throughput of creating IDs and entries when many threads do so at the same time, e.g., when libraries
+ * are parsed or fetched concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Threads(Threads.MAX)
+public class IdGeneratorBenchmarks {
+
+    @Benchmark
+    public String createId() {
+        return IdGenerator.next();
+    }
+
+    @Benchmark
+    public BibEntry createEntry() {
+        return new BibEntry(StandardEntryType.Article);
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -21,6 +21,7 @@ import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.server.RemoteListenerServerLifecycle;
 import org.jabref.logic.util.BuildInfo;
+import org.jabref.logic.util.io.FileIndex;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.JabRefPreferences;
@@ -129,6 +130,7 @@ public class Globals {
 
     public static void stopBackgroundTasks() {
         stopTelemetryClient();
+        FileIndex.closeAll();
         try {
             Unirest.shutdown();
         } catch (IOException ignore) { }
@@ -107,6 +107,8 @@ import org.slf4j.LoggerFactory;
 public class BasePanel extends StackPane {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BasePanel.class);
+    // Number of entries after the selected one whose citations are generated in the background
+    private static final int CITATIONS_TO_PRERENDER = 10;
 
     private final BibDatabaseContext bibDatabaseContext;
     private final MainTableDataModel tableModel;
@@ -683,6 +685,9 @@ public class BasePanel extends StackPane {
                                                              entryEditor.setEntry(entry);
                                                          }));
 
+        // Generate the citations of the following entries in the background, so that they are shown at once when selected
+        mainTable.addSelectionListener(event -> citationStyleCache.prerender(mainTable.getEntriesAfterSelection(CITATIONS_TO_PRERENDER)));
+
         // TODO: Register these actions globally
         /*
         String clearSearch = "clearSearch";
@@ -1045,6 +1050,8 @@ public class BasePanel extends StackPane {
      */
     public void cleanUp() {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
+        annotationCache.shutdown();
+        citationStyleCache.shutdown();
     }
 
     /**
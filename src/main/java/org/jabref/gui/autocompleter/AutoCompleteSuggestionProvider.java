@@ -5,9 +5,18 @@ import java.util.Collection;
 import javafx.util.Callback;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 
 import org.controlsfx.control.textfield.AutoCompletionBinding;
 
 public interface AutoCompleteSuggestionProvider<T> extends Callback<AutoCompletionBinding.ISuggestionRequest, Collection<T>> {
     void indexEntry(BibEntry entry);
+
+    /**
+     * Includes the information of the given entry after the given field was changed. Providers not depending on the
+     * field may skip the entry.
+     */
+    default void indexField(BibEntry entry, Field field) {
+        indexEntry(entry);
+    }
 }
@@ -2,6 +2,7 @@ package org.jabref.gui.autocompleter;
 
 import org.jabref.model.database.event.EntryAddedEvent;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 
 import com.google.common.eventbus.Subscribe;
 
@@ -23,6 +24,11 @@ public class AutoCompleteUpdater {
 
     @Subscribe
     public void listen(EntryChangedEvent entryChangedEvent) {
-        suggestionProviders.indexEntry(entryChangedEvent.getBibEntry());
+        if (entryChangedEvent instanceof FieldChangedEvent) {
+            // Only the providers of the changed field need to learn the new value
+            suggestionProviders.indexField(entryChangedEvent.getBibEntry(), ((FieldChangedEvent) entryChangedEvent).getField());
+        } else {
+            suggestionProviders.indexEntry(entryChangedEvent.getBibEntry());
+        }
     }
 }
@@ -4,10 +4,9 @@ import java.util.Comparator;
 
 import org.jabref.logic.bibtex.comparator.EntryComparator;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
 
-import org.controlsfx.control.textfield.AutoCompletionBinding;
-
 /**
  * Delivers possible completions as a list of {@link BibEntry} based on their cite key.
  */
@@ -22,16 +21,26 @@ public class BibEntrySuggestionProvider extends SuggestionProvider<BibEntry> imp
         addPossibleSuggestions(entry);
     }
 
+    @Override
+    public void indexField(BibEntry entry, Field field) {
+        if (InternalField.KEY_FIELD.equals(field)) {
+            indexEntry(entry);
+        }
+    }
+
     @Override
     protected Comparator<BibEntry> getComparator() {
         return new EntryComparator(false, true, InternalField.KEY_FIELD);
     }
 
     @Override
-    protected boolean isMatch(BibEntry suggestion, AutoCompletionBinding.ISuggestionRequest request) {
-        String userTextLower = request.getUserText().toLowerCase();
-        return suggestion.getCiteKeyOptional()
-                .map(key -> key.toLowerCase().contains(userTextLower))
-                .orElse(false);
+    protected String getMatchString(BibEntry suggestion) {
+        return suggestion.getCiteKeyOptional().orElse("");
+    }
+
+    @Override
+    protected Object getSuggestionKey(BibEntry suggestion) {
+        // Entries are equal if their content is equal, but their id stays the same if they are changed
+        return suggestion.getId();
     }
 }
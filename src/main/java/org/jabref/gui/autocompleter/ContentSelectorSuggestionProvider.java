@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.List;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 
 import org.controlsfx.control.textfield.AutoCompletionBinding;
 
@@ -37,4 +38,9 @@ public class ContentSelectorSuggestionProvider implements AutoCompleteSuggestion
     public void indexEntry(BibEntry entry) {
         suggestionProvider.indexEntry(entry);
     }
+
+    @Override
+    public void indexField(BibEntry entry, Field field) {
+        suggestionProvider.indexField(entry, field);
+    }
 }
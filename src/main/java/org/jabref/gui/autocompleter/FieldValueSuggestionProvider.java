@@ -24,4 +24,11 @@ class FieldValueSuggestionProvider extends StringSuggestionProvider implements A
 
         entry.getField(field).ifPresent(fieldValue -> addPossibleSuggestions(fieldValue.trim()));
     }
+
+    @Override
+    public void indexField(BibEntry entry, Field field) {
+        if (this.field.equals(field)) {
+            indexEntry(entry);
+        }
+    }
 }
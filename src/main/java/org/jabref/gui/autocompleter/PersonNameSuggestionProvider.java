@@ -10,8 +10,6 @@ import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 
-import org.controlsfx.control.textfield.AutoCompletionBinding;
-
 /**
  * Delivers possible completions as a list of {@link Author}s.
  */
@@ -47,15 +45,20 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> imp
         }
     }
 
+    @Override
+    public void indexField(BibEntry entry, Field field) {
+        if (fields.contains(field)) {
+            indexEntry(entry);
+        }
+    }
+
     @Override
     protected Comparator<Author> getComparator() {
         return authorComparator;
     }
 
     @Override
-    protected boolean isMatch(Author suggestion, AutoCompletionBinding.ISuggestionRequest request) {
-        String userTextLower = request.getUserText().toLowerCase();
-        String suggestionStr = suggestion.getLastFirst(false).toLowerCase();
-        return suggestionStr.contains(userTextLower);
+    protected String getMatchString(Author suggestion) {
+        return suggestion.getLastFirst(false);
     }
 }
@@ -2,8 +2,6 @@ package org.jabref.gui.autocompleter;
 
 import java.util.Comparator;
 
-import org.controlsfx.control.textfield.AutoCompletionBinding;
-
 class StringSuggestionProvider extends SuggestionProvider<String> {
 
     private final Comparator<String> stringComparator = Comparator.naturalOrder();
@@ -18,9 +16,7 @@ class StringSuggestionProvider extends SuggestionProvider<String> {
     }
 
     @Override
-    protected boolean isMatch(String suggestion, AutoCompletionBinding.ISuggestionRequest request) {
-        String userTextLower = request.getUserText().toLowerCase();
-        String suggestionStr = suggestion.toLowerCase();
-        return suggestionStr.contains(userTextLower);
+    protected String getMatchString(String suggestion) {
+        return suggestion;
     }
 }
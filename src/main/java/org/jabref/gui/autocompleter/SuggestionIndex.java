@@ -0,0 +1,168 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Stores possible suggestions in a trigram index to find the ones whose match string contains the user input.
+ * <p>
+ * Each suggestion is stored under every trigram of its lower-cased match string. An input of at least three characters
+ * is only checked against the suggestions of its rarest trigram, shorter inputs are checked against all suggestions.
+ * Only the best suggestions are kept while checking, so the result is never sorted completely.
+ * <p>
+ * The suggestions are stored by a key, which has to stay the same when a suggestion is changed. For mutable suggestions
+ * whose equality depends on their content (like {@link org.jabref.model.entry.BibEntry}), this is not the suggestion
+ * itself. A suggestion which is added again under the same key is indexed by its current match string.
+ * <p>
+ * All collections are concurrent, so that suggestions can be found without locking while new ones are added.
+ *
+ * @param <T> Type of suggestions
+ */
+class SuggestionIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<T, String> matchStringExtractor;
+    private final Function<T, Object> keyExtractor;
+    private final ConcurrentMap<Object, T> suggestions = new ConcurrentHashMap<>();
+    /**
+     * The match strings the suggestions are stored under in {@link #suggestionsByGram}
+     */
+    private final Map<Object, String> indexedMatchStrings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<Object, T>> suggestionsByGram = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an index storing the suggestions by themselves, which is suitable for immutable suggestions
+     *
+     * @param matchStringExtractor returns the string the user input is searched in
+     */
+    SuggestionIndex(Function<T, String> matchStringExtractor) {
+        this(matchStringExtractor, suggestion -> suggestion);
+    }
+
+    /**
+     * @param matchStringExtractor returns the string the user input is searched in
+     * @param keyExtractor         returns the key identifying a suggestion
+     */
+    SuggestionIndex(Function<T, String> matchStringExtractor, Function<T, Object> keyExtractor) {
+        this.matchStringExtractor = Objects.requireNonNull(matchStringExtractor);
+        this.keyExtractor = Objects.requireNonNull(keyExtractor);
+    }
+
+    public synchronized void add(T suggestion) {
+        Object key = keyExtractor.apply(suggestion);
+        String matchString = getMatchString(suggestion);
+        suggestions.put(key, suggestion);
+        String previousMatchString = indexedMatchStrings.put(key, matchString);
+        if (matchString.equals(previousMatchString)) {
+            // Already known, which is the usual case when an entry is indexed again after an unrelated change
+            return;
+        }
+
+        Set<String> grams = getGrams(matchString);
+        if (previousMatchString != null) {
+            for (String gram : getGrams(previousMatchString)) {
+                if (!grams.contains(gram)) {
+                    removeFromGram(gram, key);
+                }
+            }
+        }
+        for (String gram : grams) {
+            suggestionsByGram.computeIfAbsent(gram, unused -> new ConcurrentHashMap<>()).put(key, suggestion);
+        }
+    }
+
+    private void removeFromGram(String gram, Object key) {
+        ConcurrentMap<Object, T> suggestionsOfGram = suggestionsByGram.get(gram);
+        if (suggestionsOfGram != null) {
+            suggestionsOfGram.remove(key);
+            if (suggestionsOfGram.isEmpty()) {
+                suggestionsByGram.remove(gram);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        suggestions.clear();
+        indexedMatchStrings.clear();
+        suggestionsByGram.clear();
+    }
+
+    public int size() {
+        return suggestions.size();
+    }
+
+    /**
+     * Returns the best suggestions whose match string contains the given user text, ignoring case.
+     *
+     * @param userText the non-empty user input
+     * @param ranking  orders the suggestions from best to worst
+     * @param limit    the maximal number of returned suggestions
+     * @return at most limit suggestions, ordered by the given ranking
+     */
+    public List<T> find(String userText, Comparator<T> ranking, int limit) {
+        String query = userText.toLowerCase(Locale.ROOT);
+
+        // The head of the queue is the worst suggestion kept so far
+        PriorityQueue<T> best = new PriorityQueue<>(ranking.reversed());
+        for (T candidate : getCandidates(query)) {
+            // The match string is checked again, as it might have changed since the suggestion was added
+            if (getMatchString(candidate).contains(query)) {
+                best.offer(candidate);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+
+        List<T> result = new ArrayList<>(best);
+        result.sort(ranking);
+        return result;
+    }
+
+    private Collection<T> getCandidates(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return suggestions.values();
+        }
+
+        Map<Object, T> rarest = null;
+        for (String gram : getGrams(query)) {
+            Map<Object, T> suggestionsOfGram = suggestionsByGram.get(gram);
+            if (suggestionsOfGram == null) {
+                return Collections.emptySet();
+            }
+            if ((rarest == null) || (suggestionsOfGram.size() < rarest.size())) {
+                rarest = suggestionsOfGram;
+            }
+        }
+        return rarest.values();
+    }
+
+    private String getMatchString(T suggestion) {
+        String matchString = matchStringExtractor.apply(suggestion);
+        if (matchString == null) {
+            return "";
+        }
+        return matchString.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> getGrams(String matchString) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i <= (matchString.length() - GRAM_LENGTH); i++) {
+            grams.add(matchString.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
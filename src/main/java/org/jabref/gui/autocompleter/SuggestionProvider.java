@@ -26,12 +26,10 @@
  */
 package org.jabref.gui.autocompleter;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
-import java.util.List;
 
 import javafx.util.Callback;
 
@@ -39,17 +37,23 @@ import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest
 
 /**
  * This is a simple implementation of a generic suggestion provider callback.
- * The complexity of suggestion generation is O(n) where n is the number of possible suggestions.
+ * The possible suggestions are kept in a {@link SuggestionIndex}, so only the suggestions sharing a trigram with the
+ * user input are checked and at most {@link #MAX_SUGGESTIONS} of them are returned.
  *
  * @param <T> Type of suggestions
  *
- * This class is a copy of {@link impl.org.controlsfx.autocompletion.SuggestionProvider} with the only difference that
- *           we use a set instead of list to store the suggestions in order to eliminate duplicates.
+ * This class is based on {@link impl.org.controlsfx.autocompletion.SuggestionProvider}. In contrast to it, we use a set
+ *           instead of list to store the suggestions in order to eliminate duplicates, and do not lock while finding
+ *           suggestions.
  */
 public abstract class SuggestionProvider<T> implements Callback<ISuggestionRequest, Collection<T>> {
 
-    private final Collection<T> possibleSuggestions = new HashSet<>();
-    private final Object possibleSuggestionsLock = new Object();
+    /**
+     * Maximal number of suggestions returned for one request. More cannot be overviewed in the popup anyway.
+     */
+    public static final int MAX_SUGGESTIONS = 100;
+
+    private final SuggestionIndex<T> possibleSuggestions = new SuggestionIndex<>(this::getMatchString, this::getSuggestionKey);
 
     /**
      * Create a default suggestion provider based on the toString() method of the generic objects
@@ -83,8 +87,8 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
      * Add the given new possible suggestions to this  SuggestionProvider
      */
     public void addPossibleSuggestions(Collection<T> newPossible) {
-        synchronized (possibleSuggestionsLock) {
-            possibleSuggestions.addAll(newPossible);
+        for (T suggestion : newPossible) {
+            possibleSuggestions.add(suggestion);
         }
     }
 
@@ -92,25 +96,15 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
      * Remove all current possible suggestions
      */
     public void clearSuggestions() {
-        synchronized (possibleSuggestionsLock) {
-            possibleSuggestions.clear();
-        }
+        possibleSuggestions.clear();
     }
 
     @Override
     public final Collection<T> call(final ISuggestionRequest request) {
-        List<T> suggestions = new ArrayList<>();
-        if (!request.getUserText().isEmpty()) {
-            synchronized (possibleSuggestionsLock) {
-                for (T possibleSuggestion : possibleSuggestions) {
-                    if (isMatch(possibleSuggestion, request)) {
-                        suggestions.add(possibleSuggestion);
-                    }
-                }
-            }
-            suggestions.sort(getComparator());
+        if (request.getUserText().isEmpty()) {
+            return Collections.emptyList();
         }
-        return suggestions;
+        return possibleSuggestions.find(request.getUserText(), getComparator(), MAX_SUGGESTIONS);
     }
 
     /**
@@ -119,9 +113,18 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
     protected abstract Comparator<T> getComparator();
 
     /**
-     * Check the given possible suggestion is a match (is a valid suggestion)
+     * Get the string the user input is searched in. The given possible suggestion is a match (is a valid suggestion) if
+     * this string contains the user input, ignoring case.
      */
-    protected abstract boolean isMatch(T suggestion, ISuggestionRequest request);
+    protected abstract String getMatchString(T suggestion);
+
+    /**
+     * Get the key identifying the given possible suggestion. It has to stay the same when the suggestion is changed, thus
+     * mutable suggestions have to override this method.
+     */
+    protected Object getSuggestionKey(T suggestion) {
+        return suggestion;
+    }
 
     /**
      * This is a simple string based suggestion provider.
@@ -163,10 +166,8 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
 
         /**{@inheritDoc}*/
         @Override
-        protected boolean isMatch(T suggestion, ISuggestionRequest request) {
-            String userTextLower = request.getUserText().toLowerCase();
-            String suggestionStr = suggestion.toString().toLowerCase();
-            return suggestionStr.contains(userTextLower);
+        protected String getMatchString(T suggestion) {
+            return suggestion.toString();
         }
     }
 }
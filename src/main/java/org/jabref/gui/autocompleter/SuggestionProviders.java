@@ -56,6 +56,16 @@ public class SuggestionProviders {
         }
     }
 
+    /**
+     * This methods assures the information in the given field of the given entry is included as suggestions. Only the
+     * providers depending on the field index the entry again.
+     */
+    public void indexField(BibEntry bibEntry, Field field) {
+        for (AutoCompleteSuggestionProvider<?> autoCompleter : providers.values()) {
+            autoCompleter.indexField(bibEntry, field);
+        }
+    }
+
     private AutoCompleteSuggestionProvider<?> initalizeSuggestionProvider(Field field, AutoCompletePreferences preferences, JournalAbbreviationLoader abbreviationLoader) {
         Set<FieldProperty> fieldProperties = field.getProperties();
         if (fieldProperties.contains(FieldProperty.PERSON_NAMES)) {
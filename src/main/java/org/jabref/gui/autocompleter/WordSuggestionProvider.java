@@ -32,4 +32,11 @@ public class WordSuggestionProvider extends StringSuggestionProvider implements
             }
         });
     }
+
+    @Override
+    public void indexField(BibEntry entry, Field field) {
+        if (this.field.equals(field)) {
+            indexEntry(entry);
+        }
+    }
 }
@@ -35,6 +35,12 @@ public class ChangeScanner {
      * is still returned.
      */
     private static BibEntry bestFit(BibEntry targetEntry, List<BibEntry> entries) {
+        // An equal entry fits best, and checking for equality is much cheaper than scoring every entry
+        Optional<BibEntry> equalEntry = entries.stream().filter(targetEntry::equals).findFirst();
+        if (equalEntry.isPresent()) {
+            return equalEntry.get();
+        }
+
         return entries.stream()
                       .max(Comparator.comparingDouble(candidate -> DuplicateCheck.compareEntriesStrictly(targetEntry, candidate)))
                       .orElse(null);
@@ -1,7 +1,6 @@
 package org.jabref.gui.duplicationFinder;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +25,7 @@ import org.jabref.gui.undo.UndoableInsertEntry;
 import org.jabref.gui.undo.UndoableRemoveEntry;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
+import org.jabref.logic.bibtex.DuplicateCandidateGenerator;
 import org.jabref.logic.bibtex.DuplicateCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
@@ -75,21 +75,25 @@ public class DuplicateSearch extends SimpleCommand {
 
     }
 
+    /**
+     * Only the candidate pairs determined by the {@link DuplicateCandidateGenerator} are checked. The checks run in
+     * parallel, the found duplicates are reported in a stable order.
+     */
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; (i < (entries.size() - 1)); i++) {
-            for (int j = i + 1; (j < entries.size()); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(Globals.entryTypesManager).isDuplicate(first, second, databaseMode)) {
-                    duplicates.add(Arrays.asList(first, second));
-                    duplicateCount.getAndIncrement();
-                }
-            }
+        Thread searchThread = Thread.currentThread();
+        DuplicateCheck duplicateCheck = new DuplicateCheck(Globals.entryTypesManager);
+
+        new DuplicateCandidateGenerator().getCandidatePairs(entries)
+                                         .parallelStream()
+                                         .filter(pair -> !searchThread.isInterrupted())
+                                         .filter(pair -> duplicateCheck.isDuplicate(pair.get(0), pair.get(1), databaseMode))
+                                         .forEachOrdered(pair -> {
+                                             duplicates.add(pair);
+                                             duplicateCount.getAndIncrement();
+                                         });
+
+        if (searchThread.isInterrupted()) {
+            return;
         }
         libraryAnalyzed.set(true);
     }
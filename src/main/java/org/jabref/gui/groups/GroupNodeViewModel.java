@@ -1,9 +1,15 @@
 package org.jabref.gui.groups;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.beans.binding.Bindings;
@@ -34,6 +40,7 @@ import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AutomaticGroup;
 import org.jabref.model.groups.GroupEntryChanger;
 import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.base.Enums;
@@ -56,6 +63,15 @@ public class GroupNodeViewModel {
     private final TaskExecutor taskExecutor;
     private final CustomLocalDragboard localDragBoard;
     private final ObservableList<BibEntry> entriesList;
+    /**
+     * Entries of the database matched by this group, kept up to date on every change of the database
+     */
+    private final Set<BibEntry> matchedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * Updates of the matched entries in the order of the changes of the database. The background tasks might run in
+     * any order, thus each task applies all pending updates instead of only its own one.
+     */
+    private final Queue<MatchUpdate> pendingUpdates = new ArrayDeque<>();
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, GroupTreeNode groupNode, CustomLocalDragboard localDragBoard) {
         this.databaseContext = Objects.requireNonNull(databaseContext);
@@ -214,22 +230,71 @@ public class GroupNodeViewModel {
     }
 
     /**
-     * Gets invoked if an entry in the current database changes.
+     * Gets invoked if an entry in the current database changes. Only the added, removed and updated entries are
+     * checked against the group.
      */
     private void onDatabaseChanged(ListChangeListener.Change<? extends BibEntry> change) {
-        calculateNumberOfMatches();
+        List<BibEntry> removedEntries = new ArrayList<>();
+        List<BibEntry> changedEntries = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasRemoved()) {
+                removedEntries.addAll(change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                changedEntries.addAll(change.getAddedSubList());
+            }
+            if (change.wasUpdated()) {
+                changedEntries.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+            }
+        }
+        if (removedEntries.isEmpty() && changedEntries.isEmpty()) {
+            // Only the order of the entries changed
+            return;
+        }
+
+        scheduleUpdate(new MatchUpdate(false, removedEntries, changedEntries));
     }
 
     private void calculateNumberOfMatches() {
-        // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        scheduleUpdate(new MatchUpdate(true, Collections.emptyList(), new ArrayList<>(databaseContext.getDatabase().getEntries())));
+    }
+
+    private void scheduleUpdate(MatchUpdate update) {
+        synchronized (pendingUpdates) {
+            pendingUpdates.add(update);
+        }
         BackgroundTask
-                .wrap(() -> groupNode.calculateNumberOfMatches(databaseContext.getDatabase()))
-                .onSuccess(hits::setValue)
+                .wrap(this::applyPendingUpdates)
+                .onSuccess(ignored -> updateHits())
                 .executeWith(taskExecutor);
     }
 
+    /**
+     * Applies all pending updates in the order they were scheduled. The matcher of the group is only built once.
+     */
+    private void applyPendingUpdates() {
+        synchronized (matchedEntries) {
+            SearchMatcher matcher = groupNode.getSearchMatcher();
+            MatchUpdate update;
+            while ((update = pollPendingUpdate()) != null) {
+                update.applyTo(matchedEntries, matcher);
+            }
+        }
+    }
+
+    private MatchUpdate pollPendingUpdate() {
+        synchronized (pendingUpdates) {
+            return pendingUpdates.poll();
+        }
+    }
+
+    private void updateHits() {
+        // The updates might finish in any order, thus the current number of matches is used
+        synchronized (matchedEntries) {
+            hits.setValue(matchedEntries.size());
+        }
+    }
+
     public GroupTreeNode addSubgroup(AbstractGroup subgroup) {
         return groupNode.addSubgroup(subgroup);
     }
@@ -324,4 +389,36 @@ public class GroupNodeViewModel {
     private int getPositionInParent() {
         return groupNode.getPositionInParent();
     }
+
+    /**
+     * Removes the given removed entries from the matched entries and checks the given changed entries again. If all
+     * entries are checked, the previously matched entries are discarded first.
+     */
+    private static class MatchUpdate {
+
+        private final boolean allEntries;
+        private final List<BibEntry> removedEntries;
+        private final List<BibEntry> changedEntries;
+
+        MatchUpdate(boolean allEntries, List<BibEntry> removedEntries, List<BibEntry> changedEntries) {
+            this.allEntries = allEntries;
+            this.removedEntries = removedEntries;
+            this.changedEntries = changedEntries;
+        }
+
+        void applyTo(Set<BibEntry> matchedEntries, SearchMatcher matcher) {
+            if (allEntries) {
+                matchedEntries.clear();
+            }
+            // Not removeAll, since it might compare the entries by their content
+            removedEntries.forEach(matchedEntries::remove);
+            for (BibEntry entry : changedEntries) {
+                if (matcher.isMatch(entry)) {
+                    matchedEntries.add(entry);
+                } else {
+                    matchedEntries.remove(entry);
+                }
+            }
+        }
+    }
 }
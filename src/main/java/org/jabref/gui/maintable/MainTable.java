@@ -93,6 +93,7 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
                 .setOnDragDropped(this::handleOnDragDropped)
                 .setOnDragOver(this::handleOnDragOver)
                 .setOnMouseDragEntered(this::handleOnDragEntered)
+                .withOnItemShown(entry -> panel.getAnnotationCache().prewarm(entry.getEntry()))
                 .install(this);
 
         /*for (Entry<String, SortType> entries : preferences.getColumnPreferences().getSortTypesForColumns().entrySet()) {
@@ -344,6 +345,18 @@ public class MainTable extends TableView<BibEntryTableViewModel> {
                                   .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the entries shown after the last selected entry, at most the given number of entries
+     */
+    public List<BibEntry> getEntriesAfterSelection(int count) {
+        List<BibEntryTableViewModel> items = getItems();
+        int start = Math.min(getSelectionModel().getSelectedIndex() + 1, items.size());
+        return items.subList(start, Math.min(start + count, items.size()))
+                    .stream()
+                    .map(BibEntryTableViewModel::getEntry)
+                    .collect(Collectors.toList());
+    }
+
     private Optional<BibEntryTableViewModel> findEntry(BibEntry entry) {
         return model.getEntriesFilteredAndSorted()
                     .stream()
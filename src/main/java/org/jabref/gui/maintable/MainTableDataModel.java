@@ -1,7 +1,9 @@
 package org.jabref.gui.maintable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
@@ -13,24 +15,29 @@ import javafx.collections.transformation.SortedList;
 import org.jabref.Globals;
 import org.jabref.gui.groups.GroupViewMode;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.logic.search.SearchQuery;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipFilter;
 import org.jabref.model.groups.GroupTreeNode;
-import org.jabref.model.search.matchers.MatcherSet;
 import org.jabref.model.search.matchers.MatcherSets;
 
 public class MainTableDataModel {
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final SortedList<BibEntryTableViewModel> entriesSorted;
+    private final BibDatabase database;
+    private Optional<GroupMembershipFilter> groupFilter = Optional.empty();
 
     public MainTableDataModel(BibDatabaseContext context) {
+        database = context.getDatabase();
         ObservableList<BibEntry> allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
         
         ObservableList<BibEntryTableViewModel> entriesViewModel = BindingsHelper.mapBacked(allEntries, BibEntryTableViewModel::new);
         
         entriesFiltered = new FilteredList<>(entriesViewModel);
         entriesFiltered.predicateProperty().bind(
-                Bindings.createObjectBinding(() -> this::isMatched,
+                Bindings.createObjectBinding(this::createMatcher,
                         Globals.stateManager.activeGroupProperty(), Globals.stateManager.activeSearchQueryProperty())
 
         );
@@ -42,34 +49,59 @@ public class MainTableDataModel {
         entriesSorted = new SortedList<>(entriesFiltered);
     }
 
-    private boolean isMatched(BibEntryTableViewModel entry) {
-        return isMatchedByGroup(entry) && isMatchedBySearch(entry);
+    /**
+     * Creates the predicate for the currently active group and search query. The search index is consulted once per
+     * query, so that only the candidates determined by the index have to be checked against the query.
+     */
+    private Predicate<BibEntryTableViewModel> createMatcher() {
+        Optional<GroupMembershipFilter> groupMatcher = getGroupFilter(Globals.stateManager.activeGroupProperty().getValue());
+        Optional<SearchQuery> searchQuery = Globals.stateManager.activeSearchQueryProperty().getValue();
+        Optional<Predicate<BibEntry>> searchCandidates = searchQuery.flatMap(query -> query.getCandidateFilter(database));
+        return entry -> isMatchedByGroup(entry, groupMatcher) && isMatchedBySearch(entry, searchQuery, searchCandidates);
     }
 
-    private boolean isMatchedBySearch(BibEntryTableViewModel entry) {
-        return Globals.stateManager.activeSearchQueryProperty().getValue()
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
-                .orElse(true);
+    private boolean isMatchedBySearch(BibEntryTableViewModel entry, Optional<SearchQuery> searchQuery, Optional<Predicate<BibEntry>> searchCandidates) {
+        if (searchCandidates.isPresent() && !searchCandidates.get().test(entry.getEntry())) {
+            return false;
+        }
+        return searchQuery.map(matcher -> matcher.isMatch(entry.getEntry()))
+                          .orElse(true);
+    }
+
+    private boolean isMatchedByGroup(BibEntryTableViewModel entry, Optional<GroupMembershipFilter> groupMatcher) {
+        return groupMatcher.map(matcher -> matcher.test(entry.getEntry()))
+                           .orElse(true);
     }
 
-    private boolean isMatchedByGroup(BibEntryTableViewModel entry) {
-        return createGroupMatcher(Globals.stateManager.activeGroupProperty().getValue())
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
-                .orElse(true);
+    /**
+     * Returns the filter for the given groups. The members of the groups are only determined again if the selected
+     * groups, one of the involved groups or the group view mode changed (or too many entries changed), and not if only
+     * the search query changed.
+     */
+    private Optional<GroupMembershipFilter> getGroupFilter(List<GroupTreeNode> selectedGroups) {
+        MatcherSets.MatcherType matcherType = Globals.prefs.getGroupViewMode() == GroupViewMode.INTERSECTION ? MatcherSets.MatcherType.AND : MatcherSets.MatcherType.OR;
+        boolean noGroupSelected = (selectedGroups == null) || selectedGroups.isEmpty();
+        if (noGroupSelected && !groupFilter.isPresent()) {
+            return groupFilter;
+        }
+        if (!noGroupSelected && groupFilter.isPresent() && groupFilter.get().isUpToDate(selectedGroups, matcherType)) {
+            return groupFilter;
+        }
+
+        groupFilter.ifPresent(database::unregisterListener);
+        groupFilter = createGroupFilter(selectedGroups, matcherType);
+        // The filter has to know which entries changed after it determined the members of the groups
+        groupFilter.ifPresent(database::registerListener);
+        return groupFilter;
     }
 
-    private Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups) {
+    private Optional<GroupMembershipFilter> createGroupFilter(List<GroupTreeNode> selectedGroups, MatcherSets.MatcherType matcherType) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
             return Optional.empty();
         }
 
-        final MatcherSet searchRules = MatcherSets.build(Globals.prefs.getGroupViewMode() == GroupViewMode.INTERSECTION ? MatcherSets.MatcherType.AND : MatcherSets.MatcherType.OR);
-
-        for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
-        }
-        return Optional.of(searchRules);
+        return Optional.of(new GroupMembershipFilter(new ArrayList<>(database.getEntries()), selectedGroups, matcherType));
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
@@ -24,6 +24,7 @@ import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.icon.IconTheme;
 import org.jabref.gui.keyboard.KeyBinding;
 import org.jabref.gui.keyboard.KeyBindingRepository;
+import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.citationstyle.PreviewLayout;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
@@ -111,7 +112,10 @@ public class PreviewPanel extends VBox {
 
     private void updateLayout(PreviewPreferences previewPreferences, boolean init) {
         PreviewLayout currentPreviewStyle = previewPreferences.getCurrentPreviewStyle();
-        previewView.setLayout(currentPreviewStyle);
+        // The preview is generated by the cache of the library, which also generates previews of entries likely to be shown next
+        CitationStyleCache citationStyleCache = basePanel.getCitationStyleCache();
+        citationStyleCache.setCitationStyle(currentPreviewStyle);
+        previewView.setLayout(citationStyleCache);
         if (!init) {
             dialogService.notify(Localization.lang("Preview style changed to: %0", currentPreviewStyle.getName()));
         }
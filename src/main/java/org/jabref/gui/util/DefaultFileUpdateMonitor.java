@@ -7,31 +7,81 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.jabref.model.util.FileUpdateListener;
 import org.jabref.model.util.FileUpdateMonitor;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * This class monitors a set of files for changes. Upon detecting a change it notifies the registered {@link
  * FileUpdateListener}s.
+ * <p>
+ * Editors often write a file in several steps, which results in several modification events. Hence, the listeners are
+ * only notified once no further modification happened for a quiet period. Moreover, they are only notified if the
+ * content of the file differs from the content at the last notification (or at the registration of the first listener).
+ * The listeners are notified on a small pool of threads owned by the monitor.
  *
  * Implementation based on https://stackoverflow.com/questions/16251273/can-i-watch-for-single-file-change-with-watchservice-not-the-whole-directory
  */
 public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
 
+    public static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(300);
+
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultFileUpdateMonitor.class);
 
-    private final Multimap<Path, FileUpdateListener> listeners = ArrayListMultimap.create(20, 4);
-    private WatchService watcher;
+    private static final int NOTIFICATION_THREADS = 2;
+
+    private final Map<Path, Set<FileUpdateListener>> listeners = new ConcurrentHashMap<>();
+    // Hash of the content of each monitored file when its listeners were notified last
+    private final Map<Path, Optional<HashCode>> contentHashes = new ConcurrentHashMap<>();
+    // Pending notification of each file, which is postponed by further modifications of the file
+    private final Map<Path, ScheduledFuture<?>> pendingNotifications = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor notificationExecutor;
+    private final long quietPeriodMillis;
+    private volatile WatchService watcher;
+
+    public DefaultFileUpdateMonitor() {
+        this(DEFAULT_QUIET_PERIOD);
+    }
+
+    /**
+     * @param quietPeriod the time without further modifications of a file after which its listeners are notified
+     */
+    public DefaultFileUpdateMonitor(Duration quietPeriod) {
+        this.quietPeriodMillis = quietPeriod.toMillis();
+        // At most one notification per file is pending, so the queue is bounded by the number of monitored files
+        notificationExecutor = new ScheduledThreadPoolExecutor(NOTIFICATION_THREADS,
+                new ThreadFactoryBuilder().setNameFormat("FileUpdateMonitor notifier %d").setDaemon(true).build());
+        notificationExecutor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Uses the given watch service, so that files can be monitored without waiting for {@link #run()} to start
+     */
+    DefaultFileUpdateMonitor(Duration quietPeriod, WatchService watcher) {
+        this(quietPeriod);
+        this.watcher = watcher;
+    }
 
     @Override
     public void run() {
-        try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+        try (WatchService watcher = (this.watcher != null) ? this.watcher : FileSystems.getDefault().newWatchService()) {
             this.watcher = watcher;
             while (true) {
                 WatchKey key;
@@ -41,30 +91,96 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
                     return;
                 }
 
+                Path directory = (Path) key.watchable();
                 for (WatchEvent<?> event : key.pollEvents()) {
                     WatchEvent.Kind<?> kind = event.kind();
 
                     if (kind == StandardWatchEventKinds.OVERFLOW) {
-                        Thread.yield();
-                        continue;
+                        // Events were lost, so any file in the directory may have changed
+                        listeners.keySet().stream()
+                                 .filter(file -> directory.equals(file.getParent()))
+                                 .forEach(this::scheduleNotification);
                     } else if (kind == StandardWatchEventKinds.ENTRY_MODIFY) {
                         // We only handle "ENTRY_MODIFY" here, so the context is always a Path
                         @SuppressWarnings("unchecked")
                         WatchEvent<Path> ev = (WatchEvent<Path>) event;
-                        Path path = ((Path) key.watchable()).resolve(ev.context());
-                        notifyAboutChange(path);
+                        scheduleNotification(directory.resolve(ev.context()));
                     }
-                    key.reset();
                 }
-                Thread.yield();
+                key.reset();
             }
         } catch (Throwable e) {
             LOGGER.error("FileUpdateMonitor has been interrupted.", e);
+        } finally {
+            notificationExecutor.shutdownNow();
         }
     }
 
-    private void notifyAboutChange(Path path) {
-        listeners.get(path).forEach(FileUpdateListener::fileUpdated);
+    /**
+     * Returns whether the monitor is running, i.e., whether files can be monitored
+     */
+    public boolean isActive() {
+        return watcher != null;
+    }
+
+    /**
+     * Notifies the listeners of the given file after the quiet period, unless the file is modified again meanwhile.
+     */
+    void scheduleNotification(Path file) {
+        if (!listeners.containsKey(file) || notificationExecutor.isShutdown()) {
+            return;
+        }
+
+        pendingNotifications.compute(file, (path, pending) -> {
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            return notificationExecutor.schedule(() -> notifyAboutChange(path), quietPeriodMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    /**
+     * Notifies the listeners of all files with a pending notification right away, as if their quiet period passed
+     */
+    void notifyPendingChanges() {
+        for (Path file : pendingNotifications.keySet()) {
+            ScheduledFuture<?> pending = pendingNotifications.remove(file);
+            // A notification which already ran cannot be cancelled
+            if ((pending != null) && pending.cancel(false)) {
+                notifyAboutChange(file);
+            }
+        }
+    }
+
+    private void notifyAboutChange(Path file) {
+        Optional<HashCode> contentHash = hashContent(file);
+        Optional<HashCode> previousContentHash = contentHashes.put(file, contentHash);
+        if (contentHash.isPresent() && contentHash.equals(previousContentHash)) {
+            // The file was written, but its content did not change
+            return;
+        }
+
+        for (FileUpdateListener listener : listeners.getOrDefault(file, Collections.emptySet())) {
+            try {
+                listener.fileUpdated();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Listener failed to handle update of " + file, e);
+            }
+        }
+    }
+
+    private static Optional<HashCode> hashContent(Path file) {
+        try {
+            return Optional.of(MoreFiles.asByteSource(file).hash(Hashing.murmur3_128()));
+        } catch (IOException e) {
+            // The file may be deleted or locked, thus report the change
+            LOGGER.debug("Could not read " + file, e);
+            return Optional.empty();
+        }
+    }
+
+    private static Path normalize(Path file) {
+        return file.toAbsolutePath().normalize();
     }
 
     @Override
@@ -74,13 +190,29 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
         }
 
         // We can't watch files directly, so monitor their parent directory for updates
-        Path directory = file.toAbsolutePath().getParent();
-        directory.register(watcher, StandardWatchEventKinds.ENTRY_MODIFY);
-        listeners.put(file, listener);
+        Path monitoredFile = normalize(file);
+        monitoredFile.getParent().register(watcher, StandardWatchEventKinds.ENTRY_MODIFY);
+        listeners.computeIfAbsent(monitoredFile, path -> {
+            contentHashes.put(path, hashContent(path));
+            return new CopyOnWriteArraySet<>();
+        }).add(listener);
     }
 
     @Override
     public void removeListener(Path path, FileUpdateListener listener) {
-        listeners.remove(path, listener);
+        listeners.computeIfPresent(normalize(path), (file, fileListeners) -> {
+            fileListeners.remove(listener);
+            if (!fileListeners.isEmpty()) {
+                return fileListeners;
+            }
+
+            // No one is interested in the file anymore
+            contentHashes.remove(file);
+            ScheduledFuture<?> pending = pendingNotifications.remove(file);
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            return null;
+        });
     }
 }
@@ -1,6 +1,7 @@
 package org.jabref.gui.util;
 
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import javafx.geometry.Bounds;
@@ -37,6 +38,7 @@ public class ViewModelTableRowFactory<S> implements Callback<TableView<S>, Table
     private BiConsumer<S, ? super DragEvent> toOnDragOver;
     private TriConsumer<TableRow<S>, S, ? super MouseDragEvent> toOnMouseDragEntered;
     private Callback<S, String> toTooltip;
+    private Consumer<S> onItemShown;
 
     public ViewModelTableRowFactory<S> withOnMouseClickedEvent(BiConsumer<S, ? super MouseEvent> onMouseClickedEvent) {
         this.onMouseClickedEvent = onMouseClickedEvent;
@@ -93,6 +95,15 @@ public class ViewModelTableRowFactory<S> implements Callback<TableView<S>, Table
         return this;
     }
 
+    /**
+     * Called whenever a row starts to show an item. As rows are only created for the visible part of the table, this is
+     * called for the items scrolled into view.
+     */
+    public ViewModelTableRowFactory<S> withOnItemShown(Consumer<S> onItemShown) {
+        this.onItemShown = onItemShown;
+        return this;
+    }
+
     @Override
     public TableRow<S> call(TableView<S> tableView) {
         TableRow<S> row = new TableRow<>();
@@ -183,6 +194,14 @@ public class ViewModelTableRowFactory<S> implements Callback<TableView<S>, Table
                 }
             });
         }
+
+        if (onItemShown != null) {
+            row.itemProperty().addListener((observable, oldValue, newValue) -> {
+                if (newValue != null) {
+                    onItemShown.accept(newValue);
+                }
+            });
+        }
         return row;
     }
 
@@ -0,0 +1,159 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.EntryType;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Determines the pairs of entries which are worth to be checked by {@link DuplicateCheck#isDuplicate}.
+ * <p>
+ * Comparing all pairs of a library is quadratic and does not finish for large libraries. Thus, only the following
+ * pairs are generated:
+ * <ul>
+ * <li>Entries sharing the value of an identifier field (DOI, eprint, PMID, ISBN).</li>
+ * <li>Entries of the same type which are close to each other when sorted by their normalized title or by their
+ * normalized author (sorted neighbourhood blocking).</li>
+ * </ul>
+ * Entries of different types are never duplicates unless they share an identifier (see
+ * {@link DuplicateCheck#isDuplicate}), so they are not paired by the sorted neighbourhood.
+ */
+public class DuplicateCandidateGenerator {
+
+    public static final int DEFAULT_WINDOW_SIZE = 10;
+
+    private static final List<Field> BUCKET_FIELDS;
+
+    static {
+        List<Field> bucketFields = new ArrayList<>(FieldFactory.getIdentifierFieldNames());
+        bucketFields.add(StandardField.ISBN);
+        BUCKET_FIELDS = bucketFields;
+    }
+
+    private final int windowSize;
+
+    public DuplicateCandidateGenerator() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param windowSize the number of neighbours each entry is compared with in the sorted orders
+     */
+    public DuplicateCandidateGenerator(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("The window size must be positive");
+        }
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Returns the candidate pairs of the given entries. Each pair is reported only once. The pairs are ordered in the
+     * same way as by comparing each entry with all entries following it in the given list.
+     */
+    public List<List<BibEntry>> getCandidatePairs(List<BibEntry> entries) {
+        LongStream.Builder pairs = LongStream.builder();
+        addIdentifierPairs(entries, pairs);
+        addSortedNeighbourhoodPairs(entries, DuplicateCandidateGenerator::getNormalizedTitle, pairs);
+        addSortedNeighbourhoodPairs(entries, DuplicateCandidateGenerator::getNormalizedAuthor, pairs);
+
+        List<List<BibEntry>> result = new ArrayList<>();
+        pairs.build()
+             .sorted()
+             .distinct()
+             .forEachOrdered(pair -> result.add(Arrays.asList(entries.get(first(pair)), entries.get(second(pair)))));
+        return result;
+    }
+
+    private void addIdentifierPairs(List<BibEntry> entries, LongStream.Builder pairs) {
+        for (Field field : BUCKET_FIELDS) {
+            Map<String, List<Integer>> buckets = new HashMap<>();
+            for (int i = 0; i < entries.size(); i++) {
+                Optional<String> value = entries.get(i).getField(field);
+                if (value.isPresent()) {
+                    buckets.computeIfAbsent(value.get().trim().toLowerCase(Locale.ROOT), key -> new ArrayList<>()).add(i);
+                }
+            }
+            for (List<Integer> bucket : buckets.values()) {
+                for (int i = 0; i < (bucket.size() - 1); i++) {
+                    for (int j = i + 1; j < bucket.size(); j++) {
+                        pairs.add(pair(bucket.get(i), bucket.get(j)));
+                    }
+                }
+            }
+        }
+    }
+
+    private void addSortedNeighbourhoodPairs(List<BibEntry> entries, Function<BibEntry, String> blockingKey, LongStream.Builder pairs) {
+        Map<EntryType, List<Integer>> entriesByType = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            entriesByType.computeIfAbsent(entries.get(i).getType(), type -> new ArrayList<>()).add(i);
+        }
+
+        for (List<Integer> sameType : entriesByType.values()) {
+            String[] keys = new String[entries.size()];
+            for (int index : sameType) {
+                keys[index] = blockingKey.apply(entries.get(index));
+            }
+            sameType.sort(Comparator.<Integer, String>comparing(index -> keys[index]).thenComparing(Comparator.naturalOrder()));
+
+            for (int i = 0; i < sameType.size(); i++) {
+                for (int j = i + 1; (j < sameType.size()) && (j <= (i + windowSize)); j++) {
+                    pairs.add(pair(sameType.get(i), sameType.get(j)));
+                }
+            }
+        }
+    }
+
+    private static String getNormalizedTitle(BibEntry entry) {
+        return entry.getField(StandardField.TITLE).map(DuplicateCandidateGenerator::normalize).orElse("");
+    }
+
+    private static String getNormalizedAuthor(BibEntry entry) {
+        return entry.getField(StandardField.AUTHOR)
+                    .map(author -> AuthorList.fixAuthorLastNameOnlyCommas(author, false))
+                    .map(DuplicateCandidateGenerator::normalize)
+                    .orElse("");
+    }
+
+    /**
+     * Keeps only letters and digits in lower case, so that differences in case, punctuation and braces do not separate
+     * otherwise equal values in the sort order.
+     */
+    private static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static long pair(int first, int second) {
+        int lower = Math.min(first, second);
+        int upper = Math.max(first, second);
+        return ((long) lower << 32) | upper;
+    }
+
+    private static int first(long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    private static int second(long pair) {
+        return (int) pair;
+    }
+}
@@ -2,6 +2,7 @@ package org.jabref.logic.bibtex;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import org.jabref.model.entry.field.Field;
 
@@ -22,4 +23,20 @@ public class FieldContentParserPreferences {
         return nonWrappableFields;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if ((o == null) || (getClass() != o.getClass())) {
+            return false;
+        }
+        FieldContentParserPreferences that = (FieldContentParserPreferences) o;
+        return Objects.equals(nonWrappableFields, that.nonWrappableFields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nonWrappableFields);
+    }
 }
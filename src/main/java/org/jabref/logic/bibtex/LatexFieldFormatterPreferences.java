@@ -2,6 +2,7 @@ package org.jabref.logic.bibtex;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import org.jabref.model.entry.field.Field;
 
@@ -39,4 +40,23 @@ public class LatexFieldFormatterPreferences {
     public FieldContentParserPreferences getFieldContentParserPreferences() {
         return fieldContentParserPreferences;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if ((o == null) || (getClass() != o.getClass())) {
+            return false;
+        }
+        LatexFieldFormatterPreferences that = (LatexFieldFormatterPreferences) o;
+        return resolveStringsAllFields == that.resolveStringsAllFields &&
+                Objects.equals(doNotResolveStringsFor, that.doNotResolveStringsFor) &&
+                Objects.equals(fieldContentParserPreferences, that.fieldContentParserPreferences);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resolveStringsAllFields, doNotResolveStringsFor, fieldContentParserPreferences);
+    }
 }
@@ -1,11 +1,18 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.DuplicateCheck;
 import org.jabref.model.database.BibDatabaseContext;
@@ -41,6 +48,45 @@ public class BibDatabaseDiff {
     }
 
     private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries) {
+        // Usually, only few entries differ. Entries which were parsed from the same text are unchanged, so they are
+        // matched by their serialization first. Only the remaining entries need to be compared field by field.
+        Map<String, Deque<BibEntry>> newEntriesBySerialization = new HashMap<>(newEntries.size());
+        for (BibEntry newEntry : newEntries) {
+            getSerialization(newEntry).ifPresent(serialization ->
+                    newEntriesBySerialization.computeIfAbsent(serialization, key -> new ArrayDeque<>()).add(newEntry));
+        }
+
+        Set<BibEntry> matchedNewEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> remainingOriginalEntries = new ArrayList<>();
+        for (BibEntry originalEntry : originalEntries) {
+            Optional<BibEntry> match = getSerialization(originalEntry).map(newEntriesBySerialization::get)
+                                                                      .map(Deque::pollFirst);
+            if (match.isPresent()) {
+                matchedNewEntries.add(match.get());
+            } else {
+                remainingOriginalEntries.add(originalEntry);
+            }
+        }
+
+        // Keep the sort order of the new entries, which the comparison below relies on
+        List<BibEntry> remainingNewEntries = newEntries.stream()
+                                                       .filter(newEntry -> !matchedNewEntries.contains(newEntry))
+                                                       .collect(Collectors.toList());
+
+        return compareEntriesByContent(remainingOriginalEntries, remainingNewEntries);
+    }
+
+    /**
+     * Returns the text the entry was parsed from, unless the entry was changed since.
+     */
+    private static Optional<String> getSerialization(BibEntry entry) {
+        if (entry.hasChanged() || entry.getParsedSerialization().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.getParsedSerialization());
+    }
+
+    private static List<BibEntryDiff> compareEntriesByContent(List<BibEntry> originalEntries, List<BibEntry> newEntries) {
         List<BibEntryDiff> differences = new ArrayList<>();
 
         // Create pointers that are incremented as the entries of each base are used in
@@ -2,9 +2,17 @@ package org.jabref.logic.bibtexkeypattern;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.bibtexkeypattern.AbstractBibtexKeyPattern;
@@ -12,7 +20,6 @@ import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.EntryType;
 import org.jabref.model.strings.StringUtil;
 
 import org.slf4j.Logger;
@@ -29,6 +36,10 @@ public class BibtexKeyGenerator extends BracketedPattern {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexKeyGenerator.class);
     private static final String KEY_ILLEGAL_CHARACTERS = "{}(),\\\"-#~^:'`ʹ";
     private static final String KEY_UNWANTED_CHARACTERS = "{}(),\\\"-";
+    /**
+     * The compiled forms of the regular expressions removed from generated keys
+     */
+    private static final Map<String, Pattern> KEY_PATTERN_REGEXES = new ConcurrentHashMap<>();
     private final AbstractBibtexKeyPattern citeKeyPattern;
     private final BibDatabase database;
     private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
@@ -106,88 +117,98 @@ public class BibtexKeyGenerator extends BracketedPattern {
     }
 
     public String generateKey(BibEntry entry) {
-        String key;
+        String key = generateKeyWithoutAppendix(entry);
+
+        String oldKey = entry.getCiteKeyOptional().orElse(null);
+        return makeUnique(key, candidate -> {
+            int occurrences = database.getDuplicationChecker().getNumberOfKeyOccurrences(candidate);
+            if (Objects.equals(oldKey, candidate)) {
+                occurrences--; // No change, so we can accept one dupe.
+            }
+            return occurrences;
+        });
+    }
+
+    /**
+     * Expands the key pattern for the given entry and applies the configured regular expression, but does not care
+     * about other entries having the same key.
+     */
+    private String generateKeyWithoutAppendix(BibEntry entry) {
         StringBuilder stringBuilder = new StringBuilder();
         try {
-            // get the type of entry
-            EntryType entryType = entry.getType();
-            // Get the arrayList corresponding to the type
-            List<String> typeList = new ArrayList<>(citeKeyPattern.getValue(entryType));
-            if (!typeList.isEmpty()) {
-                typeList.remove(0);
-            }
-            boolean field = false;
-            for (String typeListEntry : typeList) {
-                if ("[".equals(typeListEntry)) {
-                    field = true;
-                } else if ("]".equals(typeListEntry)) {
-                    field = false;
-                } else if (field) {
-                    // check whether there is a modifier on the end such as
-                    // ":lower"
-                    List<String> parts = parseFieldMarker(typeListEntry);
-                    Character delimiter = bibtexKeyPatternPreferences.getKeywordDelimiter();
-                    String pattern = "[" + parts.get(0) + "]";
-                    String label = expandBrackets(pattern, delimiter, entry, database, bibtexKeyPatternPreferences.isEnforceLegalKey());
-                    // apply modifier if present
-                    if (parts.size() > 1) {
-                        label = applyModifiers(label, parts, 1);
-                    }
-
-                    // Remove all illegal characters from the label.
-                    label = cleanKey(label, bibtexKeyPatternPreferences.isEnforceLegalKey());
-
-                    stringBuilder.append(label);
-
-                } else {
-                    stringBuilder.append(typeListEntry);
-                }
-            }
+            CompiledKeyPattern pattern = CompiledKeyPattern.of(citeKeyPattern.getValue(entry.getType()));
+            pattern.expand(entry, bibtexKeyPatternPreferences.getKeywordDelimiter(), database, bibtexKeyPatternPreferences.isEnforceLegalKey(), stringBuilder);
         } catch (Exception e) {
             LOGGER.warn("Cannot make label", e);
         }
 
-        key = stringBuilder.toString();
+        String key = stringBuilder.toString();
 
         // Remove Regular Expressions while generating Keys
         String regex = bibtexKeyPatternPreferences.getKeyPatternRegex();
         if ((regex != null) && !regex.trim().isEmpty()) {
             String replacement = bibtexKeyPatternPreferences.getKeyPatternReplacement();
-            key = key.replaceAll(regex, replacement);
+            key = KEY_PATTERN_REGEXES.computeIfAbsent(regex, Pattern::compile).matcher(key).replaceAll(replacement);
         }
+        return key;
+    }
 
-        String oldKey = entry.getCiteKeyOptional().orElse(null);
-        int occurrences = database.getDuplicationChecker().getNumberOfKeyOccurrences(key);
+    /**
+     * Appends letters to the given key until it is not used anymore.
+     *
+     * @param occurrences returns how often a candidate key is used already
+     */
+    private String makeUnique(String key, ToIntFunction<String> occurrences) {
+        boolean alwaysAddLetter = bibtexKeyPatternPreferences.isAlwaysAddLetter();
+        boolean firstLetterA = bibtexKeyPatternPreferences.isFirstLetterA();
 
-        if (Objects.equals(oldKey, key)) {
-            occurrences--; // No change, so we can accept one dupe.
+        if (!alwaysAddLetter && (occurrences.applyAsInt(key) == 0)) {
+            return key;
         }
 
-        boolean alwaysAddLetter = bibtexKeyPatternPreferences.isAlwaysAddLetter();
-        boolean firstLetterA = bibtexKeyPatternPreferences.isFirstLetterA();
+        // The key is already in use, so we must modify it.
+        int number = !alwaysAddLetter && !firstLetterA ? 1 : 0;
+        String moddedKey;
+        do {
+            moddedKey = key + getAppendix(number);
+            number++;
+        } while (occurrences.applyAsInt(moddedKey) > 0);
+        return moddedKey;
+    }
 
-        String newKey;
-        if (!alwaysAddLetter && (occurrences == 0)) {
-            newKey = key;
-        } else {
-            // The key is already in use, so we must modify it.
-            int number = !alwaysAddLetter && !firstLetterA ? 1 : 0;
-            String moddedKey;
-
-            do {
-                moddedKey = key + getAppendix(number);
-                number++;
-
-                occurrences = database.getDuplicationChecker().getNumberOfKeyOccurrences(moddedKey);
-                // only happens if #getAddition() is buggy
-                if (Objects.equals(oldKey, moddedKey)) {
-                    occurrences--;
-                }
-            } while (occurrences > 0);
+    /**
+     * Generates BibTeX keys for the given entries and sets them.
+     * <p>
+     * The keys are generated in parallel. Afterwards, keys used more than once get their appendix in one pass over the
+     * entries in the given order, so the result does not depend on the scheduling. In contrast to calling {@link
+     * #generateAndSetKey(BibEntry)} for each entry, the current keys of the given entries are not considered to be in
+     * use, because they are replaced anyway.
+     *
+     * @return the changes to the keys (keys which did not change are left out)
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries) {
+        List<String> keys = entries.parallelStream()
+                                   .map(this::generateKeyWithoutAppendix)
+                                   .collect(Collectors.toList());
+
+        Set<BibEntry> regeneratedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        regeneratedEntries.addAll(entries);
+        Set<String> usedKeys = new HashSet<>();
+        for (BibEntry entry : database.getEntries()) {
+            if (!regeneratedEntries.contains(entry)) {
+                entry.getCiteKeyOptional().filter(key -> !key.isEmpty()).ifPresent(usedKeys::add);
+            }
+        }
 
-            newKey = moddedKey;
+        List<FieldChange> changes = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            String newKey = makeUnique(keys.get(i), candidate -> usedKeys.contains(candidate) ? 1 : 0);
+            if (!newKey.isEmpty()) {
+                usedKeys.add(newKey);
+            }
+            entries.get(i).setCiteKey(newKey).ifPresent(changes::add);
         }
-        return newKey;
+        return changes;
     }
 
     /**
@@ -0,0 +1,132 @@
+package org.jabref.logic.bibtexkeypattern;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * A key pattern of one entry type, parsed once into the literal texts and field markers (including their modifiers)
+ * it consists of. Expanding a compiled pattern does not tokenize the pattern again, which matters when keys for a
+ * whole library are generated.
+ * <p>
+ * Compiled patterns are immutable and can be used from several threads at once.
+ */
+final class CompiledKeyPattern {
+
+    /**
+     * Patterns are configured by the user, hence there are only a few different ones
+     */
+    private static final Map<List<String>, CompiledKeyPattern> COMPILED_PATTERNS = new ConcurrentHashMap<>();
+
+    private static final String BRACKETED_PATTERN_SPECIAL_CHARACTERS = "\\[]";
+
+    private final List<Element> elements;
+
+    private CompiledKeyPattern(List<Element> elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns the compiled form of the given pattern.
+     *
+     * @param pattern the pattern as returned by {@link org.jabref.model.bibtexkeypattern.AbstractBibtexKeyPattern#getValue},
+     *                i.e., the complete pattern followed by its tokens
+     */
+    static CompiledKeyPattern of(List<String> pattern) {
+        return COMPILED_PATTERNS.computeIfAbsent(new ArrayList<>(pattern), CompiledKeyPattern::compile);
+    }
+
+    private static CompiledKeyPattern compile(List<String> pattern) {
+        List<Element> elements = new ArrayList<>();
+        boolean field = false;
+        // The first item is the complete pattern
+        for (String token : pattern.subList(Math.min(1, pattern.size()), pattern.size())) {
+            if ("[".equals(token)) {
+                field = true;
+            } else if ("]".equals(token)) {
+                field = false;
+            } else if (field) {
+                elements.add(new FieldMarker(token));
+            } else {
+                elements.add(new Literal(token));
+            }
+        }
+        return new CompiledKeyPattern(Collections.unmodifiableList(elements));
+    }
+
+    /**
+     * Expands the pattern for the given entry. Field values are cleaned from characters not allowed in keys.
+     */
+    void expand(BibEntry entry, Character keywordDelimiter, BibDatabase database, boolean enforceLegalKey, StringBuilder key) {
+        for (Element element : elements) {
+            element.expand(entry, keywordDelimiter, database, enforceLegalKey, key);
+        }
+    }
+
+    private interface Element {
+        void expand(BibEntry entry, Character keywordDelimiter, BibDatabase database, boolean enforceLegalKey, StringBuilder key);
+    }
+
+    private static class Literal implements Element {
+
+        private final String text;
+
+        Literal(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void expand(BibEntry entry, Character keywordDelimiter, BibDatabase database, boolean enforceLegalKey, StringBuilder key) {
+            key.append(text);
+        }
+    }
+
+    /**
+     * A field marker such as <code>auth3:lower</code>
+     */
+    private static class FieldMarker implements Element {
+
+        private final List<String> parts;
+        /**
+         * The field name and the modifiers found when the name is parsed as a marker of its own, which is what
+         * {@link BracketedPattern#expandBrackets} does with it. Empty if the name has to be expanded as a bracketed
+         * pattern at each call.
+         */
+        private final List<String> nameParts;
+
+        FieldMarker(String marker) {
+            this.parts = Collections.unmodifiableList(BracketedPattern.parseFieldMarker(marker));
+            String name = parts.get(0);
+            if (name.isEmpty() || name.chars().anyMatch(c -> BRACKETED_PATTERN_SPECIAL_CHARACTERS.indexOf(c) >= 0)) {
+                this.nameParts = Collections.emptyList();
+            } else {
+                this.nameParts = Collections.unmodifiableList(BracketedPattern.parseFieldMarker(name));
+            }
+        }
+
+        @Override
+        public void expand(BibEntry entry, Character keywordDelimiter, BibDatabase database, boolean enforceLegalKey, StringBuilder key) {
+            String label;
+            if (nameParts.isEmpty()) {
+                label = BracketedPattern.expandBrackets("[" + parts.get(0) + "]", keywordDelimiter, entry, database, enforceLegalKey);
+            } else {
+                label = BracketedPattern.getFieldValue(entry, nameParts.get(0), keywordDelimiter, database, enforceLegalKey);
+                if (nameParts.size() > 1) {
+                    label = BracketedPattern.applyModifiers(label, nameParts, 1);
+                }
+            }
+
+            if (parts.size() > 1) {
+                label = BracketedPattern.applyModifiers(label, parts, 1);
+            }
+
+            // Remove all illegal characters from the label.
+            key.append(BibtexKeyGenerator.cleanKey(label, enforceLegalKey));
+        }
+    }
+}
@@ -3,8 +3,11 @@ package org.jabref.logic.citationstyle;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Optional;
 
 import org.jabref.logic.formatter.bibtexfields.RemoveNewlinesFormatter;
 import org.jabref.logic.layout.format.HTMLChars;
@@ -21,58 +24,77 @@ import de.undercouch.citeproc.output.Bibliography;
 import org.jbibtex.BibTeXEntry;
 import org.jbibtex.DigitStringValue;
 import org.jbibtex.Key;
+import org.jbibtex.TokenMgrException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Provides an adapter class to CSL. It holds a CSL instance under the hood that is only recreated when
- * the style changes.
+ * Provides an adapter class to CSL. It holds a CSL instance under the hood for one style and output format, which is
+ * created on the first use.
  *
- * @apiNote The first call to {@link #makeBibliography} is expensive since the
- * CSL instance will be created. As long as the style stays the same, we can reuse this instance. On style-change, the
- * engine is re-instantiated. Therefore, the use-case of this class is many calls to {@link #makeBibliography} with the
- * same style. Changing the output format is cheap.
- * @implNote The main function {@link #makeBibliography} will enforce
- * synchronized calling. The main CSL engine under the hood is not thread-safe. Since this class is usually called from
- * a BackgroundTakk, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
- * In the current scheme, {@link #makeBibliography} can be called as usual
- * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * @apiNote The first call to {@link #makeBibliography} is expensive since the CSL instance will be created. Therefore,
+ * the use-case of this class is many calls with the same style and output format. Adapters are obtained from a
+ * {@link CSLAdapterPool}, which keeps the adapters for each style and output format.
+ * @implNote The main CSL engine under the hood is not thread-safe, hence an adapter must not be used by several threads
+ * at once. {@link CSLAdapterPool} hands out an adapter to one thread at a time.
  */
 public class CSLAdapter {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CSLAdapter.class);
     private static final BibTeXConverter BIBTEX_CONVERTER = new BibTeXConverter();
     private final JabRefItemDataProvider dataProvider = new JabRefItemDataProvider();
-    private String style;
-    private CitationStyleOutputFormat format;
+    private final String style;
+    private final CitationStyleOutputFormat format;
     private CSL cslInstance;
 
+    public CSLAdapter(String style, CitationStyleOutputFormat format) {
+        this.style = style;
+        this.format = format;
+    }
+
     /**
-     * Creates the bibliography of the provided items. This method needs to run synchronized because the underlying
-     * CSL engine is not thread-safe.
+     * Creates the bibliography of the provided items in one call of the engine. The entries of the bibliography are
+     * ordered as the style demands.
      */
-    public synchronized List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) throws IOException, IllegalArgumentException {
+    public List<String> makeBibliography(List<BibEntry> bibEntries) throws IOException, IllegalArgumentException {
         dataProvider.setData(bibEntries);
-        initialize(style, outputFormat);
+        initialize();
         cslInstance.registerCitationItems(dataProvider.getIds());
         final Bibliography bibliography = cslInstance.makeBibliography();
         return Arrays.asList(bibliography.getEntries());
     }
 
     /**
-     * Initialized the static CSL instance if needed.
+     * Creates the citation of each of the provided items, in the order of the items. The engine is initialized only
+     * once for all items. An item whose citation cannot be created does not affect the others.
      *
-     * @param newStyle  journal style of the output
-     * @param newFormat usually HTML or RTF.
-     * @throws IOException An error occurred in the underlying JavaScript framework
+     * @return the citation of each item, empty if the citation of the item could not be created
      */
-    private void initialize(String newStyle, CitationStyleOutputFormat newFormat) throws IOException {
-        if ((cslInstance == null) || !Objects.equals(newStyle, style)) {
-            // lang and forceLang are set to the default values of other CSL constructors
-            cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(), newStyle, "en-US", false);
-            style = newStyle;
+    public List<Optional<String>> makeCitations(List<BibEntry> bibEntries) throws IOException {
+        List<Optional<String>> citations = new ArrayList<>(bibEntries.size());
+        for (BibEntry entry : bibEntries) {
+            try {
+                citations.add(Optional.of(makeBibliography(Collections.singletonList(entry)).stream().findFirst().orElse("")));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | TokenMgrException e) {
+                LOGGER.debug("Could not generate citation of {}", entry.getCiteKeyOptional().orElse(""), e);
+                citations.add(Optional.empty());
+                // The engine may be left in an inconsistent state
+                cslInstance = null;
+            }
         }
+        return citations;
+    }
 
-        if (!Objects.equals(newFormat, format)) {
-            cslInstance.setOutputFormat(newFormat.getFormat());
-            format = newFormat;
+    /**
+     * Initializes the CSL instance if needed.
+     *
+     * @throws IOException An error occurred in the underlying JavaScript framework
+     */
+    private void initialize() throws IOException {
+        if (cslInstance == null) {
+            // lang and forceLang are set to the default values of other CSL constructors
+            cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(), style, "en-US", false);
+            cslInstance.setOutputFormat(format.getFormat());
         }
     }
 
@@ -83,6 +105,8 @@ public class CSLAdapter {
     private static class JabRefItemDataProvider implements ItemDataProvider {
 
         private final ArrayList<BibEntry> data = new ArrayList<>();
+        // The first entry with each key, so that items are not searched in the list
+        private final Map<String, BibEntry> entriesByKey = new HashMap<>();
 
         /**
          * Converts the {@link BibEntry} into {@link CSLItemData}.
@@ -112,14 +136,16 @@ public class CSLAdapter {
         public void setData(List<BibEntry> data) {
             this.data.clear();
             this.data.addAll(data);
+            entriesByKey.clear();
+            for (BibEntry entry : data) {
+                entriesByKey.putIfAbsent(entry.getCiteKeyOptional().orElse(""), entry);
+            }
         }
 
         @Override
         public CSLItemData retrieveItem(String id) {
-            return data.stream()
-                    .filter(entry -> entry.getCiteKeyOptional().orElse("").equals(id))
-                    .map(JabRefItemDataProvider::bibEntryToCSLItemData)
-                    .findFirst().orElse(null);
+            BibEntry entry = entriesByKey.get(id);
+            return entry == null ? null : bibEntryToCSLItemData(entry);
         }
 
         @Override
@@ -0,0 +1,101 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Keeps {@link CSLAdapter}s for each combination of style and output format, so that the expensive CSL engines are
+ * reused and several styles can be rendered at the same time.
+ * <p>
+ * For each style and output format, at most {@link #ADAPTERS_PER_STYLE} adapters are created. A caller gets an adapter
+ * for its exclusive use and waits if all adapters of its style and output format are in use. Only the adapters of
+ * the recently used styles are kept.
+ */
+class CSLAdapterPool {
+
+    private static final int ADAPTERS_PER_STYLE = 2;
+    private static final int MAXIMUM_STYLES = 8;
+
+    private final LoadingCache<AdapterKey, Adapters> adapters = CacheBuilder.newBuilder()
+                                                                            .maximumSize(MAXIMUM_STYLES)
+                                                                            .build(new CacheLoader<AdapterKey, Adapters>() {
+                                                                                @Override
+                                                                                public Adapters load(AdapterKey key) {
+                                                                                    return new Adapters(key);
+                                                                                }
+                                                                            });
+
+    /**
+     * Runs the given function with an adapter for the given style and output format, which is not used by any other
+     * thread meanwhile.
+     */
+    public <T> T withAdapter(String style, CitationStyleOutputFormat outputFormat, AdapterFunction<T> function) throws IOException {
+        return adapters.getUnchecked(new AdapterKey(style, outputFormat)).apply(function);
+    }
+
+    @FunctionalInterface
+    public interface AdapterFunction<T> {
+        T apply(CSLAdapter adapter) throws IOException;
+    }
+
+    private static class Adapters {
+
+        private final AdapterKey key;
+        private final Semaphore permits = new Semaphore(ADAPTERS_PER_STYLE);
+        private final Queue<CSLAdapter> idleAdapters = new ConcurrentLinkedQueue<>();
+
+        Adapters(AdapterKey key) {
+            this.key = key;
+        }
+
+        <T> T apply(AdapterFunction<T> function) throws IOException {
+            permits.acquireUninterruptibly();
+            CSLAdapter adapter = idleAdapters.poll();
+            if (adapter == null) {
+                adapter = new CSLAdapter(key.style, key.outputFormat);
+            }
+            try {
+                return function.apply(adapter);
+            } finally {
+                idleAdapters.offer(adapter);
+                permits.release();
+            }
+        }
+    }
+
+    private static class AdapterKey {
+
+        private final String style;
+        private final CitationStyleOutputFormat outputFormat;
+
+        AdapterKey(String style, CitationStyleOutputFormat outputFormat) {
+            this.style = Objects.requireNonNull(style);
+            this.outputFormat = Objects.requireNonNull(outputFormat);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if ((other == null) || (getClass() != other.getClass())) {
+                return false;
+            }
+
+            AdapterKey that = (AdapterKey) other;
+            return style.equals(that.style) && (outputFormat == that.outputFormat);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(style, outputFormat);
+        }
+    }
+}
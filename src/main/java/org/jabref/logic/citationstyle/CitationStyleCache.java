@@ -1,75 +1,255 @@
 package org.jabref.logic.citationstyle;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
-import javax.annotation.ParametersAreNonnullByDefault;
-
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.eventbus.Subscribe;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Caches the generated Citations for quicker access
  * {@link CitationStyleGenerator} generates the citation with JavaScript which may take some time
+ * <p>
+ * The cache is itself a {@link PreviewLayout}, which returns the cached previews of the current citation style.
+ * Citations of entries which are likely to be shown next can be generated in the background by {@link #prerender(List)}.
+ * <p>
+ * A citation is outdated by a change of its entry, of the entry it crossreferences, or of the strings of the library.
+ * The strings do not post events when they change, thus they are compared with the ones used for the cached citations
+ * on each access. The background thread has to be stopped by {@link #shutdown()} when the library is closed.
  */
-public class CitationStyleCache {
+public class CitationStyleCache implements PreviewLayout {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleCache.class);
 
     private static final int CACHE_SIZE = 1024;
+    // Number of prerendering requests waiting, older requests are dropped if more are waiting
+    private static final int PRERENDER_QUEUE_SIZE = 4;
+
+    private volatile PreviewLayout citationStyle;
+    private final BibDatabase database;
+    private final Cache<BibEntry, String> citationStyleCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+    private final ExecutorService prerenderExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingDeque<>(PRERENDER_QUEUE_SIZE),
+            new ThreadFactoryBuilder().setNameFormat("CitationStyleCache prerenderer").setDaemon(true).build(),
+            new ThreadPoolExecutor.DiscardOldestPolicy());
+
+    // Incremented whenever cached citations become outdated, so that citations generated meanwhile are not cached
+    private final AtomicLong generation = new AtomicLong();
 
-    private PreviewLayout citationStyle;
-    private final LoadingCache<BibEntry, String> citationStyleCache;
+    // Names and contents of the strings the cached citations were generated with, guarded by generation
+    private Map<String, String> stringDefinitions = Collections.emptyMap();
 
     public CitationStyleCache(BibDatabaseContext database) {
-        citationStyleCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<BibEntry, String>() {
-            @Override
-            @ParametersAreNonnullByDefault
-            public String load(BibEntry entry) {
-                if (citationStyle != null) {
-                    return citationStyle.generatePreview(entry, database.getDatabase());
-                } else {
-                    return "";
-                }
-            }
-        });
+        this.database = database.getDatabase();
         database.getDatabase().registerListener(new BibDatabaseEntryListener());
     }
 
     /**
-     * Returns the citation for the given entry.
+     * Returns the citation for the given entry. If it cannot be generated, an error message is returned, which is not
+     * cached.
      */
     public String getCitationFor(BibEntry entry) {
-        return citationStyleCache.getUnchecked(entry);
+        invalidateIfStringsChanged();
+        String cachedCitation = citationStyleCache.getIfPresent(entry);
+        PreviewLayout currentStyle = citationStyle;
+        if (cachedCitation != null) {
+            return cachedCitation;
+        } else if (currentStyle == null) {
+            return "";
+        }
+
+        long currentGeneration = generation.get();
+        Optional<String> citation = currentStyle.generatePreviews(Collections.singletonList(entry), database).get(0);
+        if (!citation.isPresent()) {
+            // The style reports the cause as preview
+            return currentStyle.generatePreview(entry, database);
+        }
+        putIfCurrent(entry, citation.get(), currentGeneration);
+        return citation.get();
     }
 
     public void setCitationStyle(PreviewLayout citationStyle) {
         Objects.requireNonNull(citationStyle);
-        if (!this.citationStyle.equals(citationStyle)) {
+        if (!citationStyle.equals(this.citationStyle)) {
             this.citationStyle = citationStyle;
+            generation.incrementAndGet();
             this.citationStyleCache.invalidateAll();
         }
     }
 
+    /**
+     * Generates the citations of the given entries in the background, unless they are cached already. The citations
+     * are generated in one batch.
+     */
+    public void prerender(List<BibEntry> entries) {
+        invalidateIfStringsChanged();
+        List<BibEntry> missingEntries = entries.stream()
+                                               .filter(entry -> citationStyleCache.getIfPresent(entry) == null)
+                                               .collect(Collectors.toList());
+        PreviewLayout currentStyle = citationStyle;
+        if (missingEntries.isEmpty() || (currentStyle == null)) {
+            return;
+        }
+
+        long currentGeneration = generation.get();
+        prerenderExecutor.execute(() -> {
+            try {
+                List<Optional<String>> citations = currentStyle.generatePreviews(missingEntries, database);
+                for (int i = 0; (i < missingEntries.size()) && (i < citations.size()); i++) {
+                    // Citations which could not be generated are not cached, so that they are tried again when shown
+                    if (citations.get(i).isPresent() && !putIfCurrent(missingEntries.get(i), citations.get(i).get(), currentGeneration)) {
+                        return;
+                    }
+                }
+            } catch (RuntimeException e) {
+                LOGGER.debug("Could not prerender citations", e);
+            }
+        });
+    }
+
+    /**
+     * Stops generating citations in the background. Called when the library is closed.
+     */
+    public void shutdown() {
+        prerenderExecutor.shutdownNow();
+    }
+
+    /**
+     * Caches the given citation, unless the cached citations became outdated since the given generation
+     *
+     * @return whether the citation was cached
+     */
+    private boolean putIfCurrent(BibEntry entry, String citation, long citationGeneration) {
+        synchronized (generation) {
+            if (generation.get() != citationGeneration) {
+                return false;
+            }
+            citationStyleCache.put(entry, citation);
+            return true;
+        }
+    }
+
+    private void invalidate(BibEntry entry) {
+        synchronized (generation) {
+            generation.incrementAndGet();
+            citationStyleCache.invalidate(entry);
+        }
+    }
+
+    /**
+     * Removes the citations of all cached entries crossreferencing one of the given keys
+     */
+    private void invalidateCrossreferencing(Collection<String> citeKeys) {
+        if (citeKeys.isEmpty()) {
+            return;
+        }
+        synchronized (generation) {
+            generation.incrementAndGet();
+            for (BibEntry cachedEntry : citationStyleCache.asMap().keySet()) {
+                if (cachedEntry.getField(StandardField.CROSSREF).filter(citeKeys::contains).isPresent()) {
+                    citationStyleCache.invalidate(cachedEntry);
+                }
+            }
+        }
+    }
+
+    private void invalidateIfStringsChanged() {
+        Map<String, String> currentDefinitions = new HashMap<>();
+        for (BibtexString string : database.getStringValues()) {
+            currentDefinitions.put(string.getName(), string.getContent());
+        }
+        synchronized (generation) {
+            if (!currentDefinitions.equals(stringDefinitions)) {
+                stringDefinitions = currentDefinitions;
+                generation.incrementAndGet();
+                citationStyleCache.invalidateAll();
+            }
+        }
+    }
+
+    private static Set<String> getCiteKeys(Collection<BibEntry> entries) {
+        Set<String> citeKeys = new HashSet<>();
+        for (BibEntry entry : entries) {
+            entry.getCiteKeyOptional().ifPresent(citeKeys::add);
+        }
+        return citeKeys;
+    }
+
+    @Override
+    public String generatePreview(BibEntry entry, BibDatabase database) {
+        return getCitationFor(entry);
+    }
+
+    @Override
+    public String getName() {
+        PreviewLayout currentStyle = citationStyle;
+        return currentStyle == null ? "" : currentStyle.getName();
+    }
+
     private class BibDatabaseEntryListener {
         /**
-         * removes the outdated citation of the changed entry
+         * removes the outdated citation of the changed entry and of the entries crossreferencing it
          */
         @Subscribe
         public void listen(EntryChangedEvent entryChangedEvent) {
-            citationStyleCache.invalidate(entryChangedEvent.getBibEntry());
+            BibEntry entry = entryChangedEvent.getBibEntry();
+            invalidate(entry);
+
+            Set<String> citeKeys = getCiteKeys(Collections.singletonList(entry));
+            if (entryChangedEvent instanceof FieldChangedEvent) {
+                FieldChangedEvent fieldChangedEvent = (FieldChangedEvent) entryChangedEvent;
+                if ((fieldChangedEvent.getField() == InternalField.KEY_FIELD) && (fieldChangedEvent.getOldValue() != null)) {
+                    // entries crossreferencing the old key lost their parent
+                    citeKeys.add(fieldChangedEvent.getOldValue());
+                }
+            }
+            invalidateCrossreferencing(citeKeys);
+        }
+
+        /**
+         * removes the outdated citations of the entries crossreferencing one of the added entries
+         */
+        @Subscribe
+        public void listen(EntriesAddedEvent entriesAddedEvent) {
+            invalidateCrossreferencing(getCiteKeys(entriesAddedEvent.getBibEntries()));
         }
 
         /**
-         * removes the citation of the removed entry as it's not needed anymore
+         * removes the citation of the removed entry as it's not needed anymore, and the outdated citations of the
+         * entries crossreferencing it
          */
         @Subscribe
         public void listen(EntryRemovedEvent entryRemovedEvent) {
-            citationStyleCache.invalidate(entryRemovedEvent.getBibEntry());
+            invalidate(entryRemovedEvent.getBibEntry());
+            invalidateCrossreferencing(getCiteKeys(Collections.singletonList(entryRemovedEvent.getBibEntry())));
         }
     }
 }
@@ -3,6 +3,7 @@ package org.jabref.logic.citationstyle;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
@@ -18,7 +19,7 @@ import org.slf4j.LoggerFactory;
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    private static final CSLAdapterPool CSL_ADAPTERS = new CSLAdapterPool();
 
     private CitationStyleGenerator() {
     }
@@ -48,12 +49,36 @@ public class CitationStyleGenerator {
     }
 
     /**
-     * Generates the citation for multiple entries at once.
+     * Generates the citation for multiple entries at once. The citations are ordered as the style demands.
      * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
      */
     public static List<String> generateCitations(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) {
+        return generate(style, outputFormat, adapter -> adapter.makeBibliography(bibEntries));
+    }
+
+    /**
+     * Generates the citation of each of the given entries, in the order of the entries. The citation style engine is
+     * set up only once for all entries. Entries whose citation cannot be generated do not affect the others.
+     * @return the citation of each entry, empty if the citation of the entry could not be generated
+     * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
+     */
+    public static List<Optional<String>> generateCitationOfEachEntry(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) {
+        try {
+            return CSL_ADAPTERS.withAdapter(style, outputFormat, adapter -> adapter.makeCitations(bibEntries));
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.error("Could not generate BibEntry citations", e);
+            return Collections.nCopies(bibEntries.size(), Optional.empty());
+        }
+    }
+
+    /**
+     * Generates citations with an adapter of the given style and output format. If the citations cannot be generated,
+     * an error message is returned instead.
+     */
+    private static List<String> generate(String style, CitationStyleOutputFormat outputFormat,
+                                         CSLAdapterPool.AdapterFunction<List<String>> generator) {
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat);
+            return CSL_ADAPTERS.withAdapter(style, outputFormat, generator);
         } catch (IllegalArgumentException ignored) {
             LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.");
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
@@ -1,5 +1,8 @@
 package org.jabref.logic.citationstyle;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 
@@ -15,6 +18,11 @@ public class CitationStylePreviewLayout implements PreviewLayout {
         return CitationStyleGenerator.generateCitation(entry, citationStyle.getSource(), CitationStyleOutputFormat.HTML);
     }
 
+    @Override
+    public List<Optional<String>> generatePreviews(List<BibEntry> entries, BibDatabase database) {
+        return CitationStyleGenerator.generateCitationOfEachEntry(entries, citationStyle.getSource(), CitationStyleOutputFormat.HTML);
+    }
+
     @Override
     public String getName() {
         return citationStyle.getTitle();
@@ -1,5 +1,9 @@
 package org.jabref.logic.citationstyle;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 
@@ -7,5 +11,14 @@ public interface PreviewLayout {
 
     String generatePreview(BibEntry entry, BibDatabase database);
 
+    /**
+     * Generates the preview of each of the given entries, in the order of the entries
+     *
+     * @return the preview of each entry, empty if the preview of the entry could not be generated
+     */
+    default List<Optional<String>> generatePreviews(List<BibEntry> entries, BibDatabase database) {
+        return entries.stream().map(entry -> Optional.of(generatePreview(entry, database))).collect(Collectors.toList());
+    }
+
     String getName();
 }
@@ -188,9 +188,8 @@ public abstract class BibDatabaseWriter {
                 // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
                 entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
             }
-
-            writeEntry(entry, bibDatabaseContext.getMode());
         }
+        writeEntries(bibDatabaseContext, sortedEntries);
 
         if (preferences.getSaveType() != SavePreferences.DatabaseSaveType.PLAIN_BIBTEX) {
             // Write meta data.
@@ -208,6 +207,15 @@ public abstract class BibDatabaseWriter {
 
     protected abstract void writePrelogue(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException;
 
+    /**
+     * Writes the given entries in the given order. Subclasses may override this to prepare the entries in advance.
+     */
+    protected void writeEntries(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        for (BibEntry entry : entries) {
+            writeEntry(entry, bibDatabaseContext.getMode());
+        }
+    }
+
     protected abstract void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException;
 
     protected abstract void writeEpilogue(String epilogue) throws IOException;
@@ -1,9 +1,14 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
@@ -11,6 +16,7 @@ import org.jabref.logic.bibtex.LatexFieldFormatter;
 import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.SerializationCache;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -127,6 +133,52 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
                 OS.NEWLINE);
     }
 
+    /**
+     * Entries which did not change since the last save are taken from the serialization cache of the database. The
+     * remaining ones are serialized in parallel, before all entries are written in order.
+     */
+    @Override
+    protected void writeEntries(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        BibDatabaseMode mode = bibDatabaseContext.getMode();
+        SerializationCache cache = bibDatabaseContext.getDatabase().getSerializationCache();
+
+        List<String> serializations;
+        try {
+            serializations = entries.parallelStream()
+                                    .map(entry -> serializeEntry(entry, mode, cache))
+                                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        for (String serialization : serializations) {
+            writer.write(serialization);
+        }
+    }
+
+    private String serializeEntry(BibEntry entry, BibDatabaseMode mode, SerializationCache cache) {
+        if (!preferences.isReformatFile() && !entry.hasChanged()) {
+            return entry.getParsedSerialization();
+        }
+
+        // Everything the formatted entry depends on apart from the entry itself
+        List<Object> configuration = Arrays.asList(mode, preferences.getLatexFieldFormatterPreferences(),
+                entryTypesManager.enrich(entry.getType(), mode));
+        return cache.get(entry, configuration).orElseGet(() -> {
+            long generation = cache.getGeneration(entry);
+            StringWriter entryWriter = new StringWriter();
+            try {
+                new BibEntryWriter(new LatexFieldFormatter(preferences.getLatexFieldFormatterPreferences()), entryTypesManager)
+                        .write(entry, entryWriter, mode, true);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            String serialization = entryWriter.toString();
+            cache.put(entry, configuration, serialization, generation);
+            return serialization;
+        });
+    }
+
     @Override
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
         BibEntryWriter bibtexEntryWriter = new BibEntryWriter(
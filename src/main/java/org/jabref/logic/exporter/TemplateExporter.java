@@ -10,15 +10,23 @@ import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.logic.layout.LayoutState;
+import org.jabref.logic.layout.format.NameFormatterPreferences;
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseContext;
@@ -47,12 +55,18 @@ public class TemplateExporter extends Exporter {
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
 
+    /**
+     * The number of entries laid out by one task when exporting in parallel
+     */
+    private static final int ENTRIES_PER_CHUNK = 256;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
     private final String lfFileName;
     private final String directory;
     private final LayoutFormatterPreferences layoutPreferences;
     private final SavePreferences savePreferences;
+    private final Map<String, CompiledLayout> compiledLayouts = new ConcurrentHashMap<>();
     private Charset encoding; // If this value is set, it will be used to override the default encoding for the getCurrentBasePanel.
     private boolean customExport;
     private boolean deleteBlankLines;
@@ -196,6 +210,49 @@ public class TemplateExporter extends Exporter {
         return reader;
     }
 
+    /**
+     * Returns the compiled layout of the given layout file, or an empty optional if there is no such file. Layouts are
+     * compiled once and reused by later exports with the same name formatters. The layout files of custom exports are
+     * compiled again if they were modified since.
+     *
+     * @param formatterConfiguration the name formatters the layout is compiled with, see {@link #getFormatterConfiguration()}
+     */
+    private Optional<Layout> getLayout(String filename, List<Object> formatterConfiguration) {
+        long lastModified = customExport ? new File(filename).lastModified() : 0;
+        CompiledLayout compiledLayout = compiledLayouts.get(filename);
+        if ((compiledLayout == null) || (compiledLayout.lastModified != lastModified)
+                || !compiledLayout.formatterConfiguration.equals(formatterConfiguration)) {
+            Optional<Layout> layout;
+            try (Reader reader = getReader(filename)) {
+                layout = Optional.ofNullable(new LayoutHelper(reader, layoutPreferences).getLayoutFromText());
+            } catch (IOException ex) {
+                // The exception indicates that there is no such layout file
+                layout = Optional.empty();
+            }
+            compiledLayout = new CompiledLayout(layout, lastModified, formatterConfiguration);
+            compiledLayouts.put(filename, compiledLayout);
+        }
+        return compiledLayout.layout;
+    }
+
+    /**
+     * Returns the name formatters which are resolved when compiling a layout, i.e., the ones from the preferences and
+     * the ones bundled with this export format.
+     */
+    private List<Object> getFormatterConfiguration() {
+        if (layoutPreferences == null) {
+            return Collections.emptyList();
+        }
+
+        NameFormatterPreferences nameFormatterPreferences = layoutPreferences.getNameFormatterPreferences();
+        if (nameFormatterPreferences == null) {
+            return Collections.singletonList(layoutPreferences.getCustomExportNameFormatters());
+        }
+        return Arrays.asList(nameFormatterPreferences.getNameFormatterKey(),
+                nameFormatterPreferences.getNameFormatterValue(),
+                layoutPreferences.getCustomExportNameFormatters());
+    }
+
     @Override
     public void export(final BibDatabaseContext databaseContext, final Path file,
             final Charset encoding, List<BibEntry> entries) throws Exception {
@@ -206,26 +263,18 @@ public class TemplateExporter extends Exporter {
         }
 
         try (AtomicFileWriter ps = new AtomicFileWriter(file, encoding)) {
-            Layout beginLayout = null;
-
             // Check if this export filter has bundled name formatters:
             // Add these to the preferences, so all layouts have access to the custom name formatters:
             readFormatterFile();
+            List<Object> formatterConfiguration = getFormatterConfiguration();
 
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                beginLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was cast, export filter doesn't have a begin
-                // file.
-            }
-            // Write the header
-            if (beginLayout != null) {
-                ps.write(beginLayout.doLayout(databaseContext, encoding));
-                missingFormatters.addAll(beginLayout.getMissingFormatters());
+            Optional<Layout> beginLayout = getLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION, formatterConfiguration);
+            if (beginLayout.isPresent()) {
+                ps.write(beginLayout.get().doLayout(databaseContext, encoding));
+                missingFormatters.addAll(beginLayout.get().getMissingFormatters());
             }
 
             /*
@@ -238,73 +287,45 @@ public class TemplateExporter extends Exporter {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(databaseContext, entries, savePreferences);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn("Missing formatters found ", missingFormatters);
-                }
+            Layout defLayout = getLayout(lfFileName + LAYOUT_EXTENSION, formatterConfiguration)
+                    .orElseThrow(() -> new IOException("Cannot find layout file: '" + lfFileName + LAYOUT_EXTENSION + "'."));
+            missingFormatters.addAll(defLayout.getMissingFormatters());
+            if (!missingFormatters.isEmpty()) {
+                LOGGER.warn("Missing formatters found ", missingFormatters);
             }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
 
-            ExporterFactory.entryNumber = 0;
+            // Get the layout of each entry type, we try to get a type-specific layout and go with the default one otherwise
+            Map<EntryType, Layout> layouts = new HashMap<>();
+            boolean containsGroups = defLayout.containsGroups();
             for (BibEntry entry : sorted) {
-                ExporterFactory.entryNumber++; // Increment entry counter.
-                // Get the layout
                 EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
-                }
-
-                // Write the entry
-                if (layout != null) {
-                    if (deleteBlankLines) {
-                        String withoutBlankLines = BLANK_LINE_MATCHER.matcher(layout.doLayout(entry, databaseContext.getDatabase())).replaceAll("");
-                        ps.write(withoutBlankLines);
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
-                    }
+                if (!layouts.containsKey(type)) {
+                    Optional<Layout> typeLayout = getLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION, formatterConfiguration);
+                    typeLayout.ifPresent(layout -> missingFormatters.addAll(layout.getMissingFormatters()));
+                    Layout layout = typeLayout.orElse(defLayout);
+                    containsGroups |= layout.containsGroups();
+                    layouts.put(type, layout);
                 }
             }
 
-            // Print footer
-
-            // changed section - begin (arudert)
-            Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                endLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
+            // Write the entries. A group is only started if its value differs from the one of the previous entry, hence
+            // layouts with groups are laid out in one chunk.
+            int chunkSize = containsGroups ? Math.max(1, sorted.size()) : ENTRIES_PER_CHUNK;
+            int numberOfChunks = ((sorted.size() - 1) / chunkSize) + 1;
+            List<String> chunks = IntStream.range(0, numberOfChunks)
+                                           .parallel()
+                                           .mapToObj(chunk -> doLayout(sorted, chunk * chunkSize,
+                                                   Math.min(sorted.size(), (chunk + 1) * chunkSize), layouts, databaseContext))
+                                           .collect(Collectors.toList());
+            for (String chunk : chunks) {
+                ps.write(chunk);
             }
 
-            // Write footer
-            if (endLayout != null) {
-                ps.write(endLayout.doLayout(databaseContext, this.encoding));
-                missingFormatters.addAll(endLayout.getMissingFormatters());
+            // Print footer
+            Optional<Layout> endLayout = getLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION, formatterConfiguration);
+            if (endLayout.isPresent()) {
+                ps.write(endLayout.get().doLayout(databaseContext, this.encoding));
+                missingFormatters.addAll(endLayout.get().getMissingFormatters());
             }
 
             // Clear custom name formatters:
@@ -318,6 +339,24 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Lays out the entries from index start (inclusive) to index end (exclusive) of the given entries.
+     */
+    private String doLayout(List<BibEntry> entries, int start, int end, Map<EntryType, Layout> layouts,
+                            BibDatabaseContext databaseContext) {
+        StringBuilder builder = new StringBuilder();
+        LayoutState state = new LayoutState(start);
+        for (BibEntry entry : entries.subList(start, end)) {
+            state.nextEntry();
+            String text = layouts.get(entry.getType()).doLayout(entry, databaseContext.getDatabase(), state);
+            if (deleteBlankLines) {
+                text = BLANK_LINE_MATCHER.matcher(text).replaceAll("");
+            }
+            builder.append(text);
+        }
+        return builder.toString();
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format. If so, read
      * all the name formatters so they can be used by the filter layouts.
@@ -362,4 +401,17 @@ public class TemplateExporter extends Exporter {
     public String getLayoutFileNameWithExtension() {
         return lfFileName + LAYOUT_EXTENSION;
     }
+
+    private static class CompiledLayout {
+
+        private final Optional<Layout> layout;
+        private final long lastModified;
+        private final List<Object> formatterConfiguration;
+
+        CompiledLayout(Optional<Layout> layout, long lastModified, List<Object> formatterConfiguration) {
+            this.layout = layout;
+            this.lastModified = lastModified;
+            this.formatterConfiguration = formatterConfiguration;
+        }
+    }
 }
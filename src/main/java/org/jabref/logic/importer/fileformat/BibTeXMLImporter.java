@@ -13,18 +13,18 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLStreamException;
 
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.bibtexml.Entry;
-import org.jabref.logic.importer.fileformat.bibtexml.File;
 import org.jabref.logic.importer.fileformat.bibtexml.Inbook;
 import org.jabref.logic.importer.fileformat.bibtexml.Incollection;
+import org.jabref.logic.importer.util.XmlRecordReader;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.StandardEntryType;
@@ -83,15 +83,13 @@ public class BibTeXMLImporter extends Importer {
 
         List<BibEntry> bibItems = new ArrayList<>();
 
-        try {
-            JAXBContext context = JAXBContext.newInstance("org.jabref.logic.importer.fileformat.bibtexml");
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-            File file = (File) unmarshaller.unmarshal(reader);
-
-            List<Entry> entries = file.getEntry();
+        try (XmlRecordReader recordReader = new XmlRecordReader(reader)) {
+            Unmarshaller unmarshaller = XmlRecordReader.getContext("org.jabref.logic.importer.fileformat.bibtexml").createUnmarshaller();
             Map<Field, String> fields = new HashMap<>();
 
-            for (Entry entry : entries) {
+            // The entries are read one after the other, so the whole file is never held in memory
+            while (recordReader.nextRecord("entry")) {
+                Entry entry = recordReader.unmarshalRecord(unmarshaller, Entry.class);
                 BibEntry bibEntry = new BibEntry();
                 if (entry.getArticle() != null) {
                     bibEntry.setType(StandardEntryType.Article);
@@ -147,7 +145,7 @@ public class BibTeXMLImporter extends Importer {
                 bibEntry.setField(fields);
                 bibItems.add(bibEntry);
             }
-        } catch (JAXBException e) {
+        } catch (JAXBException | XMLStreamException e) {
             LOGGER.error("Error with XML parser configuration", e);
             return ParserResult.fromError(e);
         }
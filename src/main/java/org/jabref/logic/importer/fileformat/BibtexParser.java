@@ -4,14 +4,13 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.PushbackReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -19,6 +18,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jabref.logic.bibtex.FieldContentParser;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
@@ -60,15 +61,26 @@ import org.slf4j.LoggerFactory;
  * ParserResult result = BibtexParser.parse(reader);
  * <p>
  * Can be used stand-alone.
+ * <p>
+ * The input is scanned once, sequentially, to find the boundaries of entries, strings, the preamble and comments. The
+ * raw field values of the entries are collected in that pass. The field contents are formatted and the {@link BibEntry}
+ * objects are constructed afterwards, in parallel for large inputs. Entries are added to the database in file order.
  */
 public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
 
     private static final Integer LOOKAHEAD = 64;
+
+    /**
+     * Minimal number of entries for constructing the entries in parallel. Below, the overhead is not worth it.
+     */
+    private static final int PARALLEL_MATERIALIZATION_THRESHOLD = 500;
+
     private final FieldContentParser fieldContentParser;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    private final StringBuilder pureTextFromFile = new StringBuilder();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    private final List<ParsedEntry> parsedEntries = new ArrayList<>();
+    private PushbackCharReader pushbackReader;
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
@@ -131,7 +143,7 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        pushbackReader = new PushbackCharReader(in, BibtexParser.LOOKAHEAD);
 
         // Bibtex related contents.
         initializeParserResult();
@@ -148,6 +160,7 @@ public class BibtexParser implements Parser {
     }
 
     private void initializeParserResult() {
+        parsedEntries.clear();
         database = new BibDatabase();
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
@@ -206,6 +219,8 @@ public class BibtexParser implements Parser {
             skipWhitespace();
         }
 
+        addParsedEntries();
+
         // Instantiate meta data:
         try {
             parserResult.setMetaData(metaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
@@ -244,17 +259,13 @@ public class BibtexParser implements Parser {
             // this is at least `@Type`
             String commentsAndEntryTypeDefinition = dumpTextReadSoFarToString();
 
-            BibEntry entry = parseEntry(type);
+            ParsedEntry entry = parseEntry(type);
             // store comments collected without type definition
-            entry.setCommentsBeforeEntry(
-                    commentsAndEntryTypeDefinition.substring(0, commentsAndEntryTypeDefinition.lastIndexOf('@')));
+            entry.commentsBeforeEntry = commentsAndEntryTypeDefinition.substring(0, commentsAndEntryTypeDefinition.lastIndexOf('@'));
             // store complete parsed serialization (comments, type definition + type contents)
-            entry.setParsedSerialization(commentsAndEntryTypeDefinition + dumpTextReadSoFarToString());
+            entry.parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
 
-            boolean duplicateKey = database.insertEntry(entry);
-            if (duplicateKey) {
-                parserResult.addDuplicateKey(entry.getCiteKey());
-            }
+            parsedEntries.add(entry);
         } catch (IOException ex) {
             LOGGER.debug("Could not parse entry", ex);
             parserResult.addWarning(Localization.lang("Error occurred when parsing entry") + ": '" + ex.getMessage()
@@ -263,6 +274,36 @@ public class BibtexParser implements Parser {
         }
     }
 
+    /**
+     * Constructs the entries collected while scanning the input and adds them to the database in the order of the file.
+     */
+    private void addParsedEntries() {
+        Stream<ParsedEntry> entryStream = parsedEntries.size() >= PARALLEL_MATERIALIZATION_THRESHOLD
+                ? parsedEntries.parallelStream()
+                : parsedEntries.stream();
+        List<BibEntry> entries = entryStream.map(this::createEntry).collect(Collectors.toList());
+        parsedEntries.clear();
+
+        for (BibEntry entry : entries) {
+            boolean duplicateKey = database.insertEntry(entry);
+            if (duplicateKey) {
+                parserResult.addDuplicateKey(entry.getCiteKey());
+            }
+        }
+    }
+
+    private BibEntry createEntry(ParsedEntry parsedEntry) {
+        BibEntry entry = new BibEntry(EntryTypeFactory.parse(parsedEntry.type));
+        entry.setCiteKey(parsedEntry.key);
+        for (int i = 0; i < parsedEntry.fields.size(); i++) {
+            Field field = parsedEntry.fields.get(i);
+            addField(entry, field, parsedEntry.values.get(i).format(fieldContentParser, field));
+        }
+        entry.setCommentsBeforeEntry(parsedEntry.commentsBeforeEntry);
+        entry.setParsedSerialization(parsedEntry.parsedSerialization);
+        return entry;
+    }
+
     private void parseJabRefComment(Map<String, String> meta) {
         StringBuilder buffer = null;
         try {
@@ -363,12 +404,9 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        String text = pureTextFromFile.toString();
+        pureTextFromFile.setLength(0);
+        return text;
     }
 
     /**
@@ -474,7 +512,7 @@ public class BibtexParser implements Parser {
         int character = pushbackReader.read();
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            pureTextFromFile.append((char) character);
         }
         if (character == '\n') {
             line++;
@@ -487,8 +525,9 @@ public class BibtexParser implements Parser {
             line--;
         }
         pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        int lastIndex = pureTextFromFile.length() - 1;
+        if ((lastIndex >= 0) && (pureTextFromFile.charAt(lastIndex) == character)) {
+            pureTextFromFile.setLength(lastIndex);
         }
     }
 
@@ -502,7 +541,8 @@ public class BibtexParser implements Parser {
         skipWhitespace();
         LOGGER.debug("Now the contents");
         consume('=');
-        String content = parseFieldContent(FieldFactory.parseField(name));
+        Field field = FieldFactory.parseField(name);
+        String content = parseFieldContent().format(fieldContentParser, field);
         LOGGER.debug("Now I'm going to consume a }");
         consume('}', ')');
         // Consume new line which signals end of entry
@@ -518,8 +558,8 @@ public class BibtexParser implements Parser {
 
     }
 
-    private BibEntry parseEntry(String entryType) throws IOException {
-        BibEntry result = new BibEntry(EntryTypeFactory.parse(entryType));
+    private ParsedEntry parseEntry(String entryType) throws IOException {
+        ParsedEntry result = new ParsedEntry(entryType);
 
         skipWhitespace();
         consume('{', '(');
@@ -527,8 +567,7 @@ public class BibtexParser implements Parser {
         if ((character != '\n') && (character != '\r')) {
             skipWhitespace();
         }
-        String key = parseKey();
-        result.setCiteKey(key);
+        result.key = parseKey();
         skipWhitespace();
 
         while (true) {
@@ -558,12 +597,16 @@ public class BibtexParser implements Parser {
         return result;
     }
 
-    private void parseField(BibEntry entry) throws IOException {
+    private void parseField(ParsedEntry entry) throws IOException {
         Field field = FieldFactory.parseField(parseTextToken().toLowerCase(Locale.ROOT));
 
         skipWhitespace();
         consume('=');
-        String content = parseFieldContent(field);
+        entry.fields.add(field);
+        entry.values.add(parseFieldContent());
+    }
+
+    private void addField(BibEntry entry, Field field, String content) {
         if (!content.isEmpty()) {
             if (entry.hasField(field)) {
                 // The following hack enables the parser to deal with multiple
@@ -587,9 +630,12 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private String parseFieldContent(Field field) throws IOException {
+    /**
+     * Reads the content of a field. The quoted and bracketed parts are not formatted yet, see {@link RawFieldContent}.
+     */
+    private RawFieldContent parseFieldContent() throws IOException {
         skipWhitespace();
-        StringBuilder value = new StringBuilder();
+        RawFieldContent value = new RawFieldContent();
         int character;
 
         while (((character = peek()) != ',') && (character != '}') && (character != ')')) {
@@ -599,13 +645,13 @@ public class BibtexParser implements Parser {
             }
             if (character == '"') {
                 StringBuilder text = parseQuotedFieldExactly();
-                value.append(fieldContentParser.format(text, field));
+                value.appendUnformatted(text.toString());
             } else if (character == '{') {
                 // Value is a string enclosed in brackets. There can be pairs
                 // of brackets inside of a field, so we need to count the
                 // brackets to know when the string is finished.
                 StringBuilder text = parseBracketedTextExactly();
-                value.append(fieldContentParser.format(text, field));
+                value.appendUnformatted(text.toString());
 
             } else if (Character.isDigit((char) character)) { // value is a number
                 String number = parseTextToken();
@@ -618,11 +664,11 @@ public class BibtexParser implements Parser {
                     throw new IOException("Error in line " + line + " or above: "
                             + "Empty text token.\nThis could be caused " + "by a missing comma between two fields.");
                 }
-                value.append('#').append(textToken).append('#');
+                value.append('#' + textToken + '#');
             }
             skipWhitespace();
         }
-        return value.toString();
+        return value;
 
     }
 
@@ -952,4 +998,93 @@ public class BibtexParser implements Parser {
                     + " but received " + (char) character);
         }
     }
+
+    /**
+     * An entry as found while scanning the input. The field contents are not formatted yet.
+     */
+    private static class ParsedEntry {
+        private final String type;
+        private final List<Field> fields = new ArrayList<>();
+        private final List<RawFieldContent> values = new ArrayList<>();
+        private String key;
+        private String commentsBeforeEntry;
+        private String parsedSerialization;
+
+        ParsedEntry(String type) {
+            this.type = type;
+        }
+    }
+
+    /**
+     * The parts of a field content in the order of the file. Quoted and bracketed parts are formatted by the
+     * {@link FieldContentParser} when the entry is constructed, all other parts are taken verbatim.
+     */
+    private static class RawFieldContent {
+        private final List<String> parts = new ArrayList<>();
+        private final BitSet unformattedParts = new BitSet();
+
+        void append(String part) {
+            parts.add(part);
+        }
+
+        void appendUnformatted(String part) {
+            unformattedParts.set(parts.size());
+            parts.add(part);
+        }
+
+        String format(FieldContentParser fieldContentParser, Field field) {
+            if ((parts.size() == 1) && !unformattedParts.get(0)) {
+                return parts.get(0);
+            }
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < parts.size(); i++) {
+                content.append(unformattedParts.get(i) ? fieldContentParser.format(parts.get(i), field) : parts.get(i));
+            }
+            return content.toString();
+        }
+    }
+
+    /**
+     * Replacement of {@link java.io.PushbackReader} reading the input in blocks. In contrast to the JDK class, single
+     * characters are read and unread without synchronization.
+     */
+    private static class PushbackCharReader {
+        private static final int BUFFER_SIZE = 8192;
+
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private final char[] pushbackBuffer;
+        private int position;
+        private int limit;
+        private int pushedBack;
+
+        PushbackCharReader(Reader reader, int pushbackSize) {
+            this.reader = reader;
+            this.pushbackBuffer = new char[pushbackSize];
+        }
+
+        int read() throws IOException {
+            if (pushedBack > 0) {
+                pushedBack--;
+                return pushbackBuffer[pushedBack];
+            }
+            if (position == limit) {
+                int read = reader.read(buffer, 0, buffer.length);
+                if (read <= 0) {
+                    return -1;
+                }
+                position = 0;
+                limit = read;
+            }
+            return buffer[position++];
+        }
+
+        void unread(int character) throws IOException {
+            if (pushedBack == pushbackBuffer.length) {
+                throw new IOException("Pushback buffer overflow");
+            }
+            pushbackBuffer[pushedBack] = (char) character;
+            pushedBack++;
+        }
+    }
 }
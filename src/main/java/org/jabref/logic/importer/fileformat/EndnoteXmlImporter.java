@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -12,12 +13,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamReader;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.Importer;
@@ -45,8 +43,8 @@ import org.jabref.logic.importer.fileformat.endnote.Titles;
 import org.jabref.logic.importer.fileformat.endnote.Url;
 import org.jabref.logic.importer.fileformat.endnote.Urls;
 import org.jabref.logic.importer.fileformat.endnote.Volume;
-import org.jabref.logic.importer.fileformat.endnote.Xml;
 import org.jabref.logic.importer.fileformat.endnote.Year;
+import org.jabref.logic.importer.util.XmlRecordReader;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.EntryType;
@@ -68,7 +66,6 @@ public class EndnoteXmlImporter extends Importer implements Parser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EndnoteXmlImporter.class);
     private final ImportFormatPreferences preferences;
-    private Unmarshaller unmarshaller;
 
     public EndnoteXmlImporter(ImportFormatPreferences preferences) {
         this.preferences = preferences;
@@ -112,50 +109,24 @@ public class EndnoteXmlImporter extends Importer implements Parser {
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
         Objects.requireNonNull(reader);
 
-        try {
-            Object unmarshalledObject = unmarshallRoot(reader);
-
-            if (unmarshalledObject instanceof Xml) {
-                // Check whether we have an article set, an article, a book article or a book article set
-                Xml root = (Xml) unmarshalledObject;
-                List<BibEntry> bibEntries = root.getRecords()
-                        .getRecord()
-                        .stream()
-                        .map(this::parseRecord)
-                        .collect(Collectors.toList());
-
-                return new ParserResult(bibEntries);
-            } else {
+        try (XmlRecordReader recordReader = new XmlRecordReader(reader)) {
+            if (!recordReader.getRootElementName().filter("xml"::equals).isPresent()) {
                 return ParserResult.fromErrorMessage("File does not start with xml tag.");
             }
+
+            // The records are read one after the other, so the whole file is never held in memory
+            Unmarshaller unmarshaller = XmlRecordReader.getContext("org.jabref.logic.importer.fileformat.endnote").createUnmarshaller();
+            List<BibEntry> bibEntries = new ArrayList<>();
+            while (recordReader.nextRecord("record")) {
+                bibEntries.add(parseRecord(recordReader.unmarshalRecord(unmarshaller, Record.class)));
+            }
+            return new ParserResult(bibEntries);
         } catch (JAXBException | XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
         }
     }
 
-    private Object unmarshallRoot(BufferedReader reader) throws XMLStreamException, JAXBException {
-        initUnmarshaller();
-
-        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
-        XMLStreamReader xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
-
-        // Go to the root element
-        while (!xmlStreamReader.isStartElement()) {
-            xmlStreamReader.next();
-        }
-
-        return unmarshaller.unmarshal(xmlStreamReader);
-    }
-
-    private void initUnmarshaller() throws JAXBException {
-        if (unmarshaller == null) {
-            // Lazy init because this is expensive
-            JAXBContext context = JAXBContext.newInstance("org.jabref.logic.importer.fileformat.endnote");
-            unmarshaller = context.createUnmarshaller();
-        }
-    }
-
     private static EntryType convertRefNameToType(String refName) {
         switch (refName.toLowerCase().trim()) {
             case "artwork":
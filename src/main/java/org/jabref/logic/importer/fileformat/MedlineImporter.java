@@ -72,6 +72,7 @@ import org.jabref.logic.importer.fileformat.medline.QualifierName;
 import org.jabref.logic.importer.fileformat.medline.Section;
 import org.jabref.logic.importer.fileformat.medline.Sections;
 import org.jabref.logic.importer.fileformat.medline.Text;
+import org.jabref.logic.importer.util.XmlRecordReader;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.StandardEntryType;
@@ -198,7 +199,7 @@ public class MedlineImporter extends Importer implements Parser {
     private void initUmarshaller() throws JAXBException {
         if (unmarshaller == null) {
             // Lazy init because this is expensive
-            JAXBContext context = JAXBContext.newInstance("org.jabref.logic.importer.fileformat.medline");
+            JAXBContext context = XmlRecordReader.getContext("org.jabref.logic.importer.fileformat.medline");
             unmarshaller = context.createUnmarshaller();
         }
     }
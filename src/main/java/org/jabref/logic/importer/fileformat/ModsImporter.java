@@ -15,10 +15,10 @@ import java.util.Optional;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.Importer;
@@ -36,7 +36,6 @@ import org.jabref.logic.importer.fileformat.mods.IssuanceDefinition;
 import org.jabref.logic.importer.fileformat.mods.LanguageDefinition;
 import org.jabref.logic.importer.fileformat.mods.LanguageTermDefinition;
 import org.jabref.logic.importer.fileformat.mods.LocationDefinition;
-import org.jabref.logic.importer.fileformat.mods.ModsCollectionDefinition;
 import org.jabref.logic.importer.fileformat.mods.ModsDefinition;
 import org.jabref.logic.importer.fileformat.mods.NameDefinition;
 import org.jabref.logic.importer.fileformat.mods.NamePartDefinition;
@@ -54,6 +53,7 @@ import org.jabref.logic.importer.fileformat.mods.StringPlusLanguagePlusSupplied;
 import org.jabref.logic.importer.fileformat.mods.SubjectDefinition;
 import org.jabref.logic.importer.fileformat.mods.TitleInfoDefinition;
 import org.jabref.logic.importer.fileformat.mods.UrlDefinition;
+import org.jabref.logic.importer.util.XmlRecordReader;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.EntryTypeFactory;
@@ -78,8 +78,6 @@ public class ModsImporter extends Importer implements Parser {
 
     private final String keywordSeparator;
 
-    private JAXBContext context;
-
     public ModsImporter(ImportFormatPreferences importFormatPreferences) {
         keywordSeparator = importFormatPreferences.getKeywordSeparator() + " ";
     }
@@ -95,41 +93,24 @@ public class ModsImporter extends Importer implements Parser {
 
         List<BibEntry> bibItems = new ArrayList<>();
 
-        try {
-            if (context == null) {
-                context = JAXBContext.newInstance("org.jabref.logic.importer.fileformat.mods");
-            }
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-
-            //The unmarshalled object is a jaxbElement.
-            JAXBElement<?> unmarshalledObject = (JAXBElement<?>) unmarshaller.unmarshal(input);
-
-            Optional<ModsCollectionDefinition> collection = getElement(unmarshalledObject.getValue(),
-                    ModsCollectionDefinition.class);
-            Optional<ModsDefinition> mods = getElement(unmarshalledObject.getValue(), ModsDefinition.class);
-
-            if (collection.isPresent()) {
-                List<ModsDefinition> modsDefinitions = collection.get().getMods();
-                parseModsCollection(bibItems, modsDefinitions);
-            } else if (mods.isPresent()) {
-                ModsDefinition modsDefinition = mods.get();
-                parseMods(bibItems, modsDefinition);
+        try (XmlRecordReader recordReader = new XmlRecordReader(input)) {
+            Optional<String> rootElement = recordReader.getRootElementName();
+            if (rootElement.filter(name -> "modsCollection".equals(name) || "mods".equals(name)).isPresent()) {
+                // The mods elements are read one after the other, so the whole collection is never held in memory
+                Unmarshaller unmarshaller = XmlRecordReader.getContext("org.jabref.logic.importer.fileformat.mods").createUnmarshaller();
+                while (recordReader.nextRecord("mods")) {
+                    parseMods(bibItems, recordReader.unmarshalRecord(unmarshaller, ModsDefinition.class));
+                }
             } else {
                 LOGGER.warn("Not expected root element found");
             }
-        } catch (JAXBException e) {
+        } catch (JAXBException | XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
         }
         return new ParserResult(bibItems);
     }
 
-    private void parseModsCollection(List<BibEntry> bibItems, List<ModsDefinition> mods) {
-        for (ModsDefinition modsDefinition : mods) {
-            parseMods(bibItems, modsDefinition);
-        }
-    }
-
     private void parseMods(List<BibEntry> bibItems, ModsDefinition modsDefinition) {
         BibEntry entry = new BibEntry();
         Map<Field, String> fields = new HashMap<>();
@@ -0,0 +1,108 @@
+package org.jabref.logic.importer.util;
+
+import java.io.Reader;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the records of a large XML document one after the other. The document is streamed with StAX, so only the
+ * record which is read at the moment is held in memory.
+ * <p>
+ * Usage:
+ * <pre>
+ * XmlRecordReader recordReader = new XmlRecordReader(reader);
+ * while (recordReader.nextRecord("record")) {
+ *     Record record = recordReader.unmarshalRecord(unmarshaller, Record.class);
+ * }
+ * </pre>
+ */
+public class XmlRecordReader implements AutoCloseable {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    /**
+     * Creating a JAXB context is expensive, hence there is one per context path. Contexts are thread safe.
+     */
+    private static final Map<String, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    private final XMLStreamReader reader;
+
+    public XmlRecordReader(Reader input) throws XMLStreamException {
+        reader = XML_INPUT_FACTORY.createXMLStreamReader(input);
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Returns the JAXB context of the given context path. The context is created once and shared afterwards.
+     */
+    public static JAXBContext getContext(String contextPath) throws JAXBException {
+        JAXBContext context = CONTEXTS.get(contextPath);
+        if (context == null) {
+            context = JAXBContext.newInstance(contextPath);
+            CONTEXTS.putIfAbsent(contextPath, context);
+        }
+        return context;
+    }
+
+    /**
+     * Returns the local name of the root element of the document, or an empty optional if the document has no root
+     * element. This has to be called before the first record is read.
+     */
+    public Optional<String> getRootElementName() throws XMLStreamException {
+        while (!reader.isStartElement()) {
+            if (!reader.hasNext()) {
+                return Optional.empty();
+            }
+            reader.next();
+        }
+        return Optional.of(reader.getLocalName());
+    }
+
+    /**
+     * Moves to the start of the next element with the given local name, regardless of its namespace.
+     *
+     * @return true if there is such an element, false if the end of the document was reached
+     */
+    public boolean nextRecord(String localName) throws XMLStreamException {
+        while (!(reader.isStartElement() && localName.equals(reader.getLocalName()))) {
+            if (!reader.hasNext()) {
+                return false;
+            }
+            reader.next();
+        }
+        return true;
+    }
+
+    /**
+     * Unmarshals the record which starts at the current position. Afterwards, the reader is positioned after the
+     * record.
+     */
+    public <T> T unmarshalRecord(Unmarshaller unmarshaller, Class<T> recordType) throws JAXBException {
+        return unmarshaller.unmarshal(reader, recordType).getValue();
+    }
+
+    /**
+     * Returns the underlying reader, which is positioned at the start of the current record
+     */
+    public XMLStreamReader getReader() {
+        return reader;
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        reader.close();
+    }
+}
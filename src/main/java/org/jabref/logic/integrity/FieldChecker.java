@@ -27,4 +27,12 @@ public class FieldChecker implements IntegrityCheck.Checker {
 
         return OptionalUtil.toList(checker.checkValue(value.get()).map(message -> new IntegrityMessage(message, entry, field)));
     }
+
+    /**
+     * Returns whether the result does not only depend on the entry, but also on data which may change independently of
+     * it, i.e., the files on disk or the journal abbreviations
+     */
+    public boolean isDependingOnExternalData() {
+        return (checker instanceof FileChecker) || (checker instanceof AbbreviationChecker);
+    }
 }
@@ -1,8 +1,10 @@
 package org.jabref.logic.integrity;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -11,14 +13,31 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.metadata.FilePreferences;
 
+/**
+ * Checks entries for common mistakes.
+ * <p>
+ * The checkers are created once per integrity check. Checking the whole database is spread over the common fork join
+ * pool. The messages of the checkers which only look at the entry itself are cached per entry and checker (see
+ * {@link IntegrityMessageCache}), whereas the checkers depending on other entries, on linked files or on the journal
+ * abbreviations are always run. The messages are reported in the order the checkers are registered, regardless of
+ * whether they were cached.
+ */
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
-    private final FilePreferences filePreferences;
-    private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
-    private final JournalAbbreviationRepository journalAbbreviationRepository;
-    private final boolean enforceLegalKey;
-    private final boolean allowIntegerEdition;
+    /**
+     * All checkers in the order of registration
+     */
+    private final List<Checker> checkers = new ArrayList<>();
+    /**
+     * The checkers only looking at the entry itself, in the order of registration
+     */
+    private final List<Checker> entryCheckers = new ArrayList<>();
+    private final IntegrityMessageCache cache;
+    /**
+     * Everything the results of the entry checkers depend on apart from the entry
+     */
+    private final List<Boolean> configuration;
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -27,21 +46,53 @@ public class IntegrityCheck {
                           boolean enforceLegalKey,
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
-        this.filePreferences = Objects.requireNonNull(filePreferences);
-        this.bibtexKeyPatternPreferences = Objects.requireNonNull(bibtexKeyPatternPreferences);
-        this.journalAbbreviationRepository = Objects.requireNonNull(journalAbbreviationRepository);
-        this.enforceLegalKey = enforceLegalKey;
-        this.allowIntegerEdition = allowIntegerEdition;
-    }
+        Objects.requireNonNull(filePreferences);
+        Objects.requireNonNull(bibtexKeyPatternPreferences);
+        Objects.requireNonNull(journalAbbreviationRepository);
 
-    public List<IntegrityMessage> checkDatabase() {
-        List<IntegrityMessage> result = new ArrayList<>();
+        FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext,
+                                                        filePreferences,
+                                                        journalAbbreviationRepository,
+                                                        enforceLegalKey,
+                                                        allowIntegerEdition);
+        for (FieldChecker checker : fieldCheckers.getAll()) {
+            addChecker(checker, checker.isDependingOnExternalData());
+        }
 
-        for (BibEntry entry : bibDatabaseContext.getDatabase().getEntries()) {
-            result.addAll(checkEntry(entry));
+        if (!bibDatabaseContext.isBiblatexMode()) {
+            // BibTeX only checkers
+            addChecker(new ASCIICharacterChecker(), false);
+            addChecker(new NoBibtexFieldChecker(), false);
+            addChecker(new BibTeXEntryTypeChecker(), false);
+            addChecker(new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository), true);
+        } else {
+            addChecker(new JournalInAbbreviationListChecker(StandardField.JOURNALTITLE, journalAbbreviationRepository), true);
         }
 
-        return result;
+        addChecker(new BibtexKeyChecker(), false);
+        addChecker(new TypeChecker(), false);
+        addChecker(new BibStringChecker(), false);
+        addChecker(new HTMLCharacterChecker(), false);
+        addChecker(new EntryLinkChecker(bibDatabaseContext.getDatabase()), true);
+        addChecker(new BibtexkeyDeviationChecker(bibDatabaseContext, bibtexKeyPatternPreferences), true);
+        addChecker(new BibtexKeyDuplicationChecker(bibDatabaseContext.getDatabase()), true);
+
+        cache = IntegrityMessageCache.forDatabase(bibDatabaseContext.getDatabase());
+        configuration = Arrays.asList(bibDatabaseContext.isBiblatexMode(), enforceLegalKey, allowIntegerEdition);
+    }
+
+    private void addChecker(Checker checker, boolean dependingOnContext) {
+        checkers.add(checker);
+        if (!dependingOnContext) {
+            entryCheckers.add(checker);
+        }
+    }
+
+    public List<IntegrityMessage> checkDatabase() {
+        return bibDatabaseContext.getDatabase().getEntries()
+                                 .parallelStream()
+                                 .flatMap(entry -> checkEntry(entry).stream())
+                                 .collect(Collectors.toList());
     }
 
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
@@ -51,36 +102,41 @@ public class IntegrityCheck {
             return result;
         }
 
-        FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext,
-                                                        filePreferences,
-                                                        journalAbbreviationRepository,
-                                                        enforceLegalKey,
-                                                        allowIntegerEdition);
-        for (FieldChecker checker : fieldCheckers.getAll()) {
-            result.addAll(checker.check(entry));
-        }
+        List<List<IntegrityMessage>> entryMessages = cache.get(entry, configuration)
+                                                          .orElseGet(() -> checkEntryItself(entry));
 
-        if (!bibDatabaseContext.isBiblatexMode()) {
-            // BibTeX only checkers
-            result.addAll(new ASCIICharacterChecker().check(entry));
-            result.addAll(new NoBibtexFieldChecker().check(entry));
-            result.addAll(new BibTeXEntryTypeChecker().check(entry));
-            result.addAll(new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository).check(entry));
-        } else {
-            result.addAll(new JournalInAbbreviationListChecker(StandardField.JOURNALTITLE, journalAbbreviationRepository).check(entry));
+        // The entry checkers are a subsequence of all checkers, thus their messages are merged in at their position
+        int entryCheckerIndex = 0;
+        for (Checker checker : checkers) {
+            if ((entryCheckerIndex < entryCheckers.size()) && (entryCheckers.get(entryCheckerIndex) == checker)) {
+                result.addAll(entryMessages.get(entryCheckerIndex));
+                entryCheckerIndex++;
+            } else {
+                result.addAll(checker.check(entry));
+            }
         }
 
-        result.addAll(new BibtexKeyChecker().check(entry));
-        result.addAll(new TypeChecker().check(entry));
-        result.addAll(new BibStringChecker().check(entry));
-        result.addAll(new HTMLCharacterChecker().check(entry));
-        result.addAll(new EntryLinkChecker(bibDatabaseContext.getDatabase()).check(entry));
-        result.addAll(new BibtexkeyDeviationChecker(bibDatabaseContext, bibtexKeyPatternPreferences).check(entry));
-        result.addAll(new BibtexKeyDuplicationChecker(bibDatabaseContext.getDatabase()).check(entry));
-
         return result;
     }
 
+    /**
+     * Runs the checkers which only look at the entry itself and caches their messages
+     *
+     * @return the messages of each entry checker
+     */
+    private List<List<IntegrityMessage>> checkEntryItself(BibEntry entry) {
+        long generation = cache.getGeneration(entry);
+        List<List<IntegrityMessage>> entryMessages = new ArrayList<>(entryCheckers.size());
+        for (Checker checker : entryCheckers) {
+            entryMessages.add(checker.check(entry));
+        }
+        // The changes of entries outside of the database are not reported to the cache
+        if (bibDatabaseContext.getDatabase().containsEntryWithId(entry.getId())) {
+            cache.put(entry, configuration, entryMessages, generation);
+        }
+        return entryMessages;
+    }
+
     @FunctionalInterface
     public interface Checker {
         List<IntegrityMessage> check(BibEntry entry);
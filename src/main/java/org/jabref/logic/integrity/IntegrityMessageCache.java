@@ -0,0 +1,142 @@
+package org.jabref.logic.integrity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps the messages of the checkers which only look at the entry itself, separately for each checker, so that an integrity check of the whole
+ * library only checks the entries again which changed since the last run.
+ * <p>
+ * The messages of an entry are dropped when a field of the entry changes or the entry is removed. They are only handed
+ * out for the same configuration of checkers they were determined with.
+ */
+class IntegrityMessageCache {
+
+    private static final Map<BibDatabase, IntegrityMessageCache> CACHES = new WeakHashMap<>();
+
+    /**
+     * Messages by the ID of their entry. They do not refer to entries, since every entry refers to its database, which
+     * then would never be removed from {@link #CACHES}.
+     */
+    private final ConcurrentMap<String, CachedMessages> messages = new ConcurrentHashMap<>();
+    /**
+     * Number of invalidations of each entry, used to detect changes made while an entry was being checked
+     */
+    private final ConcurrentMap<String, Long> generations = new ConcurrentHashMap<>();
+
+    private IntegrityMessageCache() {
+    }
+
+    /**
+     * Returns the cache of the given database. It lives as long as the database.
+     */
+    static synchronized IntegrityMessageCache forDatabase(BibDatabase database) {
+        IntegrityMessageCache cache = CACHES.get(database);
+        if (cache == null) {
+            cache = new IntegrityMessageCache();
+            database.registerListener(cache);
+            CACHES.put(database, cache);
+        }
+        return cache;
+    }
+
+    long getGeneration(BibEntry entry) {
+        return generations.getOrDefault(entry.getId(), 0L);
+    }
+
+    /**
+     * Returns the messages of the given entry, which has to belong to the database of this cache.
+     *
+     * @param configuration a value based description of the checkers, must not refer to the database
+     */
+    Optional<List<List<IntegrityMessage>>> get(BibEntry entry, List<?> configuration) {
+        CachedMessages cached = messages.get(entry.getId());
+        if ((cached == null) || !cached.configuration.equals(configuration)) {
+            return Optional.empty();
+        }
+
+        List<List<IntegrityMessage>> entryMessages = new ArrayList<>(cached.messages.size());
+        for (List<CachedMessage> messagesOfChecker : cached.messages) {
+            List<IntegrityMessage> checkerMessages = new ArrayList<>(messagesOfChecker.size());
+            for (CachedMessage message : messagesOfChecker) {
+                checkerMessages.add(new IntegrityMessage(message.message, entry, message.field));
+            }
+            entryMessages.add(checkerMessages);
+        }
+        return Optional.of(entryMessages);
+    }
+
+    /**
+     * Stores the messages of the given entry, which has to belong to the database of this cache. They are discarded if
+     * the entry changed after the given generation was read.
+     *
+     * @param entryMessages the messages of each checker
+     */
+    void put(BibEntry entry, List<?> configuration, List<List<IntegrityMessage>> entryMessages, long generation) {
+        List<List<CachedMessage>> cachedMessages = new ArrayList<>(entryMessages.size());
+        for (List<IntegrityMessage> checkerMessages : entryMessages) {
+            List<CachedMessage> messagesOfChecker = new ArrayList<>(checkerMessages.size());
+            for (IntegrityMessage message : checkerMessages) {
+                messagesOfChecker.add(new CachedMessage(message.getMessage(), message.getField()));
+            }
+            cachedMessages.add(Collections.unmodifiableList(messagesOfChecker));
+        }
+
+        CachedMessages cached = new CachedMessages(configuration, Collections.unmodifiableList(cachedMessages));
+        messages.put(entry.getId(), cached);
+        if (getGeneration(entry) != generation) {
+            messages.remove(entry.getId(), cached);
+        }
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        invalidate(event.getBibEntry());
+    }
+
+    @Subscribe
+    public void listen(EntryRemovedEvent event) {
+        invalidate(event.getBibEntry());
+    }
+
+    private void invalidate(BibEntry entry) {
+        generations.merge(entry.getId(), 1L, Long::sum);
+        messages.remove(entry.getId());
+    }
+
+    private static class CachedMessages {
+
+        private final List<?> configuration;
+        private final List<List<CachedMessage>> messages;
+
+        CachedMessages(List<?> configuration, List<List<CachedMessage>> messages) {
+            this.configuration = configuration;
+            this.messages = messages;
+        }
+    }
+
+    private static class CachedMessage {
+
+        private final String message;
+        private final Field field;
+
+        CachedMessage(String message, Field field) {
+            this.message = message;
+            this.field = field;
+        }
+    }
+}
@@ -8,36 +8,55 @@ public class Abbreviation implements Comparable<Abbreviation> {
 
     private static final String SPLITTER = ";"; // elements after SPLITTER are not used at the moment
 
-    private final SimpleStringProperty name = new SimpleStringProperty("");
-    private final SimpleStringProperty abbreviation = new SimpleStringProperty("");
+    private String name;
+    private String abbreviation;
+    // The properties are only needed when editing abbreviations and are thus created on first use
+    private SimpleStringProperty nameProperty;
+    private SimpleStringProperty abbreviationProperty;
 
     public Abbreviation(String name, String abbreviation) {
-        this.name.set(Objects.requireNonNull(name).trim());
-        this.abbreviation.set(Objects.requireNonNull(abbreviation).trim());
+        this.name = Objects.requireNonNull(name).trim();
+        String trimmedAbbreviation = Objects.requireNonNull(abbreviation).trim();
+        // Many journals are abbreviated by their full name, in that case the string is only stored once
+        this.abbreviation = trimmedAbbreviation.equals(this.name) ? this.name : trimmedAbbreviation;
     }
 
     public String getName() {
-        return name.get();
+        return nameProperty == null ? name : nameProperty.get();
     }
 
     public void setName(String name) {
-        this.name.set(name);
+        if (nameProperty == null) {
+            this.name = name;
+        } else {
+            nameProperty.set(name);
+        }
     }
 
     public SimpleStringProperty nameProperty() {
-        return name;
+        if (nameProperty == null) {
+            nameProperty = new SimpleStringProperty(name);
+        }
+        return nameProperty;
     }
 
     public String getAbbreviation() {
-        return this.abbreviation.get();
+        return abbreviationProperty == null ? abbreviation : abbreviationProperty.get();
     }
 
     public void setAbbreviation(String abbreviation) {
-        this.abbreviation.set(abbreviation);
+        if (abbreviationProperty == null) {
+            this.abbreviation = abbreviation;
+        } else {
+            abbreviationProperty.set(abbreviation);
+        }
     }
 
     public SimpleStringProperty abbreviationProperty() {
-        return abbreviation;
+        if (abbreviationProperty == null) {
+            abbreviationProperty = new SimpleStringProperty(abbreviation);
+        }
+        return abbreviationProperty;
     }
 
     public String getIsoAbbreviation() {
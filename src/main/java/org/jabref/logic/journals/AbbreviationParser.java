@@ -11,12 +11,14 @@ import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,6 +28,11 @@ import org.slf4j.LoggerFactory;
 public class AbbreviationParser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbbreviationParser.class);
+    /**
+     * The same journal names and abbreviations occur in several lists and are read again whenever the lists are
+     * reloaded. All parsers share one instance of each string.
+     */
+    private static final Interner<String> STRINGS = Interners.newWeakInterner();
 
     private final Set<Abbreviation> abbreviations = new HashSet<>(5000);
 
@@ -91,12 +98,12 @@ public class AbbreviationParser {
                 return;
             }
 
-            Abbreviation abbreviation = new Abbreviation(fullName, abbrName);
+            Abbreviation abbreviation = new Abbreviation(STRINGS.intern(fullName), STRINGS.intern(abbrName));
             this.abbreviations.add(abbreviation);
         }
     }
 
     public List<Abbreviation> getAbbreviations() {
-        return new LinkedList<>(abbreviations);
+        return new ArrayList<>(abbreviations);
     }
 }
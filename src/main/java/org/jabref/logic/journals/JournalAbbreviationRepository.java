@@ -2,17 +2,39 @@ package org.jabref.logic.journals;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.MultimapBuilder;
+
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * Journal names are looked up ignoring case. For this, the abbreviations are indexed by the case folded form of their
+ * full name, their ISO abbreviation and their Medline abbreviation. Several journals may share such a key (e.g., the
+ * same abbreviation), then the one added last is found.
  */
 public class JournalAbbreviationRepository {
 
-    private final Set<Abbreviation> abbreviations = new HashSet<>(16000); // We have over 15.000 abbreviations in the built-in lists
+    private static final int EXPECTED_SIZE = 16000; // We have over 15.000 abbreviations in the built-in lists
+
+    /**
+     * Abbreviations by their exact full name, which is the criterion of {@link Abbreviation#equals(Object)}
+     */
+    private final Map<String, Abbreviation> abbreviations = new HashMap<>(EXPECTED_SIZE);
+    private final ListMultimap<String, Abbreviation> fullNameIndex = createIndex();
+    private final ListMultimap<String, Abbreviation> isoAbbreviationIndex = createIndex();
+    private final ListMultimap<String, Abbreviation> medlineAbbreviationIndex = createIndex();
+    /**
+     * Abbreviations by their ISO and Medline abbreviation, leaving out abbreviations which equal the full name
+     */
+    private final ListMultimap<String, Abbreviation> strictAbbreviationIndex = createIndex();
 
     public JournalAbbreviationRepository(Abbreviation... abbreviations) {
         for (Abbreviation abbreviation : abbreviations) {
@@ -20,17 +42,32 @@ public class JournalAbbreviationRepository {
         }
     }
 
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getIsoAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getMedlineAbbreviation());
+    private static ListMultimap<String, Abbreviation> createIndex() {
+        // Most keys belong to a single journal
+        return MultimapBuilder.hashKeys(EXPECTED_SIZE).arrayListValues(1).build();
+    }
+
+    /**
+     * Returns the abbreviation added last under the given key
+     */
+    private static Optional<Abbreviation> getLast(ListMultimap<String, Abbreviation> index, String key) {
+        List<Abbreviation> abbreviationsOfKey = index.get(key);
+        if (abbreviationsOfKey.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(abbreviationsOfKey.get(abbreviationsOfKey.size() - 1));
     }
 
-    private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
-        boolean isAbbreviated = name.equalsIgnoreCase(abbreviation.getIsoAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getMedlineAbbreviation());
-        boolean isExpanded = name.equalsIgnoreCase(abbreviation.getName());
-        return isAbbreviated && !isExpanded;
+    /**
+     * Folds the case the same way as {@link String#equalsIgnoreCase(String)} does, so that two names are equal ignoring
+     * case if and only if their folded forms are equal.
+     */
+    private static String foldCase(String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(name.charAt(i))));
+        }
+        return folded.toString();
     }
 
     public int size() {
@@ -42,7 +79,7 @@ public class JournalAbbreviationRepository {
      * Letters) or its abbreviated form (e.g. Phys. Rev. Lett.).
      */
     public boolean isKnownName(String journalName) {
-        return abbreviations.stream().anyMatch(abbreviation -> isMatched(journalName.trim(), abbreviation));
+        return getAbbreviation(journalName).isPresent();
     }
 
     /**
@@ -50,7 +87,7 @@ public class JournalAbbreviationRepository {
      * i.e. journals whose abbreviation is the same as the full name are not considered
      */
     public boolean isAbbreviatedName(String journalName) {
-        return abbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journalName.trim(), abbreviation));
+        return strictAbbreviationIndex.containsKey(foldCase(journalName.trim()));
     }
 
     /**
@@ -60,18 +97,54 @@ public class JournalAbbreviationRepository {
      * @return The abbreviated name
      */
     public Optional<Abbreviation> getAbbreviation(String journalName) {
-        return abbreviations.stream().filter(abbreviation -> isMatched(journalName.trim(), abbreviation)).findFirst();
+        String key = foldCase(journalName.trim());
+        Optional<Abbreviation> abbreviation = getLast(fullNameIndex, key);
+        if (!abbreviation.isPresent()) {
+            abbreviation = getLast(isoAbbreviationIndex, key);
+        }
+        if (!abbreviation.isPresent()) {
+            abbreviation = getLast(medlineAbbreviationIndex, key);
+        }
+        return abbreviation;
     }
 
     public void addEntry(Abbreviation abbreviation) {
         Objects.requireNonNull(abbreviation);
 
         // Abbreviation equality is tested on name only, so we might have to remove an old abbreviation
-        if (abbreviations.contains(abbreviation)) {
-            abbreviations.remove(abbreviation);
+        Abbreviation oldAbbreviation = abbreviations.put(abbreviation.getName(), abbreviation);
+        if (oldAbbreviation != null) {
+            removeFromIndexes(oldAbbreviation);
         }
+        addToIndexes(abbreviation);
+    }
+
+    private void addToIndexes(Abbreviation abbreviation) {
+        String name = foldCase(abbreviation.getName());
+        String isoAbbreviation = foldCase(abbreviation.getIsoAbbreviation());
+        String medlineAbbreviation = foldCase(abbreviation.getMedlineAbbreviation());
+
+        fullNameIndex.put(name, abbreviation);
+        isoAbbreviationIndex.put(isoAbbreviation, abbreviation);
+        medlineAbbreviationIndex.put(medlineAbbreviation, abbreviation);
+        if (!isoAbbreviation.equals(name)) {
+            strictAbbreviationIndex.put(isoAbbreviation, abbreviation);
+        }
+        if (!medlineAbbreviation.equals(name) && !medlineAbbreviation.equals(isoAbbreviation)) {
+            strictAbbreviationIndex.put(medlineAbbreviation, abbreviation);
+        }
+    }
 
-        abbreviations.add(abbreviation);
+    private void removeFromIndexes(Abbreviation abbreviation) {
+        // Other abbreviations might be stored under the same keys, these have to be kept. Under one key, there is at
+        // most one abbreviation of a name, thus removing by equality removes exactly the given abbreviation.
+        String isoAbbreviation = foldCase(abbreviation.getIsoAbbreviation());
+        String medlineAbbreviation = foldCase(abbreviation.getMedlineAbbreviation());
+        fullNameIndex.remove(foldCase(abbreviation.getName()), abbreviation);
+        isoAbbreviationIndex.remove(isoAbbreviation, abbreviation);
+        medlineAbbreviationIndex.remove(medlineAbbreviation, abbreviation);
+        strictAbbreviationIndex.remove(isoAbbreviation, abbreviation);
+        strictAbbreviationIndex.remove(medlineAbbreviation, abbreviation);
     }
 
     public void addEntries(Collection<Abbreviation> abbreviationsToAdd) {
@@ -79,7 +152,7 @@ public class JournalAbbreviationRepository {
     }
 
     public Set<Abbreviation> getAbbreviations() {
-        return Collections.unmodifiableSet(abbreviations);
+        return Collections.unmodifiableSet(new HashSet<>(abbreviations.values()));
     }
 
     public Optional<String> getNextAbbreviation(String text) {
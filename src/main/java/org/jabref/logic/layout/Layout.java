@@ -23,6 +23,8 @@ public class Layout {
 
     private final List<String> missingFormatters = new ArrayList<>();
 
+    private boolean containsGroups;
+
     public Layout(List<StringInt> parsedEntries, LayoutFormatterPreferences prefs) {
         List<LayoutEntry> tmpEntries = new ArrayList<>(parsedEntries.size());
 
@@ -37,8 +39,12 @@ public class Layout {
                 case LayoutHelper.IS_OPTION_FIELD:
                     // Do nothing
                     break;
-                case LayoutHelper.IS_FIELD_START:
                 case LayoutHelper.IS_GROUP_START:
+                    containsGroups = true;
+                    blockEntries = new ArrayList<>();
+                    blockStart = parsedEntry.s;
+                    break;
+                case LayoutHelper.IS_FIELD_START:
                     blockEntries = new ArrayList<>();
                     blockStart = parsedEntry.s;
                     break;
@@ -94,10 +100,18 @@ public class Layout {
      * recursive string references are resolved.
      */
     public String doLayout(BibEntry bibtex, BibDatabase database) {
+        return doLayout(bibtex, database, new LayoutState(1));
+    }
+
+    /**
+     * Returns the processed bibtex entry as the entry with the number given by the state. Groups started by the entry
+     * are recorded in the state, so the state has to be passed on to the following entry.
+     */
+    public String doLayout(BibEntry bibtex, BibDatabase database, LayoutState state) {
         StringBuilder builder = new StringBuilder(100);
 
         for (LayoutEntry layoutEntry : layoutEntries) {
-            String fieldText = layoutEntry.doLayout(bibtex, database);
+            String fieldText = layoutEntry.doLayout(bibtex, database, state);
 
             // The following change means we treat null fields as "". This is to fix the
             // problem of whitespace disappearing after missing fields.
@@ -134,6 +148,14 @@ public class Layout {
         return sb.toString();
     }
 
+    /**
+     * Returns whether this layout contains a group block (<code>\begingroup</code>). The output of such a layout
+     * depends on the entries laid out before, so entries have to be laid out one after the other.
+     */
+    public boolean containsGroups() {
+        return containsGroups;
+    }
+
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
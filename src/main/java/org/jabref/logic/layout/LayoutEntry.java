@@ -187,6 +187,10 @@ class LayoutEntry {
     }
 
     public String doLayout(BibEntry bibtex, BibDatabase database) {
+        return doLayout(bibtex, database, new LayoutState(1));
+    }
+
+    public String doLayout(BibEntry bibtex, BibDatabase database, LayoutState state) {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
@@ -200,12 +204,12 @@ class LayoutEntry {
                 return value;
             case LayoutHelper.IS_FIELD_START:
             case LayoutHelper.IS_GROUP_START:
-                return handleFieldOrGroupStart(bibtex, database);
+                return handleFieldOrGroupStart(bibtex, database, state);
             case LayoutHelper.IS_FIELD_END:
             case LayoutHelper.IS_GROUP_END:
                 return "";
             case LayoutHelper.IS_OPTION_FIELD:
-                return handleOptionField(bibtex, database);
+                return handleOptionField(bibtex, database, state);
             case LayoutHelper.IS_ENCODING_NAME:
                 // Printing the encoding name is not supported in entry layouts, only
                 // in begin/end layouts. This prevents breakage if some users depend
@@ -216,7 +220,7 @@ class LayoutEntry {
         }
     }
 
-    private String handleOptionField(BibEntry bibtex, BibDatabase database) {
+    private String handleOptionField(BibEntry bibtex, BibDatabase database, LayoutState state) {
         String fieldEntry;
 
         if (InternalField.TYPE_HEADER.getName().equals(text)) {
@@ -237,7 +241,12 @@ class LayoutEntry {
 
         if (option != null) {
             for (LayoutFormatter anOption : option) {
-                fieldEntry = anOption.format(fieldEntry);
+                if (anOption instanceof Number) {
+                    // The number depends on the position of the entry, not on the field
+                    fieldEntry = ((Number) anOption).format(fieldEntry, state.getEntryNumber());
+                } else {
+                    fieldEntry = anOption.format(fieldEntry);
+                }
             }
         }
 
@@ -249,7 +258,7 @@ class LayoutEntry {
         return fieldEntry;
     }
 
-    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
+    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database, LayoutState state) {
         Optional<String> field;
         if (type == LayoutHelper.IS_GROUP_START) {
             field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database);
@@ -276,22 +285,22 @@ class LayoutEntry {
         }
 
         if ((!field.isPresent()) || ((type == LayoutHelper.IS_GROUP_START)
-                && field.get().equalsIgnoreCase(LayoutHelper.getCurrentGroup()))) {
+                && field.get().equalsIgnoreCase(state.getCurrentGroup()))) {
             return null;
         } else {
             if (type == LayoutHelper.IS_GROUP_START) {
-                LayoutHelper.setCurrentGroup(field.get());
+                state.setCurrentGroup(field.get());
             }
             StringBuilder sb = new StringBuilder(100);
             String fieldText;
             boolean previousSkipped = false;
 
             for (int i = 0; i < layoutEntries.size(); i++) {
-                fieldText = layoutEntries.get(i).doLayout(bibtex, database);
+                fieldText = layoutEntries.get(i).doLayout(bibtex, database, state);
 
                 if (fieldText == null) {
                     if ((i + 1) < layoutEntries.size()) {
-                        if (layoutEntries.get(i + 1).doLayout(bibtex, database).trim().isEmpty()) {
+                        if (layoutEntries.get(i + 1).doLayout(bibtex, database, state).trim().isEmpty()) {
                             i++;
                             previousSkipped = true;
                             continue;
@@ -1,5 +1,6 @@
 package org.jabref.logic.layout;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -50,6 +51,13 @@ public class LayoutFormatterPreferences {
         customExportNameFormatters.put(formatterName, contents);
     }
 
+    /**
+     * Returns a copy of the name formatters defined by the current custom export
+     */
+    public Map<String, String> getCustomExportNameFormatters() {
+        return Collections.unmodifiableMap(new HashMap<>(customExportNameFormatters));
+    }
+
     public Optional<String> getCustomExportNameFormatter(String formatterName) {
         return Optional.ofNullable(customExportNameFormatters.get(formatterName));
     }
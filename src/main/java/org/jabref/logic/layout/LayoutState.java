@@ -0,0 +1,48 @@
+package org.jabref.logic.layout;
+
+/**
+ * The state carried from one entry to the next while a sequence of entries is laid out: the number of the current
+ * entry and the value of the group which was started last. Each export uses states of its own, hence layouts can be
+ * used by several threads at once.
+ */
+public class LayoutState {
+
+    private int entryNumber;
+    private String currentGroup;
+
+    /**
+     * Creates the state before the first entry
+     */
+    public LayoutState() {
+        this(0);
+    }
+
+    /**
+     * Creates the state of laying out the entry with the given number, without any group started before
+     */
+    public LayoutState(int entryNumber) {
+        this.entryNumber = entryNumber;
+    }
+
+    /**
+     * Moves on to the next entry
+     */
+    public void nextEntry() {
+        entryNumber++;
+    }
+
+    /**
+     * Returns the number of the current entry, starting with 1
+     */
+    public int getEntryNumber() {
+        return entryNumber;
+    }
+
+    String getCurrentGroup() {
+        return currentGroup;
+    }
+
+    void setCurrentGroup(String currentGroup) {
+        this.currentGroup = currentGroup;
+    }
+}
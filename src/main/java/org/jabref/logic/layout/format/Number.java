@@ -1,6 +1,5 @@
 package org.jabref.logic.layout.format;
 
-import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.layout.ParamLayoutFormatter;
 
 /**
@@ -14,8 +13,15 @@ public class Number implements ParamLayoutFormatter {
         // No effect currently.
     }
 
+    /**
+     * Returns the number of the first entry, because the position of the entry is not known here
+     */
     @Override
     public String format(String fieldText) {
-        return String.valueOf(ExporterFactory.entryNumber);
+        return format(fieldText, 1);
+    }
+
+    public String format(String fieldText, int entryNumber) {
+        return String.valueOf(entryNumber);
     }
 }
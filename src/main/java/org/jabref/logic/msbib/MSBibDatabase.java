@@ -1,7 +1,6 @@
 package org.jabref.logic.msbib;
 
 import java.io.BufferedReader;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -11,7 +10,14 @@ import java.util.Set;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.stax.StAXSource;
+
+import org.jabref.logic.importer.util.XmlRecordReader;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 
@@ -20,9 +26,6 @@ import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-import org.xml.sax.SAXException;
 
 /**
  * Microsoft Word bibliography.
@@ -67,31 +70,25 @@ public class MSBibDatabase {
      */
     public List<BibEntry> importEntriesFromXml(BufferedReader reader) {
         entries = new HashSet<>();
-        Document inputDocument;
-        try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setNamespaceAware(true);
-            DocumentBuilder documentBuilder = factory.newDocumentBuilder();
-            inputDocument = documentBuilder.parse(new InputSource(reader));
-        } catch (ParserConfigurationException | SAXException | IOException e) {
+        List<BibEntry> bibitems = new ArrayList<>();
+        // The sources are read one after the other and only the current source is converted to a DOM element, so the
+        // whole document is never held in memory
+        try (XmlRecordReader recordReader = new XmlRecordReader(reader)) {
+            if (!recordReader.nextRecord("Sources")) {
+                return bibitems;
+            }
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            while (recordReader.nextRecord("Source")) {
+                DOMResult result = new DOMResult();
+                transformer.transform(new StAXSource(recordReader.getReader()), result);
+                MSBibEntry entry = new MSBibEntry(((Document) result.getNode()).getDocumentElement());
+                entries.add(entry);
+                bibitems.add(BibTeXConverter.convert(entry));
+            }
+        } catch (XMLStreamException | TransformerException e) {
             LOGGER.warn("Could not parse document", e);
             return Collections.emptyList();
         }
-        NodeList rootList = inputDocument.getElementsByTagNameNS("*", "Sources");
-        if (rootList.getLength() == 0) {
-            rootList = inputDocument.getElementsByTagNameNS("*", "Sources");
-        }
-        List<BibEntry> bibitems = new ArrayList<>();
-        if (rootList.getLength() == 0) {
-            return bibitems;
-        }
-
-        NodeList sourceList = ((Element) rootList.item(0)).getElementsByTagNameNS("*", "Source");
-        for (int i = 0; i < sourceList.getLength(); i++) {
-            MSBibEntry entry = new MSBibEntry((Element) sourceList.item(i));
-            entries.add(entry);
-            bibitems.add(BibTeXConverter.convert(entry));
-        }
 
         return bibitems;
     }
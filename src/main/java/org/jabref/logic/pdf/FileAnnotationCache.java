@@ -1,9 +1,16 @@
 package org.jabref.logic.pdf;
 
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import org.jabref.logic.util.OS;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.metadata.FilePreferences;
@@ -12,18 +19,38 @@ import org.jabref.model.pdf.FileAnnotation;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Caches the annotations of the files linked to entries in two tiers: the annotations of recently used entries are held
+ * in memory, and the annotations of all files which were read once are stored on disk by a {@link FileAnnotationStore}.
+ * Hence, a PDF file is only parsed again if it was changed.
+ */
 public class FileAnnotationCache {
 
+    /**
+     * The directory where the annotations are stored on disk. It is private to the user, since annotations may contain
+     * personal notes.
+     */
+    public static final Path DEFAULT_STORE_DIRECTORY = getUserCacheDirectory().resolve("annotations");
+
     private static final Logger LOGGER = LoggerFactory.getLogger(FileAnnotation.class);
-    //cache size in entries
-    private final static int CACHE_SIZE = 10;
+
+    // Approximate size of the annotations held in memory, in characters
+    private static final long MAXIMUM_CACHE_WEIGHT = 4_000_000;
+    // Approximate size of an annotation without its texts, in characters
+    private static final int ANNOTATION_WEIGHT = 32;
+    // Number of entries waiting to be loaded in the background, older requests are dropped if more are waiting
+    private static final int PREWARM_QUEUE_SIZE = 100;
 
     //the inner list holds the annotations per file, the outer collection maps this to a BibEntry.
     private LoadingCache<BibEntry, Map<Path, List<FileAnnotation>>> annotationCache;
 
+    private ThreadPoolExecutor prewarmExecutor;
+    private final Set<BibEntry> prewarming = ConcurrentHashMap.newKeySet();
+
     /**
      * Creates an empty fil annotation cache. Required to allow the annotation cache to be injected into views without
      * hitting the bug https://github.com/AdamBien/afterburner.fx/issues/71 .
@@ -33,12 +60,64 @@ public class FileAnnotationCache {
     }
 
     public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences) {
-        annotationCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<BibEntry, Map<Path, List<FileAnnotation>>>() {
-            @Override
-            public Map<Path, List<FileAnnotation>> load(BibEntry entry) throws Exception {
-                return new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences);
+        this(context, filePreferences, DEFAULT_STORE_DIRECTORY);
+    }
+
+    public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences, Path storeDirectory) {
+        AnnotationImporter importer = new FileAnnotationStore(storeDirectory, new PdfAnnotationImporter());
+        annotationCache = CacheBuilder.newBuilder()
+                                      .maximumWeight(MAXIMUM_CACHE_WEIGHT)
+                                      .weigher(FileAnnotationCache::weigh)
+                                      .build(new CacheLoader<BibEntry, Map<Path, List<FileAnnotation>>>() {
+                                          @Override
+                                          public Map<Path, List<FileAnnotation>> load(BibEntry entry) throws Exception {
+                                              return new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences, importer);
+                                          }
+                                      });
+        prewarmExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingDeque<>(PREWARM_QUEUE_SIZE),
+                new ThreadFactoryBuilder().setNameFormat("FileAnnotationCache prewarmer").setDaemon(true).build(),
+                this::discardOldestPrewarmTask);
+    }
+
+    private void discardOldestPrewarmTask(Runnable task, ThreadPoolExecutor executor) {
+        if (!executor.isShutdown()) {
+            Runnable oldest = executor.getQueue().poll();
+            if (oldest instanceof PrewarmTask) {
+                prewarming.remove(((PrewarmTask) oldest).entry);
+            }
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * Returns the directory of JabRef for cached data of the current user, following the conventions of the operating
+     * system.
+     */
+    private static Path getUserCacheDirectory() {
+        String userHome = System.getProperty("user.home");
+        if (OS.WINDOWS) {
+            String localAppData = System.getenv("LOCALAPPDATA");
+            return (localAppData == null) ? Paths.get(userHome, "AppData", "Local", "JabRef", "cache") : Paths.get(localAppData, "JabRef", "cache");
+        } else if (OS.OS_X) {
+            return Paths.get(userHome, "Library", "Caches", "JabRef");
+        } else {
+            String cacheHome = System.getenv("XDG_CACHE_HOME");
+            return (cacheHome == null) || cacheHome.isEmpty() ? Paths.get(userHome, ".cache", "jabref") : Paths.get(cacheHome, "jabref");
+        }
+    }
+
+    private static int weigh(BibEntry entry, Map<Path, List<FileAnnotation>> annotationsOfFiles) {
+        long weight = 0;
+        for (List<FileAnnotation> annotations : annotationsOfFiles.values()) {
+            for (FileAnnotation annotation : annotations) {
+                weight += ANNOTATION_WEIGHT + annotation.getContent().length();
+                if (annotation.hasLinkedAnnotation()) {
+                    weight += ANNOTATION_WEIGHT + annotation.getLinkedFileAnnotation().getContent().length();
+                }
             }
-        });
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
     }
 
     /**
@@ -52,8 +131,52 @@ public class FileAnnotationCache {
         return annotationCache.getUnchecked(entry);
     }
 
+    /**
+     * Loads the annotations of the given entry in the background, so that they are in the cache when they are needed.
+     * This is meant for entries which are shown, thus likely to be selected soon. If many entries are requested, only the
+     * most recently requested ones are loaded.
+     */
+    public void prewarm(BibEntry entry) {
+        if ((prewarmExecutor == null) || prewarmExecutor.isShutdown() || entry.getFiles().isEmpty() || (annotationCache.getIfPresent(entry) != null)
+                || !prewarming.add(entry)) {
+            return;
+        }
+
+        prewarmExecutor.execute(new PrewarmTask(entry));
+    }
+
+    /**
+     * Stops loading annotations in the background. Has to be called when the library of this cache is closed.
+     */
+    public void shutdown() {
+        if (prewarmExecutor != null) {
+            prewarmExecutor.shutdownNow();
+        }
+        prewarming.clear();
+    }
+
     public void remove(BibEntry entry) {
         LOGGER.debug(String.format("Deleted Bibentry '%s' from cache.", entry.getCiteKeyOptional().orElse(entry.getId())));
         annotationCache.invalidate(entry);
     }
+
+    private class PrewarmTask implements Runnable {
+
+        private final BibEntry entry;
+
+        PrewarmTask(BibEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public void run() {
+            try {
+                annotationCache.getUnchecked(entry);
+            } catch (RuntimeException e) {
+                LOGGER.debug("Could not load annotations in the background", e);
+            } finally {
+                prewarming.remove(entry);
+            }
+        }
+    }
 }
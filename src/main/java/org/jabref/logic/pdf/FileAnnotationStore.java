@@ -0,0 +1,307 @@
+package org.jabref.logic.pdf;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the annotations imported from PDF files on disk, so that a file is only parsed again if it changed, even
+ * across restarts of JabRef.
+ * <p>
+ * There is one store file per PDF file. It records the path, size and modification time of the PDF file, and the
+ * stored annotations are only used as long as these are unchanged. The directory is only accessible by its owner, as
+ * annotations may contain private notes. Once the store files exceed the maximum size, the least recently used ones are
+ * deleted.
+ */
+public class FileAnnotationStore implements AnnotationImporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileAnnotationStore.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String STORE_FILE_EXTENSION = ".annotations";
+    private static final long DEFAULT_MAXIMUM_SIZE = 64 * 1024 * 1024;
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    private final Path directory;
+    private final AnnotationImporter importer;
+    private final long maximumSize;
+
+    /**
+     * @param directory the directory where the annotations are stored
+     * @param importer  the importer used for files whose annotations are not stored yet
+     */
+    public FileAnnotationStore(Path directory, AnnotationImporter importer) {
+        this(directory, importer, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize the size in bytes of all store files, above which the least recently used ones are deleted
+     */
+    public FileAnnotationStore(Path directory, AnnotationImporter importer, long maximumSize) {
+        this.directory = directory;
+        this.importer = importer;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the stored annotations of the given file, or imports and stores them if the file is not stored or changed
+     * since.
+     */
+    @Override
+    public List<FileAnnotation> importAnnotations(Path path) {
+        Optional<FileKey> key = FileKey.of(path);
+        if (!key.isPresent()) {
+            // The file cannot be accessed, so there is nothing to store
+            return importer.importAnnotations(path);
+        }
+
+        Path storeFile = getStoreFile(key.get());
+        Optional<List<FileAnnotation>> stored = load(storeFile, key.get());
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        List<FileAnnotation> annotations = importer.importAnnotations(path);
+        store(storeFile, key.get(), annotations);
+        return annotations;
+    }
+
+    private Path getStoreFile(FileKey key) {
+        return directory.resolve(Integer.toHexString(key.path.hashCode()) + STORE_FILE_EXTENSION);
+    }
+
+    private Optional<List<FileAnnotation>> load(Path storeFile, FileKey key) {
+        if (!Files.exists(storeFile)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(storeFile)))) {
+            if ((in.readInt() != FORMAT_VERSION) || !key.equals(new FileKey(readString(in), in.readLong(), in.readLong()))) {
+                // Stored for another version, for another file with the same hash or before the file changed
+                return Optional.empty();
+            }
+
+            int size = in.readInt();
+            List<FileAnnotation> annotations = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                annotations.add(readAnnotation(in));
+            }
+            markAsUsed(storeFile);
+            return Optional.of(annotations);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Could not read stored annotations from " + storeFile, e);
+            return Optional.empty();
+        }
+    }
+
+    private void store(Path storeFile, FileKey key, List<FileAnnotation> annotations) {
+        Path temporaryFile = null;
+        try {
+            createPrivateDirectory();
+
+            // Write to a temporary file first, so that no partially written store file is read
+            temporaryFile = Files.createTempFile(directory, "annotations", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, key.path);
+                out.writeLong(key.size);
+                out.writeLong(key.lastModified);
+                out.writeInt(annotations.size());
+                for (FileAnnotation annotation : annotations) {
+                    writeAnnotation(out, annotation);
+                }
+            }
+            Files.move(temporaryFile, storeFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            evictLeastRecentlyUsed();
+        } catch (IOException e) {
+            LOGGER.warn("Could not store annotations of " + key.path, e);
+            if (temporaryFile != null) {
+                try {
+                    Files.deleteIfExists(temporaryFile);
+                } catch (IOException deleteException) {
+                    LOGGER.debug("Could not delete " + temporaryFile, deleteException);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the store directory if necessary and restricts its access to the owner. Fails if the directory belongs to
+     * another user, so that no annotations are written to a directory others can read.
+     */
+    private void createPrivateDirectory() throws IOException {
+        if (!directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            // The directory is below the profile of the user, which is private on Windows
+            Files.createDirectories(directory);
+            return;
+        }
+
+        Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+        if (!Files.getPosixFilePermissions(directory).equals(OWNER_ONLY)) {
+            // Fails if the directory is owned by another user
+            Files.setPosixFilePermissions(directory, OWNER_ONLY);
+        }
+    }
+
+    private static void markAsUsed(Path storeFile) {
+        try {
+            Files.setLastModifiedTime(storeFile, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            LOGGER.debug("Could not mark " + storeFile + " as used", e);
+        }
+    }
+
+    /**
+     * Deletes the least recently used store files until the store files take at most three quarters of the maximum size,
+     * if they exceed the maximum size.
+     */
+    private void evictLeastRecentlyUsed() throws IOException {
+        List<Path> storeFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            storeFiles = files.filter(file -> file.getFileName().toString().endsWith(STORE_FILE_EXTENSION))
+                              .collect(Collectors.toList());
+        }
+
+        Map<Path, Long> sizes = new HashMap<>();
+        Map<Path, Long> lastUses = new HashMap<>();
+        long totalSize = 0;
+        for (Path storeFile : storeFiles) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(storeFile, BasicFileAttributes.class);
+                sizes.put(storeFile, attributes.size());
+                lastUses.put(storeFile, attributes.lastModifiedTime().toMillis());
+                totalSize += attributes.size();
+            } catch (IOException e) {
+                // Deleted meanwhile by another instance
+                LOGGER.debug("Could not read attributes of " + storeFile, e);
+            }
+        }
+        if (totalSize <= maximumSize) {
+            return;
+        }
+
+        List<Path> leastRecentlyUsedFirst = new ArrayList<>(lastUses.keySet());
+        leastRecentlyUsedFirst.sort(Comparator.comparing(lastUses::get));
+        for (Path storeFile : leastRecentlyUsedFirst) {
+            if (totalSize <= ((maximumSize / 4) * 3)) {
+                return;
+            }
+            Files.deleteIfExists(storeFile);
+            totalSize -= sizes.get(storeFile);
+        }
+    }
+
+    private static void writeAnnotation(DataOutputStream out, FileAnnotation annotation) throws IOException {
+        writeString(out, annotation.getAuthor());
+        writeString(out, annotation.getTimeModified().toString());
+        out.writeInt(annotation.getPage());
+        writeString(out, annotation.getContent());
+        writeString(out, annotation.getAnnotationType().name());
+        out.writeBoolean(annotation.hasLinkedAnnotation());
+        if (annotation.hasLinkedAnnotation()) {
+            writeAnnotation(out, annotation.getLinkedFileAnnotation());
+        }
+    }
+
+    private static FileAnnotation readAnnotation(DataInputStream in) throws IOException {
+        String author = readString(in);
+        LocalDateTime timeModified = LocalDateTime.parse(readString(in));
+        int page = in.readInt();
+        String content = readString(in);
+        FileAnnotationType annotationType = FileAnnotationType.valueOf(readString(in));
+        Optional<FileAnnotation> linkedFileAnnotation = in.readBoolean() ? Optional.of(readAnnotation(in)) : Optional.empty();
+        return new FileAnnotation(author, timeModified, page, content, annotationType, linkedFileAnnotation);
+    }
+
+    /**
+     * Writes a string of any length, which may be null. {@link DataOutputStream#writeUTF(String)} is limited to 64 KB.
+     */
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        if (string == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Identifies a version of a file by its path, size and modification time
+     */
+    private static class FileKey {
+
+        private final String path;
+        private final long size;
+        private final long lastModified;
+
+        FileKey(String path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        static Optional<FileKey> of(Path file) {
+            try {
+                return Optional.of(new FileKey(file.toAbsolutePath().normalize().toString(), Files.size(file),
+                        Files.getLastModifiedTime(file).toMillis()));
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if ((other == null) || (getClass() != other.getClass())) {
+                return false;
+            }
+
+            FileKey that = (FileKey) other;
+            return (size == that.size) && (lastModified == that.lastModified) && path.equals(that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return path.hashCode();
+        }
+    }
+}
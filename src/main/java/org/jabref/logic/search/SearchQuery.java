@@ -5,9 +5,11 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.rules.ContainBasedSearchRule;
@@ -40,6 +42,26 @@ public class SearchQuery implements SearchMatcher {
         return rule.applyRule(getQuery(), entry);
     }
 
+    /**
+     * Returns the entries of the given database which might be matched by this query, as determined by the search index
+     * of the database. Each candidate still has to be checked using {@link #isMatch(BibEntry)}.
+     *
+     * @return the candidates in database order or an empty optional if all entries have to be checked
+     */
+    public Optional<List<BibEntry>> getCandidates(BibDatabase database) {
+        return database.getSearchIndex().getCandidates(rule, query);
+    }
+
+    /**
+     * Returns a filter accepting all entries of the given database which might be matched by this query. Contrary to
+     * {@link #getCandidates(BibDatabase)}, the filter also accepts entries added or changed after its creation.
+     *
+     * @return an empty optional if all entries have to be checked
+     */
+    public Optional<Predicate<BibEntry>> getCandidateFilter(BibDatabase database) {
+        return database.getSearchIndex().getCandidateFilter(rule, query);
+    }
+
     public boolean isValid() {
         return rule.validateSearchStrings(getQuery());
     }
@@ -5,7 +5,9 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -27,6 +29,7 @@ import org.jabref.model.entry.event.EntryEventSource;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +40,16 @@ public abstract class DBMSProcessor {
 
     public static final String PROCESSOR_ID = UUID.randomUUID().toString();
 
+    /**
+     * Maximum number of rows sent to the database in one JDBC batch
+     */
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Maximum number of values in one "IN (...)" list, as Oracle rejects longer lists
+     */
+    static final int MAX_IN_LIST_SIZE = 1000;
+
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
@@ -60,6 +73,16 @@ public abstract class DBMSProcessor {
         return checkTableAvailability("ENTRY", "FIELD", "METADATA");
     }
 
+    /**
+     * Scans the database for the ENTRY_CHANGE table, which is missing on databases created before delta synchronization
+     * was introduced.
+     *
+     * @return <code>true</code> if the change log is present, <code>false</code> if not.
+     */
+    public boolean checkChangeLogIntegrity() throws SQLException {
+        return checkTableAvailability("ENTRY_CHANGE");
+    }
+
     /**
      * Determines whether the database is using an pre-3.6 structure.
      *
@@ -121,6 +144,19 @@ public abstract class DBMSProcessor {
      */
     protected abstract void setUp() throws SQLException;
 
+    /**
+     * Creates the ENTRY_CHANGE table according to the database type. Triggers on the ENTRY table append a row with a
+     * monotonically increasing CHANGE_ID for every insert, update and removal of an entry, so clients can fetch only the
+     * entries changed since their last synchronization. As the triggers are part of the database, changes made by
+     * clients which do not know about the change log are logged as well.
+     * <p>
+     * If the triggers cannot be created (e.g., due to missing privileges), the change log stays empty and clients find
+     * the changes by their periodic full synchronization only.
+     *
+     * @throws SQLException
+     */
+    protected abstract void setUpChangeLog() throws SQLException;
+
     /**
      * Escapes parts of SQL expressions like table or field name to match the conventions
      * of the database system using the current dbmsType.
@@ -138,11 +174,35 @@ public abstract class DBMSProcessor {
      * @param bibEntry {@link BibEntry} to be inserted
      */
     public void insertEntry(BibEntry bibEntry) {
-        if (!checkForBibEntryExistence(bibEntry)) {
-            insertIntoEntryTable(bibEntry);
-            insertIntoFieldTable(bibEntry);
+        insertEntries(Collections.singletonList(bibEntry));
+    }
+
+    /**
+     * Inserts the given bibEntries into shared database. Entries which are already present on the shared database are
+     * skipped. The rows of all entries are sent in batches, so that the number of round trips does not grow with the
+     * number of entries and fields. The generated SHARED_IDs are set on the given entries.
+     *
+     * @param bibEntries {@link BibEntry BibEntries} to be inserted
+     */
+    public void insertEntries(List<BibEntry> bibEntries) {
+        List<BibEntry> notYetExistingEntries = getNotYetExistingEntries(bibEntries);
+        if (notYetExistingEntries.isEmpty()) {
+            return;
         }
 
+        insertIntoEntryTable(notYetExistingEntries);
+        insertIntoFieldTable(notYetExistingEntries);
+
+        List<Integer> sharedIDs = notYetExistingEntries.stream()
+                                                       .map(bibEntry -> bibEntry.getSharedBibEntryData().getSharedID())
+                                                       .filter(sharedID -> sharedID != -1)
+                                                       .collect(Collectors.toList());
+        if (sharedIDs.size() == notYetExistingEntries.size()) {
+            notifyClients(sharedIDs);
+        } else {
+            // Not every SHARED_ID is known, the clients fall back to fetch all changes since their last synchronization
+            notifyClients();
+        }
     }
 
     /**
@@ -176,64 +236,136 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Checks whether the given bibEntry already exists on shared database.
-     * @param bibEntry {@link BibEntry} to be checked
-     * @return <code>true</code> if existent, else <code>false</code>
+     * Inserts the given bibEntries into ENTRY table using a single batch.
+     * Needs to be overridden if the JDBC driver does not return generated keys for batches.
+     *
+     * @param bibEntries {@link BibEntry BibEntries} to be inserted
      */
-    private boolean checkForBibEntryExistence(BibEntry bibEntry) {
-        try {
-            // Check if already exists
-            int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
-            if (sharedID != -1) {
-                String selectQuery =
-                        "SELECT * FROM " +
-                                escape("ENTRY") +
-                                " WHERE " +
-                                escape("SHARED_ID") +
-                                " = ?";
-
-                try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery)) {
-                    preparedSelectStatement.setInt(1, sharedID);
-                    try (ResultSet resultSet = preparedSelectStatement.executeQuery()) {
-                        if (resultSet.next()) {
-                            return true;
-                        }
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+        String insertIntoEntryQuery =
+                "INSERT INTO " +
+                        escape("ENTRY") +
+                        "(" +
+                        escape("TYPE") +
+                        ") VALUES(?)";
+
+        try (PreparedStatement preparedEntryStatement = prepareInsertIntoEntryStatement(insertIntoEntryQuery)) {
+            for (BibEntry bibEntry : bibEntries) {
+                preparedEntryStatement.setString(1, bibEntry.getType().getName());
+                preparedEntryStatement.addBatch();
+            }
+            preparedEntryStatement.executeBatch();
+
+            try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
+                for (BibEntry bibEntry : bibEntries) {
+                    if (!generatedKeys.next()) {
+                        LOGGER.error("The database did not return a generated key for every inserted entry.");
+                        break;
                     }
+                    bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
                 }
             }
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
-        return false;
     }
 
     /**
-     * Inserts the given bibEntry into FIELD table.
+     * Prepares the statement used for inserting into ENTRY table, which has to return the generated SHARED_IDs.
+     */
+    protected PreparedStatement prepareInsertIntoEntryStatement(String insertIntoEntryQuery) throws SQLException {
+        return connection.prepareStatement(insertIntoEntryQuery, new String[] {"SHARED_ID"});
+    }
+
+    /**
+     * Filters the given bibEntries for the ones which are not present on shared database.
+     * Entries which never have been shared (SHARED_ID -1) are not looked up at all, all others are looked up in chunks
+     * of {@link #MAX_IN_LIST_SIZE} IDs.
+     */
+    private List<BibEntry> getNotYetExistingEntries(List<BibEntry> bibEntries) {
+        List<Integer> sharedIDs = bibEntries.stream()
+                                            .map(bibEntry -> bibEntry.getSharedBibEntryData().getSharedID())
+                                            .filter(sharedID -> sharedID != -1)
+                                            .collect(Collectors.toList());
+        if (sharedIDs.isEmpty()) {
+            return bibEntries;
+        }
+
+        Set<Integer> existingSharedIDs = new HashSet<>();
+        for (List<Integer> sharedIDsChunk : Lists.partition(sharedIDs, MAX_IN_LIST_SIZE)) {
+            StringBuilder selectQuery = new StringBuilder()
+                    .append("SELECT ")
+                    .append(escape("SHARED_ID"))
+                    .append(" FROM ")
+                    .append(escape("ENTRY"))
+                    .append(" WHERE ")
+                    .append(escape("SHARED_ID"))
+                    .append(" IN (")
+                    .append(sharedIDsChunk.stream().map(String::valueOf).collect(Collectors.joining(", ")))
+                    .append(")");
+
+            try (Statement selectStatement = connection.createStatement();
+                 ResultSet resultSet = selectStatement.executeQuery(selectQuery.toString())) {
+                while (resultSet.next()) {
+                    existingSharedIDs.add(resultSet.getInt("SHARED_ID"));
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+            }
+        }
+
+        return bibEntries.stream()
+                         .filter(bibEntry -> !existingSharedIDs.contains(bibEntry.getSharedBibEntryData().getSharedID()))
+                         .collect(Collectors.toList());
+    }
+
+    /**
+     * Inserts the fields of the given bibEntries into FIELD table.
+     * All rows are sent as one batch within a single transaction, reusing the same prepared statement.
      *
-     * @param bibEntry {@link BibEntry} to be inserted
+     * @param bibEntries {@link BibEntry BibEntries} to be inserted
      */
-    private void insertIntoFieldTable(BibEntry bibEntry) {
+    private void insertIntoFieldTable(List<BibEntry> bibEntries) {
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)");
+
         try {
-            // Inserting into FIELD table
-            for (Field field : bibEntry.getFields()) {
-                StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-
-                try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                    // columnIndex starts with 1
-                    preparedFieldStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
-                    preparedFieldStatement.setString(2, field.getName());
-                    preparedFieldStatement.setString(3, bibEntry.getField(field).get());
-                    preparedFieldStatement.executeUpdate();
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+
+            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+                int batchSize = 0;
+                for (BibEntry bibEntry : bibEntries) {
+                    for (Field field : bibEntry.getFields()) {
+                        // columnIndex starts with 1
+                        preparedFieldStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
+                        preparedFieldStatement.setString(2, field.getName());
+                        preparedFieldStatement.setString(3, bibEntry.getField(field).get());
+                        preparedFieldStatement.addBatch();
+                        batchSize++;
+
+                        if (batchSize == MAX_BATCH_SIZE) {
+                            preparedFieldStatement.executeBatch();
+                            batchSize = 0;
+                        }
+                    }
+                }
+                if (batchSize > 0) {
+                    preparedFieldStatement.executeBatch();
                 }
+                connection.commit(); // apply all changes in current transaction
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+                connection.rollback(); // undo changes made in current transaction
+            } finally {
+                connection.setAutoCommit(true); // enable auto commit mode again
             }
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
@@ -288,6 +420,7 @@ public abstract class DBMSProcessor {
                 }
 
                 connection.commit(); // apply all changes in current transaction
+                notifyClients(Collections.singletonList(localBibEntry.getSharedBibEntryData().getSharedID()));
 
             } else {
                 throw new OfflineLockException(localBibEntry, sharedBibEntry);
@@ -415,7 +548,7 @@ public abstract class DBMSProcessor {
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
-
+        notifyClients(Collections.singletonList(bibEntry.getSharedBibEntryData().getSharedID()));
     }
 
     /**
@@ -497,7 +630,8 @@ public abstract class DBMSProcessor {
             .append(" ORDER BY ")
             .append(escape("SHARED_ID"));
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery.toString())) {
+        try (Statement selectStatement = connection.createStatement();
+             ResultSet selectEntryResultSet = selectStatement.executeQuery(selectEntryQuery.toString())) {
             while (selectEntryResultSet.next()) {
                 sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
             }
@@ -508,6 +642,91 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Retrieves a mapping between the columns SHARED_ID and VERSION restricted to the given SHARED_IDs.
+     * IDs of entries which are not present on shared database are not contained in the result.
+     *
+     * @throws SQLException if the mapping could not be read completely. A partial mapping would let present entries
+     *                      look removed.
+     */
+    public Map<Integer, Integer> getSharedIDVersionMapping(Collection<Integer> sharedIDs) throws SQLException {
+        Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
+
+        for (List<Integer> sharedIDsChunk : Lists.partition(new ArrayList<>(sharedIDs), MAX_IN_LIST_SIZE)) {
+            StringBuilder selectEntryQuery = new StringBuilder()
+                .append("SELECT * FROM ")
+                .append(escape("ENTRY"))
+                .append(" WHERE ")
+                .append(escape("SHARED_ID"))
+                .append(" IN (")
+                .append(sharedIDsChunk.stream().map(String::valueOf).collect(Collectors.joining(", ")))
+                .append(")");
+
+            try (Statement selectStatement = connection.createStatement();
+                 ResultSet selectEntryResultSet = selectStatement.executeQuery(selectEntryQuery.toString())) {
+                while (selectEntryResultSet.next()) {
+                    sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
+                }
+            }
+        }
+
+        return sharedIDVersionMapping;
+    }
+
+    /**
+     * Retrieves the highest CHANGE_ID of the ENTRY_CHANGE table.
+     *
+     * @return the highest CHANGE_ID, <code>0</code> if no change was logged yet or <code>-1</code> if the change log
+     *         could not be read.
+     */
+    public long getLatestChangeID() {
+        StringBuilder selectQuery = new StringBuilder()
+            .append("SELECT MAX(")
+            .append(escape("CHANGE_ID"))
+            .append(") FROM ")
+            .append(escape("ENTRY_CHANGE"));
+
+        try (Statement selectStatement = connection.createStatement();
+             ResultSet resultSet = selectStatement.executeQuery(selectQuery.toString())) {
+            if (resultSet.next()) {
+                return resultSet.getLong(1); // 0 in case of SQL NULL
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+        return -1;
+    }
+
+    /**
+     * Retrieves the SHARED_IDs of all entries which were inserted, updated or removed after the given change.
+     *
+     * @param changeID CHANGE_ID of the last change already known
+     */
+    public Set<Integer> getChangedSharedIDs(long changeID) {
+        Set<Integer> changedSharedIDs = new HashSet<>();
+        StringBuilder selectQuery = new StringBuilder()
+            .append("SELECT DISTINCT ")
+            .append(escape("ENTRY_SHARED_ID"))
+            .append(" FROM ")
+            .append(escape("ENTRY_CHANGE"))
+            .append(" WHERE ")
+            .append(escape("CHANGE_ID"))
+            .append(" > ?");
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(selectQuery.toString())) {
+            preparedStatement.setLong(1, changeID);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    changedSharedIDs.add(resultSet.getInt("ENTRY_SHARED_ID"));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+
+        return changedSharedIDs;
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
@@ -614,4 +833,14 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS about changed entries.
+     * Needs to be overridden if the DBMS is able to pass the SHARED_IDs of the changed entries to the clients.
+     *
+     * @param sharedIDs SHARED_IDs of the inserted, updated or removed entries
+     */
+    public void notifyClients(@SuppressWarnings("unused") Collection<Integer> sharedIDs) {
+        notifyClients();
+    }
 }
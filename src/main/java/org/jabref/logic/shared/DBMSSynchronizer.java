@@ -3,11 +3,13 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.MetaDataSerializer;
@@ -20,7 +22,7 @@ import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.database.event.EntryAddedEvent;
+import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.database.shared.DatabaseConnection;
 import org.jabref.model.database.shared.DatabaseConnectionProperties;
@@ -48,6 +50,21 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSSynchronizer.class);
 
+    /**
+     * CHANGE_IDs are drawn from a sequence before the transaction is committed. Thus, a change committed late may have a
+     * lower CHANGE_ID than one already seen. Rereading the most recent changes covers the usual case of a few concurrent
+     * transactions, as entries with an already known version are not fetched again. Changes committed even later are
+     * found by the next full synchronization (see {@link #FULL_SYNCHRONIZATION_INTERVAL_NANOS}).
+     */
+    private static final long CHANGE_ID_OVERLAP = 50;
+
+    /**
+     * Interval after which all entries are compared again instead of the logged changes only. This finds the changes
+     * the change log does not cover: ones committed too late for {@link #CHANGE_ID_OVERLAP} and ones made while the
+     * triggers filling the change log could not be created.
+     */
+    private static final long FULL_SYNCHRONIZATION_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
     private DBMSProcessor dbmsProcessor;
     private String dbName;
     private final BibDatabaseContext bibDatabaseContext;
@@ -59,6 +76,16 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final GlobalBibtexKeyPattern globalCiteKeyPattern;
     private final FileUpdateMonitor fileMonitor;
 
+    /**
+     * CHANGE_ID of the shared change log up to which the local database is synchronized, -1 if not synchronized yet
+     */
+    private long lastSynchronizedChangeID = -1;
+
+    /**
+     * {@link System#nanoTime()} of the last synchronization comparing all entries
+     */
+    private long lastFullSynchronization;
+
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             GlobalBibtexKeyPattern globalCiteKeyPattern, FileUpdateMonitor fileMonitor) {
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
@@ -71,18 +98,19 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     }
 
     /**
-     * Listening method. Inserts a new {@link BibEntry} into shared database.
+     * Listening method. Inserts new {@link BibEntry BibEntries} into shared database.
+     * All entries added in one operation are inserted as one batch.
      *
-     * @param event {@link EntryAddedEvent} object
+     * @param event {@link EntriesAddedEvent} object
      */
     @Subscribe
-    public void listen(EntryAddedEvent event) {
+    public void listen(EntriesAddedEvent event) {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntryEvents may be posted.
         // In this case DBSynchronizer should not try to insert the bibEntry entry again (but it would not harm).
-        if (isEventSourceAccepted(event) && checkCurrentConnection()) {
+        if (isEventSourceAccepted(event.getEntryEventSource()) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
             synchronizeLocalDatabase(); // Pull changes for the case that there were some
-            dbmsProcessor.insertEntry(event.getBibEntry());
+            dbmsProcessor.insertEntries(event.getBibEntries());
         }
     }
 
@@ -152,11 +180,15 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
                 if (dbmsProcessor.checkForPare3Dot6Integrity()) {
                     throw new DatabaseNotSupportedException();
                 }
+            } else if (!dbmsProcessor.checkChangeLogIntegrity()) {
+                LOGGER.info("Shared database has no change log. Creating it...");
+                dbmsProcessor.setUpChangeLog();
             }
         } catch (SQLException e) {
             throw new IllegalStateException(e);
         }
 
+        lastSynchronizedChangeID = -1;
         dbmsProcessor.startNotificationListener(this);
         synchronizeLocalMetaData();
         synchronizeLocalDatabase();
@@ -165,6 +197,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     /**
      * Synchronizes the local database with shared one.
      * Possible update types are removal, update or insert of a {@link BibEntry}.
+     * <p>
+     * The first synchronization compares all entries. Afterwards only the entries logged in the shared change log since
+     * the last synchronization are compared, except for every {@link #FULL_SYNCHRONIZATION_INTERVAL_NANOS}, when all
+     * entries are compared again.
      */
     @Override
     public void synchronizeLocalDatabase() {
@@ -172,47 +208,116 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
-        List<BibEntry> localEntries = bibDatabase.getEntries();
+        // Read before the entries, so that changes made in the meantime are fetched again next time
+        long latestChangeID = dbmsProcessor.getLatestChangeID();
+
+        long now = System.nanoTime();
+        if ((lastSynchronizedChangeID < 0) || (latestChangeID < lastSynchronizedChangeID)
+                || ((now - lastFullSynchronization) >= FULL_SYNCHRONIZATION_INTERVAL_NANOS)) {
+            // initial synchronization, the change log was recreated or may have missed changes
+            synchronizeAllLocalEntries();
+            lastFullSynchronization = now;
+        } else if (latestChangeID > lastSynchronizedChangeID) {
+            synchronizeLocalEntries(dbmsProcessor.getChangedSharedIDs(lastSynchronizedChangeID - CHANGE_ID_OVERLAP));
+        }
+
+        lastSynchronizedChangeID = latestChangeID;
+    }
+
+    /**
+     * Compares all local entries with the shared ones.
+     */
+    private void synchronizeAllLocalEntries() {
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
-        removeNotSharedEntries(localEntries, idVersionMap.keySet());
+        removeNotSharedEntries(bibDatabase.getEntries(), idVersionMap.keySet());
+        pullSharedEntries(idVersionMap);
+    }
+
+    /**
+     * Synchronizes the local entries with the given SHARED_IDs with the shared ones.
+     * Entries not present locally are inserted, entries not present on shared database are removed.
+     */
+    private void synchronizeLocalEntries(Collection<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Integer> idVersionMap;
+        try {
+            idVersionMap = dbmsProcessor.getSharedIDVersionMapping(sharedIDs);
+        } catch (SQLException e) {
+            LOGGER.warn("Could not read the changed entries, comparing all entries instead", e);
+            synchronizeAllLocalEntries();
+            return;
+        }
+
+        List<BibEntry> removedEntries = new ArrayList<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            int sharedID = localEntry.getSharedBibEntryData().getSharedID();
+            if (sharedIDs.contains(sharedID) && !idVersionMap.containsKey(sharedID)) {
+                removedEntries.add(localEntry);
+            }
+        }
+        for (BibEntry removedEntry : removedEntries) {
+            eventBus.post(new SharedEntryNotPresentEvent(removedEntry));
+            bibDatabase.removeEntry(removedEntry, EntryEventSource.SHARED); // Should not reach the listeners above.
+        }
+
+        pullSharedEntries(idVersionMap);
+    }
+
+    /**
+     * Updates the local entries which have a lower version than the given one and inserts the ones not present locally.
+     *
+     * @param idVersionMap mapping between SHARED_ID and VERSION of the shared entries to be pulled
+     */
+    private void pullSharedEntries(Map<Integer, Integer> idVersionMap) {
+        Map<Integer, BibEntry> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            localEntriesBySharedID.put(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
+
+        List<Integer> entriesToUpdate = new ArrayList<>();
         List<Integer> entriesToDrag = new ArrayList<>();
         // compare versions and update local entry if needed
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean match = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey() == localEntry.getSharedBibEntryData().getSharedID()) {
-                    match = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntryEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            for (Field field : sharedEntry.get().getFields()) {
-                                localEntry.setField(field, sharedEntry.get().getField(field), EntryEventSource.SHARED);
-                            }
-
-                            Set<Field> redundantLocalEntryFields = localEntry.getFields();
-                            redundantLocalEntryFields.removeAll(sharedEntry.get().getFields());
-
-                            // remove not existing fields
-                            for (Field redundantField : redundantLocalEntryFields) {
-                                localEntry.clearField(redundantField, EntryEventSource.SHARED);
-                            }
-                        }
-                    }
-                }
-            }
-            if (!match) {
+            BibEntry localEntry = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (localEntry == null) {
                 entriesToDrag.add(idVersionEntry.getKey());
+            } else if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
+                entriesToUpdate.add(idVersionEntry.getKey());
             }
         }
 
-        for (BibEntry bibEntry : dbmsProcessor.getSharedEntries(entriesToDrag)) {
-            bibDatabase.insertEntry(bibEntry, EntryEventSource.SHARED);
+        // an empty list would fetch all shared entries
+        if (!entriesToUpdate.isEmpty()) {
+            for (BibEntry sharedEntry : dbmsProcessor.getSharedEntries(entriesToUpdate)) {
+                updateLocalEntry(localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID()), sharedEntry);
+            }
+        }
+        if (!entriesToDrag.isEmpty()) {
+            for (BibEntry bibEntry : dbmsProcessor.getSharedEntries(entriesToDrag)) {
+                bibDatabase.insertEntry(bibEntry, EntryEventSource.SHARED);
+            }
+        }
+    }
+
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntryEventSource.SHARED);
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        for (Field field : sharedEntry.getFields()) {
+            localEntry.setField(field, sharedEntry.getField(field), EntryEventSource.SHARED);
+        }
+
+        Set<Field> redundantLocalEntryFields = localEntry.getFields();
+        redundantLocalEntryFields.removeAll(sharedEntry.getFields());
+
+        // remove not existing fields
+        for (Field redundantField : redundantLocalEntryFields) {
+            localEntry.clearField(redundantField, EntryEventSource.SHARED);
         }
     }
 
@@ -324,6 +429,20 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         synchronizeLocalMetaData();
     }
 
+    /**
+     * Synchronizes the local BibEntries with the given SHARED_IDs, e.g. announced by a notification of the DBMS.
+     * The remaining entries are not compared.
+     *
+     * @param sharedIDs SHARED_IDs of the changed entries
+     */
+    public void pullChanges(Collection<Integer> sharedIDs) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+
+        synchronizeLocalEntries(sharedIDs);
+    }
+
     /**
      * Checks whether the current SQL connection is valid.
      * In case that the connection is not valid a new {@link ConnectionLostEvent} is going to be sent.
@@ -351,7 +470,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      * @return <code>true</code> if the event is able to trigger operations in {@link DBMSSynchronizer}, else <code>false</code>
      */
     public boolean isEventSourceAccepted(EntryEvent event) {
-        EntryEventSource eventSource = event.getEntryEventSource();
+        return isEventSourceAccepted(event.getEntryEventSource());
+    }
+
+    private boolean isEventSourceAccepted(EntryEventSource eventSource) {
         return ((eventSource == EntryEventSource.LOCAL) || (eventSource == EntryEventSource.UNDO));
     }
 
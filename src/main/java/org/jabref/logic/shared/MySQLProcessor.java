@@ -37,6 +37,36 @@ public class MySQLProcessor extends DBMSProcessor {
                 "CREATE TABLE IF NOT EXISTS `METADATA` (" +
                 "`KEY` varchar(255) NOT NULL," +
                 "`VALUE` text NOT NULL)");
+
+        setUpChangeLog();
+    }
+
+    @Override
+    protected void setUpChangeLog() throws SQLException {
+        // No foreign key, as removals of entries are logged as well
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `ENTRY_CHANGE` (" +
+                "`CHANGE_ID` BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT, " +
+                "`ENTRY_SHARED_ID` INT(11) NOT NULL)");
+
+        try {
+            // MySQL allows only one event per trigger
+            connection.createStatement().executeUpdate("DROP TRIGGER IF EXISTS `ENTRY_CHANGE_INSERT`");
+            connection.createStatement().executeUpdate(
+                    "CREATE TRIGGER `ENTRY_CHANGE_INSERT` AFTER INSERT ON `ENTRY` FOR EACH ROW " +
+                    "INSERT INTO `ENTRY_CHANGE` (`ENTRY_SHARED_ID`) VALUES (NEW.`SHARED_ID`)");
+            connection.createStatement().executeUpdate("DROP TRIGGER IF EXISTS `ENTRY_CHANGE_UPDATE`");
+            connection.createStatement().executeUpdate(
+                    "CREATE TRIGGER `ENTRY_CHANGE_UPDATE` AFTER UPDATE ON `ENTRY` FOR EACH ROW " +
+                    "INSERT INTO `ENTRY_CHANGE` (`ENTRY_SHARED_ID`) VALUES (NEW.`SHARED_ID`)");
+            connection.createStatement().executeUpdate("DROP TRIGGER IF EXISTS `ENTRY_CHANGE_DELETE`");
+            connection.createStatement().executeUpdate(
+                    "CREATE TRIGGER `ENTRY_CHANGE_DELETE` AFTER DELETE ON `ENTRY` FOR EACH ROW " +
+                    "INSERT INTO `ENTRY_CHANGE` (`ENTRY_SHARED_ID`) VALUES (OLD.`SHARED_ID`)");
+        } catch (SQLException e) {
+            // e.g., missing TRIGGER privilege, or binary logging without log_bin_trust_function_creators
+            LOGGER.warn("Could not create the triggers of the change log. Changes are found by full synchronizations only.", e);
+        }
     }
 
     @Override
@@ -2,10 +2,12 @@ package org.jabref.logic.shared;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 import java.util.Properties;
 
 import org.jabref.logic.shared.listener.OracleNotificationListener;
 import org.jabref.model.database.shared.DatabaseConnection;
+import org.jabref.model.entry.BibEntry;
 
 import oracle.jdbc.OracleConnection;
 import oracle.jdbc.OracleStatement;
@@ -16,6 +18,9 @@ import oracle.jdbc.dcn.DatabaseChangeRegistration;
  */
 public class OracleProcessor extends DBMSProcessor {
 
+    // ORA-00955: name is already used by an existing object
+    private static final int ORA_NAME_ALREADY_USED = 955;
+
     private OracleConnection oracleConnection;
 
     private OracleNotificationListener listener;
@@ -58,6 +63,58 @@ public class OracleProcessor extends DBMSProcessor {
                 "CREATE TABLE \"METADATA\" (" +
                 "\"KEY\"  VARCHAR2(255) NULL," +
                 "\"VALUE\"  CLOB NOT NULL)");
+
+        setUpChangeLog();
+    }
+
+    @Override
+    protected void setUpChangeLog() throws SQLException {
+        // Oracle has no "IF NOT EXISTS", thus objects left by an earlier setup are detected by the error code
+        // No foreign key, as removals of entries are logged as well
+        createIfNotExisting("CREATE TABLE \"ENTRY_CHANGE\" (" +
+                "\"CHANGE_ID\" NUMBER NOT NULL, " +
+                "\"ENTRY_SHARED_ID\" NUMBER NOT NULL, " +
+                "CONSTRAINT \"ENTRY_CHANGE_PK\" PRIMARY KEY (\"CHANGE_ID\"))");
+
+        createIfNotExisting("CREATE SEQUENCE \"ENTRY_CHANGE_SEQ\"");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE OR REPLACE TRIGGER \"ENTRY_CHANGE_T\" BEFORE INSERT ON \"ENTRY_CHANGE\" " +
+                    "FOR EACH ROW BEGIN SELECT \"ENTRY_CHANGE_SEQ\".NEXTVAL INTO :NEW.change_id FROM DUAL; END;");
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE OR REPLACE TRIGGER \"ENTRY_CHANGE_LOG_T\" " +
+                    "AFTER INSERT OR UPDATE OR DELETE ON \"ENTRY\" FOR EACH ROW BEGIN " +
+                    "IF DELETING THEN INSERT INTO \"ENTRY_CHANGE\" (\"ENTRY_SHARED_ID\") VALUES (:OLD.shared_id); " +
+                    "ELSE INSERT INTO \"ENTRY_CHANGE\" (\"ENTRY_SHARED_ID\") VALUES (:NEW.shared_id); END IF; END;");
+        } catch (SQLException e) {
+            LOGGER.warn("Could not create the triggers of the change log. Changes are found by full synchronizations only.", e);
+        }
+    }
+
+    /**
+     * Executes the given CREATE statement, ignoring the error that the object exists already
+     */
+    private void createIfNotExisting(String createStatement) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(createStatement);
+        } catch (SQLException e) {
+            if (e.getErrorCode() != ORA_NAME_ALREADY_USED) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * The Oracle JDBC driver does not return generated keys for batch inserts, thus the entries are inserted one by one.
+     * The fields are still inserted as batch.
+     */
+    @Override
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+        for (BibEntry bibEntry : bibEntries) {
+            insertIntoEntryTable(bibEntry);
+        }
     }
 
     @Override
@@ -4,6 +4,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.stream.Collectors;
 
 import org.jabref.JabRefExecutorService;
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
@@ -17,6 +19,16 @@ import org.postgresql.PGConnection;
  */
 public class PostgreSQLProcessor extends DBMSProcessor {
 
+    /**
+     * Separates the PROCESSOR_ID of the sender from the comma separated SHARED_IDs in the notification payload
+     */
+    public static final String NOTIFICATION_ID_SEPARATOR = ":";
+
+    /**
+     * Maximum number of SHARED_IDs passed with one notification, as the payload is limited to 8000 bytes
+     */
+    private static final int MAX_NOTIFICATION_IDS = 500;
+
     private PostgresSQLNotificationListener listener;
 
     public PostgreSQLProcessor(DatabaseConnection connection) {
@@ -46,6 +58,36 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                                                    "CREATE TABLE IF NOT EXISTS \"METADATA\" ("
                                                    + "\"KEY\" VARCHAR,"
                                                    + "\"VALUE\" TEXT)");
+
+        setUpChangeLog();
+    }
+
+    @Override
+    protected void setUpChangeLog() throws SQLException {
+        // No foreign key, as removals of entries are logged as well
+        connection.createStatement().executeUpdate(
+                                                   "CREATE TABLE IF NOT EXISTS \"ENTRY_CHANGE\" (" +
+                                                   "\"CHANGE_ID\" BIGSERIAL PRIMARY KEY, " +
+                                                   "\"ENTRY_SHARED_ID\" INTEGER NOT NULL)");
+
+        try {
+            connection.createStatement().executeUpdate(
+                                                       "CREATE OR REPLACE FUNCTION \"ENTRY_CHANGE_LOG\"() RETURNS TRIGGER AS $$ " +
+                                                       "BEGIN " +
+                                                       "IF (TG_OP = 'DELETE') THEN " +
+                                                       "INSERT INTO \"ENTRY_CHANGE\" (\"ENTRY_SHARED_ID\") VALUES (OLD.\"SHARED_ID\"); " +
+                                                       "ELSE " +
+                                                       "INSERT INTO \"ENTRY_CHANGE\" (\"ENTRY_SHARED_ID\") VALUES (NEW.\"SHARED_ID\"); " +
+                                                       "END IF; " +
+                                                       "RETURN NULL; " +
+                                                       "END; $$ LANGUAGE plpgsql");
+            connection.createStatement().executeUpdate("DROP TRIGGER IF EXISTS \"ENTRY_CHANGE_T\" ON \"ENTRY\"");
+            connection.createStatement().executeUpdate(
+                                                       "CREATE TRIGGER \"ENTRY_CHANGE_T\" AFTER INSERT OR UPDATE OR DELETE ON \"ENTRY\" " +
+                                                       "FOR EACH ROW EXECUTE PROCEDURE \"ENTRY_CHANGE_LOG\"()");
+        } catch (SQLException e) {
+            LOGGER.warn("Could not create the triggers of the change log. Changes are found by full synchronizations only.", e);
+        }
     }
 
     @Override
@@ -75,6 +117,11 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         }
     }
 
+    @Override
+    protected PreparedStatement prepareInsertIntoEntryStatement(String insertIntoEntryQuery) throws SQLException {
+        return connection.prepareStatement(insertIntoEntryQuery, Statement.RETURN_GENERATED_KEYS);
+    }
+
     @Override
     String escape(String expression) {
         return "\"" + expression + "\"";
@@ -115,4 +162,21 @@ public class PostgreSQLProcessor extends DBMSProcessor {
             LOGGER.error("SQL Error: ", e);
         }
     }
+
+    @Override
+    public void notifyClients(Collection<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty() || (sharedIDs.size() > MAX_NOTIFICATION_IDS)) {
+            // the clients fall back to fetch all changes since their last synchronization
+            notifyClients();
+            return;
+        }
+
+        String payload = PROCESSOR_ID + NOTIFICATION_ID_SEPARATOR
+                + sharedIDs.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + payload + "';");
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
 }
@@ -1,9 +1,12 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
+import org.jabref.logic.shared.PostgreSQLProcessor;
 
 import org.postgresql.PGConnection;
 import org.postgresql.PGNotification;
@@ -35,9 +38,7 @@ public class PostgresSQLNotificationListener implements Runnable {
 
                 if (notifications != null) {
                     for (PGNotification notification : notifications) {
-                        if (!notification.getName().equals(DBMSProcessor.PROCESSOR_ID)) {
-                            dbmsSynchronizer.pullChanges();
-                        }
+                        handleNotification(notification.getParameter());
                     }
                 }
 
@@ -49,6 +50,35 @@ public class PostgresSQLNotificationListener implements Runnable {
         }
     }
 
+    /**
+     * Pulls the changes announced by the payload of a notification. The payload consists of the PROCESSOR_ID of the
+     * sender, optionally followed by the SHARED_IDs of the changed entries. Without SHARED_IDs, all changes since the
+     * last synchronization are pulled.
+     */
+    private void handleNotification(String payload) {
+        String[] senderAndIDs = payload.split(PostgreSQLProcessor.NOTIFICATION_ID_SEPARATOR, 2);
+        if (senderAndIDs[0].equals(DBMSProcessor.PROCESSOR_ID)) {
+            return; // own changes are already present locally
+        }
+
+        if (senderAndIDs.length < 2) {
+            dbmsSynchronizer.pullChanges();
+            return;
+        }
+
+        Set<Integer> sharedIDs = new HashSet<>();
+        try {
+            for (String sharedID : senderAndIDs[1].split(",")) {
+                sharedIDs.add(Integer.parseInt(sharedID.trim()));
+            }
+        } catch (NumberFormatException exception) {
+            LOGGER.warn("Invalid notification payload " + payload, exception);
+            dbmsSynchronizer.pullChanges();
+            return;
+        }
+        dbmsSynchronizer.pullChanges(sharedIDs);
+    }
+
     public void stop() {
         stop = true;
     }
@@ -3,24 +3,44 @@ package org.jabref.logic.texparser;
 import java.io.IOException;
 import java.io.LineNumberReader;
 import java.io.UncheckedIOException;
-import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedByInterruptException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.jabref.model.texparser.Citation;
 import org.jabref.model.texparser.TexParser;
 import org.jabref.model.texparser.TexParserResult;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.tika.parser.txt.CharsetDetector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Parses TEX files for citations. The files of a project, including the files they include, are parsed concurrently.
+ * The result of each file is cached until the content of the file changes, so that a project is parsed quickly again.
+ */
 public class DefaultTexParser implements TexParser {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultTexParser.class);
@@ -44,6 +64,17 @@ public class DefaultTexParser implements TexParser {
     private static final Pattern INCLUDE_PATTERN = Pattern.compile(
             String.format("\\\\(?:include|input)\\{(?<%s>[^\\}]*)\\}", INCLUDE_GROUP));
 
+    private static final int MAXIMUM_CACHED_FILES = 2000;
+    // Results of the parsed files, shared by all parsers
+    private static final Cache<Path, ParsedFile> PARSED_FILES = CacheBuilder.newBuilder()
+                                                                            .maximumSize(MAXIMUM_CACHED_FILES)
+                                                                            .build();
+
+    // Reading files blocks, hence they are not parsed on the common fork join pool
+    private static final ExecutorService PARSER_EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()),
+            new ThreadFactoryBuilder().setNameFormat("TeX parser %d").setDaemon(true).build());
+
     private final TexParserResult texParserResult;
 
     public DefaultTexParser() {
@@ -56,7 +87,9 @@ public class DefaultTexParser implements TexParser {
 
     @Override
     public TexParserResult parse(String citeString) {
-        matchCitation(Paths.get(""), 1, citeString);
+        ImmutableListMultimap.Builder<String, Citation> citations = ImmutableListMultimap.builder();
+        matchCitation(Paths.get(""), 1, citeString, citations);
+        citations.build().forEach(texParserResult.getCitations()::put);
         return texParserResult;
     }
 
@@ -65,71 +98,170 @@ public class DefaultTexParser implements TexParser {
         return parse(Collections.singletonList(texFile));
     }
 
+    /**
+     * Parses the given files and all files included by them, recursively. Each file is only parsed once, even if it is
+     * included several times. The files of each level of inclusion are parsed concurrently.
+     *
+     * @return the result, or null if the calling thread was interrupted, e.g., because the search was cancelled
+     */
     @Override
     public TexParserResult parse(List<Path> texFiles) {
         texParserResult.addFiles(texFiles);
-        List<Path> referencedFiles = new ArrayList<>();
+        Set<Path> visitedFiles = new LinkedHashSet<>(texFiles);
+        List<Path> currentFiles = new ArrayList<>(visitedFiles);
 
-        for (Path file : texFiles) {
-            if (!file.toFile().exists()) {
-                LOGGER.error(String.format("File does not exist: %s", file));
-                continue;
+        while (!currentFiles.isEmpty()) {
+            Optional<List<ParsedFile>> parsedFiles = getParsedFiles(currentFiles);
+            if (!parsedFiles.isPresent()) {
+                LOGGER.error("Parsing has been interrupted");
+                return null;
             }
 
-            try (LineNumberReader lineNumberReader = new LineNumberReader(new CharsetDetector().setText(Files.readAllBytes(file)).detect().getReader())) {
-                for (String line = lineNumberReader.readLine(); line != null; line = lineNumberReader.readLine()) {
-                    // Skip comments and blank lines.
-                    if (line.trim().isEmpty() || line.trim().charAt(0) == '%') {
-                        continue;
+            // Parse all files referenced by TEX files in the next round.
+            List<Path> referencedFiles = new ArrayList<>();
+            for (ParsedFile parsedFile : parsedFiles.get()) {
+                parsedFile.citations.forEach(texParserResult.getCitations()::put);
+                for (Path nestedFile : parsedFile.nestedFiles) {
+                    if (nestedFile.toFile().exists() && visitedFiles.add(nestedFile)) {
+                        referencedFiles.add(nestedFile);
                     }
-                    matchCitation(file, lineNumberReader.getLineNumber(), line);
-                    matchNestedFile(file, texFiles, referencedFiles, line);
                 }
-            } catch (ClosedChannelException e) {
-                LOGGER.error("Parsing has been interrupted");
-                return null;
-            } catch (IOException | UncheckedIOException e) {
-                LOGGER.error("Error while parsing file {}", file, e);
             }
-        }
 
-        // Parse all files referenced by TEX files, recursively.
-        if (!referencedFiles.isEmpty()) {
-            parse(referencedFiles);
+            if (!referencedFiles.isEmpty()) {
+                texParserResult.addFiles(referencedFiles);
+            }
+            currentFiles = referencedFiles;
         }
 
         return texParserResult;
     }
 
+    /**
+     * Parses the given files on the parser threads and waits for them. If the calling thread is interrupted, the
+     * parsing is cancelled and an empty optional is returned.
+     */
+    private static Optional<List<ParsedFile>> getParsedFiles(List<Path> files) {
+        if (Thread.currentThread().isInterrupted()) {
+            return Optional.empty();
+        }
+
+        List<Future<Optional<ParsedFile>>> futures = new ArrayList<>(files.size());
+        for (Path file : files) {
+            futures.add(PARSER_EXECUTOR.submit(() -> getParsedFile(file)));
+        }
+
+        List<ParsedFile> parsedFiles = new ArrayList<>(files.size());
+        try {
+            for (Future<Optional<ParsedFile>> future : futures) {
+                future.get().ifPresent(parsedFiles::add);
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+        return Optional.of(parsedFiles);
+    }
+
+    /**
+     * Returns the cached result of the given file, or parses the file if it was not parsed yet or its content changed
+     * since. Reading a file is cheap compared to detecting its charset and parsing it, so the content is compared
+     * instead of the modification time, which is too coarse on some file systems to detect quick edits.
+     */
+    private static Optional<ParsedFile> getParsedFile(Path file) {
+        if (Thread.currentThread().isInterrupted()) {
+            // The search was cancelled
+            return Optional.empty();
+        }
+        if (!file.toFile().exists()) {
+            LOGGER.error(String.format("File does not exist: %s", file));
+            return Optional.empty();
+        }
+
+        try {
+            byte[] content = Files.readAllBytes(file);
+            HashCode contentHash = Hashing.murmur3_128().hashBytes(content);
+            ParsedFile cached = PARSED_FILES.getIfPresent(file);
+            if ((cached != null) && cached.contentHash.equals(contentHash)) {
+                return Optional.of(cached);
+            }
+
+            ParsedFile parsedFile = parseFile(file, content, contentHash);
+            PARSED_FILES.put(file, parsedFile);
+            return Optional.of(parsedFile);
+        } catch (ClosedByInterruptException e) {
+            // The search was cancelled
+            return Optional.empty();
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.error("Error while parsing file {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    private static ParsedFile parseFile(Path file, byte[] content, HashCode contentHash) throws IOException {
+        ImmutableListMultimap.Builder<String, Citation> citations = ImmutableListMultimap.builder();
+        ImmutableList.Builder<Path> nestedFiles = ImmutableList.builder();
+
+        try (LineNumberReader lineNumberReader = new LineNumberReader(new CharsetDetector().setText(content).detect().getReader())) {
+            for (String line = lineNumberReader.readLine(); line != null; line = lineNumberReader.readLine()) {
+                // Skip comments and blank lines.
+                if (line.trim().isEmpty() || line.trim().charAt(0) == '%') {
+                    continue;
+                }
+                matchCitation(file, lineNumberReader.getLineNumber(), line, citations);
+                matchNestedFile(file, line, nestedFiles);
+            }
+        }
+
+        return new ParsedFile(contentHash, citations.build(), nestedFiles.build());
+    }
+
     /**
      * Find cites along a specific line and store them.
      */
-    private void matchCitation(Path file, int lineNumber, String line) {
+    private static void matchCitation(Path file, int lineNumber, String line, ImmutableListMultimap.Builder<String, Citation> citations) {
         Matcher citeMatch = CITE_PATTERN.matcher(line);
 
         while (citeMatch.find()) {
             Arrays.stream(citeMatch.group(CITE_GROUP).split(","))
-                  .forEach(key -> texParserResult.addKey(key.trim(), file, lineNumber, citeMatch.start(), citeMatch.end(), line));
+                  .forEach(key -> citations.put(key.trim(), new Citation(file, lineNumber, citeMatch.start(), citeMatch.end(), line)));
         }
     }
 
     /**
      * Find inputs and includes along a specific line and store them for parsing later.
      */
-    private void matchNestedFile(Path file, List<Path> texFiles, List<Path> referencedFiles, String line) {
+    private static void matchNestedFile(Path file, String line, ImmutableList.Builder<Path> nestedFiles) {
         Matcher includeMatch = INCLUDE_PATTERN.matcher(line);
 
         while (includeMatch.find()) {
             String include = includeMatch.group(INCLUDE_GROUP);
 
-            Path nestedFile = file.getParent().resolve(
+            nestedFiles.add(file.getParent().resolve(
                     include.endsWith(TEX_EXT)
                             ? include
-                            : String.format("%s%s", include, TEX_EXT));
+                            : String.format("%s%s", include, TEX_EXT)));
+        }
+    }
 
-            if (nestedFile.toFile().exists() && !texFiles.contains(nestedFile)) {
-                referencedFiles.add(nestedFile);
-            }
+    /**
+     * The citations and included files of one version of a TEX file, identified by the hash of its content
+     */
+    private static class ParsedFile {
+
+        private final HashCode contentHash;
+        private final ImmutableListMultimap<String, Citation> citations;
+        private final List<Path> nestedFiles;
+
+        ParsedFile(HashCode contentHash, ImmutableListMultimap<String, Citation> citations, List<Path> nestedFiles) {
+            this.contentHash = contentHash;
+            this.citations = citations;
+            this.nestedFiles = nestedFiles;
         }
     }
 }
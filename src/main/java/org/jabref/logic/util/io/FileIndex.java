@@ -0,0 +1,365 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+
+import org.jabref.model.util.FileHelper;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of all files below a list of directories, so that files can be looked up by their name instead of walking the
+ * directory trees for every entry.
+ * <p>
+ * The index is built by one parallel walk through all directories. Afterwards, a {@link WatchService} keeps it up to
+ * date with files being created or deleted. Indexes are shared through {@link #of(List)}; only the most recently used
+ * ones are kept, the others are closed.
+ * <p>
+ * The watcher reports new files with a delay, and directories cannot be watched once the limit of watches of the
+ * operating system is reached. Thus, if the index does not know a matching file, the top level directories and the
+ * directories which are not watched are looked up directly.
+ */
+public class FileIndex implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileIndex.class);
+
+    private static final int MAX_INDEXES = 4;
+    private static final Cache<List<Path>, FileIndex> INDEXES = CacheBuilder.newBuilder()
+                                                                            .maximumSize(MAX_INDEXES)
+                                                                            .removalListener((RemovalListener<List<Path>, FileIndex>) notification -> notification.getValue().close())
+                                                                            .build();
+
+    private final List<Path> directories;
+    /**
+     * The directories which existed when the index was built
+     */
+    private final List<Path> indexedDirectories;
+
+    /**
+     * Replaced as a whole when the directories are scanned again, so that lookups meanwhile still find the files
+     */
+    private volatile IndexedFiles indexedFiles;
+
+    private final ConcurrentMap<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+    private final WatchService watchService;
+
+    // Called after the watcher updated the index, for testing
+    private volatile Runnable updateListener = () -> { };
+
+    private FileIndex(List<Path> directories) {
+        this.directories = directories;
+        this.indexedDirectories = directories.stream().filter(Files::isDirectory).collect(Collectors.toList());
+        this.watchService = openWatchService();
+
+        indexedFiles = scan(indexedDirectories);
+
+        if (watchService != null) {
+            Thread watcher = new Thread(this::processEvents, "FileIndex watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+        }
+    }
+
+    /**
+     * Returns the index of the given directories. It is built on the first call and reused afterwards, unless one of
+     * the directories was created or deleted in the meantime.
+     */
+    public static FileIndex of(List<Path> directories) throws IOException {
+        List<Path> key = new ArrayList<>(directories);
+        FileIndex index = INDEXES.getIfPresent(key);
+        if ((index != null) && !index.isCurrent()) {
+            INDEXES.invalidate(key);
+        }
+
+        try {
+            return INDEXES.get(key, () -> new FileIndex(key));
+        } catch (ExecutionException e) {
+            throw new IOException("Problem in indexing files of " + directories, e.getCause());
+        }
+    }
+
+    /**
+     * Closes all shared indexes
+     */
+    public static void closeAll() {
+        INDEXES.invalidateAll();
+    }
+
+    /**
+     * Returns all files whose name without extension is the given one and whose extension is one of the given ones.
+     */
+    public List<Path> findByBaseName(String baseName, List<String> extensions) {
+        List<Path> files = filter(indexedFiles.filesByBaseName.getOrDefault(baseName, Collections.emptySet()), extensions);
+        if (!files.isEmpty()) {
+            return files;
+        }
+
+        List<Path> notIndexedFiles = new ArrayList<>();
+        for (Path directory : getDirectoriesToLookUpDirectly()) {
+            for (String extension : extensions) {
+                Path file = directory.resolve(baseName + '.' + extension);
+                if (Files.exists(file) && !Files.isDirectory(file)) {
+                    notIndexedFiles.add(file);
+                }
+            }
+        }
+        return notIndexedFiles;
+    }
+
+    /**
+     * Returns all files whose name (including the extension) starts with the given prefix and whose extension is one
+     * of the given ones.
+     */
+    public List<Path> findByNamePrefix(String prefix, List<String> extensions) {
+        Collection<Set<Path>> matchingFiles = indexedFiles.filesByName.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values();
+        List<Path> files = filter(matchingFiles.stream().flatMap(Set::stream).collect(Collectors.toList()), extensions);
+        if (!files.isEmpty()) {
+            return files;
+        }
+
+        List<Path> notIndexedFiles = new ArrayList<>();
+        for (Path directory : getDirectoriesToLookUpDirectly()) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, file -> file.getFileName().toString().startsWith(prefix))) {
+                stream.forEach(notIndexedFiles::add);
+            } catch (IOException e) {
+                LOGGER.debug("Could not look up files in {}", directory, e);
+            }
+        }
+        return filter(notIndexedFiles, extensions).stream()
+                                                  .filter(file -> !Files.isDirectory(file))
+                                                  .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the directories in which files not known by the index are looked up: the top level directories, as files
+     * are most often added there, and all directories which are not watched.
+     */
+    private Set<Path> getDirectoriesToLookUpDirectly() {
+        Set<Path> directories = new LinkedHashSet<>(indexedDirectories);
+        directories.addAll(indexedFiles.unwatchedDirectories);
+        return directories;
+    }
+
+    private List<Path> filter(Collection<Path> files, List<String> extensions) {
+        // Deletions are reported asynchronously, hence files might have vanished without the index knowing yet
+        return files.stream()
+                    .filter(file -> extensions.contains(FileHelper.getFileExtension(file).orElse("")))
+                    .filter(Files::exists)
+                    .collect(Collectors.toList());
+    }
+
+    private boolean isCurrent() {
+        return directories.stream().allMatch(directory -> indexedDirectories.contains(directory) == Files.isDirectory(directory));
+    }
+
+    private WatchService openWatchService() {
+        try {
+            return FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Cannot watch directories for changes, the file index will not be updated", e);
+            return null;
+        }
+    }
+
+    private IndexedFiles scan(List<Path> roots) {
+        IndexedFiles files = new IndexedFiles();
+        scan(roots, files);
+        return files;
+    }
+
+    private void scan(List<Path> roots, IndexedFiles files) {
+        List<ScanTask> tasks = roots.stream().map(root -> new ScanTask(root, files)).collect(Collectors.toList());
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+
+    private static void addFile(IndexedFiles files, Path file) {
+        String name = file.getFileName().toString();
+        addTo(files.filesByName, name, file);
+        addTo(files.filesByBaseName, FileUtil.getBaseName(name), file);
+    }
+
+    private static void addTo(ConcurrentMap<String, Set<Path>> index, String key, Path file) {
+        // Adding inside compute ensures that a concurrent removal does not drop the set the file is added to
+        index.compute(key, (name, files) -> {
+            Set<Path> result = (files == null) ? ConcurrentHashMap.newKeySet() : files;
+            result.add(file);
+            return result;
+        });
+    }
+
+    private static void removeFile(IndexedFiles files, Path file) {
+        String name = file.getFileName().toString();
+        removeFrom(files.filesByName, name, file);
+        removeFrom(files.filesByBaseName, FileUtil.getBaseName(name), file);
+    }
+
+    private static void removeFrom(ConcurrentMap<String, Set<Path>> index, String key, Path file) {
+        index.computeIfPresent(key, (name, files) -> {
+            files.remove(file);
+            return files.isEmpty() ? null : files;
+        });
+    }
+
+    private static void removeDirectory(IndexedFiles files, Path directory) {
+        List<Path> containedFiles = files.filesByName.values().stream()
+                                                     .flatMap(Set::stream)
+                                                     .filter(file -> file.startsWith(directory))
+                                                     .collect(Collectors.toList());
+        containedFiles.forEach(file -> removeFile(files, file));
+        files.unwatchedDirectories.removeIf(unwatchedDirectory -> unwatchedDirectory.startsWith(directory));
+    }
+
+    private void watch(Path directory, IndexedFiles files) {
+        if (watchService == null) {
+            files.unwatchedDirectories.add(directory);
+            return;
+        }
+        try {
+            WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
+            watchedDirectories.put(key, directory);
+        } catch (IOException | ClosedWatchServiceException e) {
+            // e.g., the limit of inotify watches is reached
+            LOGGER.debug("Cannot watch directory {}", directory, e);
+            files.unwatchedDirectories.add(directory);
+        }
+    }
+
+    private void processEvents() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = watchedDirectories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                IndexedFiles files = indexedFiles;
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    LOGGER.debug("Missed changes in watched directories, scanning them again");
+                    // The old files are still found until the new ones are complete
+                    indexedFiles = scan(indexedDirectories);
+                } else if (directory != null) {
+                    Path path = directory.resolve((Path) event.context());
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                        if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                            scan(Collections.singletonList(path), files);
+                        } else if (!Files.isDirectory(path)) {
+                            addFile(files, path);
+                        }
+                    } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        removeFile(files, path);
+                        removeDirectory(files, path);
+                    }
+                }
+            }
+
+            if (!key.reset()) {
+                watchedDirectories.remove(key);
+            }
+            updateListener.run();
+        }
+    }
+
+    /**
+     * Sets the action to run after the watcher processed changes of a directory
+     */
+    void setUpdateListener(Runnable updateListener) {
+        this.updateListener = updateListener;
+    }
+
+    /**
+     * Stops watching the directories. The index is not updated anymore afterwards.
+     */
+    @Override
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.warn("Could not stop watching directories", e);
+            }
+        }
+    }
+
+    /**
+     * Indexes the files of one directory and forks a task for each of its subdirectories
+     */
+    private class ScanTask extends RecursiveAction {
+
+        private final Path directory;
+        private final IndexedFiles files;
+
+        ScanTask(Path directory, IndexedFiles files) {
+            this.directory = directory;
+            this.files = files;
+        }
+
+        @Override
+        protected void compute() {
+            // Register before listing, so that no file created in between is missed
+            watch(directory, files);
+
+            List<ScanTask> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path path : stream) {
+                    if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                        subdirectories.add(new ScanTask(path, files));
+                    } else if (!Files.isDirectory(path)) {
+                        // Links to directories are not followed
+                        addFile(files, path);
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Problem in indexing files of {}", directory, e);
+            }
+            invokeAll(subdirectories);
+        }
+    }
+
+    /**
+     * The files found by one scan of the directories, updated by the watcher afterwards
+     */
+    private static class IndexedFiles {
+
+        private final ConcurrentMap<String, Set<Path>> filesByBaseName = new ConcurrentHashMap<>();
+        /**
+         * Sorted by file name, so that all files starting with a prefix are found with a range query
+         */
+        private final ConcurrentNavigableMap<String, Set<Path>> filesByName = new ConcurrentSkipListMap<>();
+        private final Set<Path> unwatchedDirectories = ConcurrentHashMap.newKeySet();
+    }
+}
@@ -21,6 +21,7 @@ import java.util.stream.Collectors;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.database.event.EntryAddedEvent;
 import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.entry.BibEntry;
@@ -29,13 +30,14 @@ import org.jabref.model.entry.Month;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.EntryEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldChangedListener;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.SearchIndex;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,7 +51,10 @@ public class BibDatabase {
     /**
      * State attributes
      */
-    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
+    private final ObservableEntryList entryList = new ObservableEntryList();
+    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(entryList);
+    // Registered at every entry, so that the entries do not need an event bus
+    private final FieldChangedListener entryChangeRelay = this::relayEntryChangeEvent;
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
     /**
      * this is kept in sync with the database (upon adding/removing an entry, it is updated as well)
@@ -64,6 +69,14 @@ public class BibDatabase {
     // All file contents below the last entry in the file
     private String epilog = "";
     private String sharedDatabaseID;
+    /**
+     * created on first use, since most databases (e.g., during import) are never searched
+     */
+    private SearchIndex searchIndex;
+    /**
+     * created on first save
+     */
+    private SerializationCache serializationCache;
 
     public BibDatabase() {
         this.eventBus.register(duplicationChecker);
@@ -226,10 +239,13 @@ public class BibDatabase {
             }
 
             internalIDs.add(id);
-            entry.registerListener(this);
+            entry.addFieldChangedListener(entryChangeRelay);
 
             eventBus.post(new EntryAddedEvent(entry, eventSource));
         }
+        if (!newEntries.isEmpty()) {
+            eventBus.post(new EntriesAddedEvent(Collections.unmodifiableList(new ArrayList<>(newEntries)), eventSource));
+        }
         entries.addAll(newEntries);
     }
 
@@ -561,6 +577,7 @@ public class BibDatabase {
      * The following events are posted:
      *
      *   - {@link EntryAddedEvent}
+     *   - {@link EntriesAddedEvent}
      *   - {@link EntryChangedEvent}
      *   - {@link EntryRemovedEvent}
      *
@@ -583,8 +600,10 @@ public class BibDatabase {
         }
     }
 
-    @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        synchronized (entries) {
+            entryList.entryUpdated(event.getBibEntry());
+        }
         eventBus.post(event);
     }
 
@@ -621,4 +640,25 @@ public class BibDatabase {
     public DuplicationChecker getDuplicationChecker() {
         return duplicationChecker;
     }
+
+    /**
+     * Returns the search index of this database. The index is built on the first call and kept in sync with the
+     * database afterwards.
+     */
+    public synchronized SearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new SearchIndex(this);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns the cache of the serialized entries of this database, which is used to write only changed entries anew.
+     */
+    public synchronized SerializationCache getSerializationCache() {
+        if (serializationCache == null) {
+            serializationCache = new SerializationCache(this);
+        }
+        return serializationCache;
+    }
 }
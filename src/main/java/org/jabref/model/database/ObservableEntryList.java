@@ -0,0 +1,60 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * The entries of a database, which reports changes of an entry as an update of the list.
+ * <p>
+ * In contrast to a list created with an extractor, the list does not observe its entries itself, which would create
+ * the observables of every entry. Instead, the database reports changes of its entries via {@link #entryUpdated}.
+ */
+class ObservableEntryList extends ModifiableObservableListBase<BibEntry> {
+
+    private final List<BibEntry> entries = new ArrayList<>();
+
+    /**
+     * Notifies the listeners of this list that the given entry was changed. Has no effect if the entry is not contained.
+     */
+    void entryUpdated(BibEntry entry) {
+        beginChange();
+        try {
+            for (int i = 0; i < entries.size(); i++) {
+                if (entries.get(i) == entry) {
+                    nextUpdate(i);
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public BibEntry get(int index) {
+        return entries.get(index);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    protected void doAdd(int index, BibEntry entry) {
+        entries.add(index, entry);
+    }
+
+    @Override
+    protected BibEntry doSet(int index, BibEntry entry) {
+        return entries.set(index, entry);
+    }
+
+    @Override
+    protected BibEntry doRemove(int index) {
+        return entries.remove(index);
+    }
+}
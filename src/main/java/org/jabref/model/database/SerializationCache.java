@@ -0,0 +1,104 @@
+package org.jabref.model.database;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps the last serialization of each entry of a {@link BibDatabase}, so that writers only have to serialize the
+ * entries that changed since the last save.
+ * <p>
+ * A serialization is stored together with the configuration it was created with (for example, the database mode and
+ * the formatter preferences) and is only handed out again for an equal configuration. It is dropped as soon as a field
+ * of the entry changes or the entry is removed from the database.
+ * <p>
+ * Entries which do not belong to the database are never cached, since their changes are not reported to the cache.
+ * The cache may be read and filled from several threads at once.
+ */
+public class SerializationCache {
+
+    private final BibDatabase database;
+    private final ConcurrentMap<String, Serialization> serializations = new ConcurrentHashMap<>();
+    /**
+     * Number of invalidations of each entry, used to detect changes made while an entry was being serialized
+     */
+    private final ConcurrentMap<String, Long> generations = new ConcurrentHashMap<>();
+
+    public SerializationCache(BibDatabase database) {
+        this.database = database;
+        database.registerListener(this);
+    }
+
+    /**
+     * Returns the current generation of the given entry. It has to be read before serializing the entry and passed to
+     * {@link #put(BibEntry, Object, String, long)} afterwards.
+     */
+    public long getGeneration(BibEntry entry) {
+        return generations.getOrDefault(entry.getId(), 0L);
+    }
+
+    public Optional<String> get(BibEntry entry, Object configuration) {
+        Serialization serialization = serializations.get(entry.getId());
+        if ((serialization == null) || (serialization.entry != entry) || !serialization.configuration.equals(configuration)) {
+            return Optional.empty();
+        }
+        return Optional.of(serialization.content);
+    }
+
+    /**
+     * Stores the serialization of the given entry. It is discarded if the entry changed after the given generation was
+     * read.
+     */
+    public void put(BibEntry entry, Object configuration, String content, long generation) {
+        if (!database.containsEntryWithId(entry.getId())) {
+            return;
+        }
+
+        Serialization serialization = new Serialization(entry, Objects.requireNonNull(configuration), content);
+        serializations.put(entry.getId(), serialization);
+        // An invalidation running concurrently either sees the new serialization and removes it or has already
+        // increased the generation, which is detected here
+        if (getGeneration(entry) != generation) {
+            serializations.remove(entry.getId(), serialization);
+        }
+    }
+
+    public int size() {
+        return serializations.size();
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        invalidate(event.getBibEntry());
+    }
+
+    @Subscribe
+    public void listen(EntryRemovedEvent event) {
+        invalidate(event.getBibEntry());
+    }
+
+    private void invalidate(BibEntry entry) {
+        generations.merge(entry.getId(), 1L, Long::sum);
+        serializations.remove(entry.getId());
+    }
+
+    private static class Serialization {
+
+        private final BibEntry entry;
+        private final Object configuration;
+        private final String content;
+
+        Serialization(BibEntry entry, Object configuration, String content) {
+            this.entry = entry;
+            this.configuration = configuration;
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.jabref.model.database.event;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryEventSource;
+
+/**
+ * {@link EntriesAddedEvent} is fired once when one or more {@link BibEntry BibEntries} were added to the
+ * {@link BibDatabase} in a single operation. It is posted after the {@link EntryAddedEvent}s of the single entries and
+ * allows listeners to handle bulk insertions at once.
+ * <p>
+ * This event is not a {@link BibDatabaseContextChangedEvent}, since the change is already announced by the
+ * {@link EntryAddedEvent}s.
+ */
+public class EntriesAddedEvent {
+
+    private final List<BibEntry> bibEntries;
+    private final EntryEventSource location;
+
+    /**
+     * @param bibEntries the entries which have been added
+     * @param location   Location affected by this event
+     */
+    public EntriesAddedEvent(List<BibEntry> bibEntries, EntryEventSource location) {
+        this.bibEntries = Objects.requireNonNull(bibEntries);
+        this.location = Objects.requireNonNull(location);
+    }
+
+    public List<BibEntry> getBibEntries() {
+        return bibEntries;
+    }
+
+    public EntryEventSource getEntryEventSource() {
+        return location;
+    }
+}
@@ -8,9 +8,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
 /**
  * This is an immutable class representing information of either <CODE>author</CODE>
  * or <CODE>editor</CODE> field in bibtex record.
@@ -120,7 +123,15 @@ import java.util.stream.Collectors;
  */
 public class AuthorList {
 
-    private static final WeakHashMap<String, AuthorList> AUTHOR_CACHE = new WeakHashMap<>();
+    private static final int AUTHOR_CACHE_SIZE = 20_000;
+    /**
+     * Parsed author lists by the unprocessed field content. The cache is shared by all threads sorting, searching or
+     * formatting entries.
+     */
+    private static final Cache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+                                                                               .maximumSize(AUTHOR_CACHE_SIZE)
+                                                                               .recordStats()
+                                                                               .build();
     // Avoid partition where these values are contained
     private final static Collection<String> AVOID_TERMS_IN_LOWER_CASE = Arrays.asList("jr", "sr", "jnr", "snr", "von", "zu", "van", "der");
     private final List<Author> authors;
@@ -165,6 +176,24 @@ public class AuthorList {
     public static AuthorList parse(String authors) {
         Objects.requireNonNull(authors);
 
+        // The unprocessed string is the key, thus a cache hit skips the preprocessing of the names
+        AuthorList authorList = AUTHOR_CACHE.getIfPresent(authors);
+        if (authorList == null) {
+            AuthorListParser parser = new AuthorListParser();
+            authorList = parser.parse(normalizeCommaSeparatedNames(authors));
+            AUTHOR_CACHE.put(authors, authorList);
+        }
+        return authorList;
+    }
+
+    /**
+     * Returns the hit and miss counts of the cache used by {@link #parse(String)}.
+     */
+    public static CacheStats getCacheStatistics() {
+        return AUTHOR_CACHE.stats();
+    }
+
+    private static String normalizeCommaSeparatedNames(String authors) {
         // Handle case names in order lastname, firstname and separated by ","
         // E.g., Ali Babar, M., Dingsøyr, T., Lago, P., van der Vliet, H.
         final boolean authorsContainAND = authors.toUpperCase(Locale.ENGLISH).contains(" AND ");
@@ -208,14 +237,7 @@ public class AuthorList {
                 }
             }
         }
-
-        AuthorList authorList = AUTHOR_CACHE.get(authors);
-        if (authorList == null) {
-            AuthorListParser parser = new AuthorListParser();
-            authorList = parser.parse(authors);
-            AUTHOR_CACHE.put(authors, authorList);
-        }
-        return authorList;
+        return authors;
     }
 
     /**
@@ -1,9 +1,9 @@
 package org.jabref.model.entry;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +26,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.event.EntryEventSource;
 import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.event.FieldChangedListener;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.OrFields;
@@ -39,25 +40,42 @@ import com.google.common.eventbus.EventBus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * An entry of a library.
+ * <p>
+ * Libraries may contain hundreds of thousands of entries, thus an entry is kept small: by default, its fields and the
+ * caches derived from them are stored in {@link PackedFieldMap}s, and the event bus as well as the JavaFX observables
+ * are only created once they are requested. A database containing the entry is notified directly via a
+ * {@link FieldChangedListener}, so that entries which are neither shown nor edited need neither of them. Setting the
+ * system property {@value #FIELD_STORAGE_PROPERTY} to {@code hashed} stores the fields in hash maps instead.
+ */
 public class BibEntry implements Cloneable {
 
     public static final EntryType DEFAULT_TYPE = StandardEntryType.Misc;
+    public static final String FIELD_STORAGE_PROPERTY = "jabref.entry.fieldStorage";
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
     private static final Pattern REMOVE_TRAILING_WHITESPACE = Pattern.compile("\\s+$");
-    private final SharedBibEntryData sharedBibEntryData;
+    private static final boolean PACKED_FIELD_STORAGE = !"hashed".equals(System.getProperty(FIELD_STORAGE_PROPERTY));
+    private static final FieldChangedListener[] NO_FIELD_CHANGED_LISTENERS = new FieldChangedListener[0];
+    private volatile SharedBibEntryData sharedBibEntryData;
     /**
-     * Map to store the words in every field
+     * Map to store the words in every field, created on first use
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile Map<Field, Set<String>> fieldsAsWords;
     /**
-     * Cache that stores latex free versions of fields.
+     * Cache that stores latex free versions of fields, created on first use
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
-    private final EventBus eventBus = new EventBus();
+    private volatile Map<Field, String> latexFreeFields;
+    private volatile EventBus eventBus;
+    // Usually the databases containing this entry, replaced by a modified copy on change
+    private volatile FieldChangedListener[] fieldChangedListeners = NO_FIELD_CHANGED_LISTENERS;
     private String id;
-    private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
+    private volatile EntryType type = DEFAULT_TYPE;
+    private volatile ObjectProperty<EntryType> typeProperty;
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private final Map<Field, String> fields;
+    // Wraps the fields once they are observed, all changes of the fields have to go through this map then
+    private volatile ObservableMap<Field, String> observableFields;
     private String parsedSerialization = "";
     private String commentsBeforeEntry = "";
     /**
@@ -85,8 +103,8 @@ public class BibEntry implements Cloneable {
         Objects.requireNonNull(id, "Every BibEntry must have an ID");
 
         this.id = id;
+        this.fields = createFieldMap();
         setType(type);
-        this.sharedBibEntryData = new SharedBibEntryData();
     }
 
     /**
@@ -126,7 +144,7 @@ public class BibEntry implements Cloneable {
      */
     public Optional<String> getResolvedFieldOrAlias(Field field, BibDatabase database) {
         if (InternalField.TYPE_HEADER.equals(field) || InternalField.OBSOLETE_TYPE_HEADER.equals(field)) {
-            return Optional.of(type.get().getDisplayName());
+            return Optional.of(type.getDisplayName());
         }
 
         if (InternalField.KEY_FIELD.equals(field)) {
@@ -174,7 +192,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -215,11 +233,20 @@ public class BibEntry implements Cloneable {
      * Returns this entry's type.
      */
     public EntryType getType() {
-        return type.getValue();
+        return type;
     }
 
     public ObjectProperty<EntryType> typeProperty() {
-        return type;
+        if (typeProperty == null) {
+            synchronized (this) {
+                if (typeProperty == null) {
+                    ObjectProperty<EntryType> property = new SimpleObjectProperty<>(type);
+                    property.addListener((observable, oldValue, newValue) -> type = newValue);
+                    typeProperty = property;
+                }
+            }
+        }
+        return typeProperty;
     }
 
     /**
@@ -235,16 +262,20 @@ public class BibEntry implements Cloneable {
     public Optional<FieldChange> setType(EntryType newType, EntryEventSource eventSource) {
         Objects.requireNonNull(newType);
 
-        EntryType oldType = type.get();
+        EntryType oldType = type;
         if (newType.equals(oldType)) {
             return Optional.empty();
         }
 
-        this.type.setValue(newType);
+        this.type = newType;
+        ObjectProperty<EntryType> property = typeProperty;
+        if (property != null) {
+            property.setValue(newType);
+        }
         changed = true;
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        post(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -409,14 +440,14 @@ public class BibEntry implements Cloneable {
 
         changed = true;
 
-        fields.put(field, value.intern());
+        getWritableFields().put(field, value.intern());
         invalidateFieldCache(field);
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            post(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            post(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -463,11 +494,11 @@ public class BibEntry implements Cloneable {
 
         changed = true;
 
-        fields.remove(field);
+        getWritableFields().remove(field);
         invalidateFieldCache(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        post(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -491,8 +522,8 @@ public class BibEntry implements Cloneable {
      */
     @Override
     public Object clone() {
-        BibEntry clone = new BibEntry(IdGenerator.next(), type.getValue());
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        BibEntry clone = new BibEntry(IdGenerator.next(), type);
+        clone.fields.putAll(fields);
         return clone;
     }
 
@@ -647,10 +678,17 @@ public class BibEntry implements Cloneable {
     }
 
     public Map<Field, String> getFieldMap() {
-        return fields;
+        return getWritableFields();
     }
 
     public SharedBibEntryData getSharedBibEntryData() {
+        if (sharedBibEntryData == null) {
+            synchronized (this) {
+                if (sharedBibEntryData == null) {
+                    sharedBibEntryData = new SharedBibEntryData();
+                }
+            }
+        }
         return sharedBibEntryData;
     }
 
@@ -663,23 +701,67 @@ public class BibEntry implements Cloneable {
             return false;
         }
         BibEntry entry = (BibEntry) o;
-        return Objects.equals(type.getValue(), entry.type.getValue())
+        return Objects.equals(type, entry.type)
                 && Objects.equals(fields, entry.fields)
                 && Objects.equals(commentsBeforeEntry, entry.commentsBeforeEntry);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(type.getValue(), fields);
+        return Objects.hash(type, fields);
     }
 
     public void registerListener(Object object) {
+        if (eventBus == null) {
+            synchronized (this) {
+                if (eventBus == null) {
+                    eventBus = new EventBus();
+                }
+            }
+        }
         this.eventBus.register(object);
     }
 
+    /**
+     * Adds a listener that is notified directly about all changes of the fields of this entry. Adding the same
+     * listener twice has no effect.
+     */
+    public synchronized void addFieldChangedListener(FieldChangedListener listener) {
+        Objects.requireNonNull(listener);
+        FieldChangedListener[] current = fieldChangedListeners;
+        for (FieldChangedListener existing : current) {
+            if (existing == listener) {
+                return;
+            }
+        }
+
+        FieldChangedListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        fieldChangedListeners = updated;
+    }
+
+    public synchronized void removeFieldChangedListener(FieldChangedListener listener) {
+        FieldChangedListener[] current = fieldChangedListeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                FieldChangedListener[] updated = (current.length == 1) ? NO_FIELD_CHANGED_LISTENERS : new FieldChangedListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                fieldChangedListeners = updated;
+                return;
+            }
+        }
+    }
+
     public void unregisterListener(Object object) {
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus == null) {
+            // no listener was ever registered
+            return;
+        }
+
         try {
-            this.eventBus.unregister(object);
+            currentEventBus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
@@ -708,7 +790,8 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
-        Set<String> storedList = fieldsAsWords.get(field);
+        Map<Field, Set<String>> currentFieldsAsWords = fieldsAsWords;
+        Set<String> storedList = (currentFieldsAsWords == null) ? null : currentFieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
         } else {
@@ -717,7 +800,7 @@ public class BibEntry implements Cloneable {
                 return Collections.emptySet();
             } else {
                 HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
-                fieldsAsWords.put(field, words);
+                getFieldsAsWords().put(field, words);
                 return words;
             }
         }
@@ -728,31 +811,84 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+        Map<Field, String> currentLatexFreeFields = latexFreeFields;
+        if (currentLatexFreeFields != null) {
+            currentLatexFreeFields.remove(field);
+        }
+        Map<Field, Set<String>> currentFieldsAsWords = fieldsAsWords;
+        if (currentFieldsAsWords != null) {
+            currentFieldsAsWords.remove(field);
+        }
     }
 
     public Optional<String> getLatexFreeField(Field field) {
+        Map<Field, String> currentLatexFreeFields = latexFreeFields;
+        String cached = (currentLatexFreeFields == null) ? null : currentLatexFreeFields.get(field);
         if (!hasField(field) && !InternalField.TYPE_HEADER.equals(field)) {
             return Optional.empty();
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
+        } else if (cached != null) {
+            return Optional.of(cached);
         } else if (InternalField.KEY_FIELD.equals(field)) {
             // the key field should not be converted
             Optional<String> citeKey = getCiteKeyOptional();
-            latexFreeFields.put(field, citeKey.get());
+            getLatexFreeFields().put(field, citeKey.get());
             return citeKey;
         } else if (InternalField.TYPE_HEADER.equals(field)) {
-            String typeName = type.get().getDisplayName();
-            latexFreeFields.put(field, typeName);
+            String typeName = type.getDisplayName();
+            getLatexFreeFields().put(field, typeName);
             return Optional.of(typeName);
         } else {
             String latexFreeField = LatexToUnicodeAdapter.format(getField(field).get()).intern();
-            latexFreeFields.put(field, latexFreeField);
+            getLatexFreeFields().put(field, latexFreeField);
             return Optional.of(latexFreeField);
         }
     }
 
+    private static <V> Map<Field, V> createFieldMap() {
+        return PACKED_FIELD_STORAGE ? new PackedFieldMap<>() : new ConcurrentHashMap<>();
+    }
+
+    private Map<Field, String> getLatexFreeFields() {
+        if (latexFreeFields == null) {
+            synchronized (this) {
+                if (latexFreeFields == null) {
+                    latexFreeFields = createFieldMap();
+                }
+            }
+        }
+        return latexFreeFields;
+    }
+
+    private Map<Field, Set<String>> getFieldsAsWords() {
+        if (fieldsAsWords == null) {
+            synchronized (this) {
+                if (fieldsAsWords == null) {
+                    fieldsAsWords = createFieldMap();
+                }
+            }
+        }
+        return fieldsAsWords;
+    }
+
+    /**
+     * Returns the map through which the fields are changed, which is the observable map once it was requested
+     */
+    private Map<Field, String> getWritableFields() {
+        ObservableMap<Field, String> currentObservableFields = observableFields;
+        return (currentObservableFields == null) ? fields : currentObservableFields;
+    }
+
+    private void post(FieldChangedEvent event) {
+        for (FieldChangedListener listener : fieldChangedListeners) {
+            listener.fieldChanged(event);
+        }
+
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus != null) {
+            currentEventBus.post(event);
+        }
+    }
+
     public Optional<FieldChange> setFiles(List<LinkedFile> files) {
         Optional<String> oldValue = this.getField(StandardField.FILE);
         String newValue = FileFieldWriter.getStringRepresentation(files);
@@ -792,7 +928,7 @@ public class BibEntry implements Cloneable {
 
     public ObjectBinding<String> getFieldBinding(Field field) {
         //noinspection unchecked
-        return Bindings.valueAt(fields, field);
+        return Bindings.valueAt(getFieldsObservable(), field);
     }
 
     public ObjectBinding<String> getCiteKeyBinding() {
@@ -806,14 +942,21 @@ public class BibEntry implements Cloneable {
     }
 
     public ObservableMap<Field, String> getFieldsObservable() {
-        return fields;
+        if (observableFields == null) {
+            synchronized (this) {
+                if (observableFields == null) {
+                    observableFields = FXCollections.observableMap(fields);
+                }
+            }
+        }
+        return observableFields;
     }
 
     /**
      * Returns a list of observables that represent the data of the entry.
      */
     public Observable[] getObservables() {
-        return new Observable[] {fields};
+        return new Observable[] {getFieldsObservable()};
     }
 
     private interface GetFieldInterface {
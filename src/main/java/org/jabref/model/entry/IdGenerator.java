@@ -1,31 +1,41 @@
 package org.jabref.model.entry;
 
-import java.text.NumberFormat;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * IDs are at least 8 digit long. The lowest ID is 00000000, the next would be 00000001.
  * <p/>
- * The generator is thread safe!
+ * The generator is thread safe and does not lock, as an ID is created for every new entry.
  */
 public class IdGenerator {
 
-    private static final NumberFormat ID_FORMAT;
+    private static final int MINIMUM_DIGITS = 8;
 
-    static {
-        ID_FORMAT = NumberFormat.getInstance();
-        IdGenerator.ID_FORMAT.setMinimumIntegerDigits(8);
-        IdGenerator.ID_FORMAT.setGroupingUsed(false);
-    }
-
-    private static int idCounter;
+    private static final AtomicLong ID_COUNTER = new AtomicLong();
 
     private IdGenerator() {
     }
 
-    public static synchronized String next() {
-        String result = ID_FORMAT.format(idCounter);
-        idCounter++;
-        return result;
+    public static String next() {
+        return format(ID_COUNTER.getAndIncrement());
     }
 
+    /**
+     * Formats the given non-negative number with ASCII digits, padded with zeros to at least {@link #MINIMUM_DIGITS}
+     * digits.
+     */
+    static String format(long id) {
+        String digits = Long.toString(id);
+        int padding = MINIMUM_DIGITS - digits.length();
+        if (padding <= 0) {
+            return digits;
+        }
+
+        char[] result = new char[MINIMUM_DIGITS];
+        for (int i = 0; i < padding; i++) {
+            result[i] = '0';
+        }
+        digits.getChars(0, digits.length(), result, padding);
+        return new String(result);
+    }
 }
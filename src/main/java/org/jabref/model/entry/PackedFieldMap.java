@@ -0,0 +1,220 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * A compact map from fields to values, which stores its mappings in a single array. Entries have few fields, so a
+ * linear search is as fast as hashing while the map needs a fraction of the memory of a hash map.
+ * <p>
+ * The array is never modified once it is published: writers replace it by a modified copy. Hence, readers do not lock
+ * and iterate over a snapshot of the map, similar to the weakly consistent iterators of a
+ * {@link java.util.concurrent.ConcurrentHashMap}. Like the latter, the map does not permit null keys or values.
+ */
+final class PackedFieldMap<V> extends AbstractMap<Field, V> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    // Fields at even indices, each followed by its value
+    private volatile Object[] mappings = EMPTY;
+
+    PackedFieldMap() {
+    }
+
+    PackedFieldMap(Map<Field, ? extends V> map) {
+        putAll(map);
+    }
+
+    /**
+     * Returns the index of the given field in the given mappings, or -1 if it is not contained. Fields of different
+     * classes are never equal, just as in hash based maps where the hash codes of standard and unknown fields differ.
+     */
+    private static int indexOf(Object[] mappings, Object field) {
+        for (int i = 0; i < mappings.length; i += 2) {
+            Object candidate = mappings[i];
+            if ((candidate == field) || ((candidate.getClass() == field.getClass()) && candidate.equals(field))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return mappings.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return mappings.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object field) {
+        return (field != null) && (indexOf(mappings, field) >= 0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object field) {
+        if (field == null) {
+            return null;
+        }
+
+        Object[] current = mappings;
+        int index = indexOf(current, field);
+        return (index < 0) ? null : (V) current[index + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized V put(Field field, V value) {
+        if ((field == null) || (value == null)) {
+            throw new NullPointerException();
+        }
+
+        Object[] current = mappings;
+        int index = indexOf(current, field);
+        Object[] updated;
+        if (index < 0) {
+            updated = new Object[current.length + 2];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = field;
+            updated[current.length + 1] = value;
+            mappings = updated;
+            return null;
+        }
+
+        updated = current.clone();
+        updated[index + 1] = value;
+        mappings = updated;
+        return (V) current[index + 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(Object field) {
+        if (field == null) {
+            return null;
+        }
+
+        Object[] current = mappings;
+        int index = indexOf(current, field);
+        if (index < 0) {
+            return null;
+        }
+
+        Object[] updated = (current.length == 2) ? EMPTY : new Object[current.length - 2];
+        System.arraycopy(current, 0, updated, 0, index);
+        System.arraycopy(current, index + 2, updated, index, current.length - index - 2);
+        mappings = updated;
+        return (V) current[index + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        mappings = EMPTY;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super Field, ? super V> action) {
+        Object[] current = mappings;
+        for (int i = 0; i < current.length; i += 2) {
+            action.accept((Field) current[i], (V) current[i + 1]);
+        }
+    }
+
+    @Override
+    public Set<Entry<Field, V>> entrySet() {
+        return new AbstractSet<Entry<Field, V>>() {
+            @Override
+            public Iterator<Entry<Field, V>> iterator() {
+                return new SnapshotIterator(mappings);
+            }
+
+            @Override
+            public int size() {
+                return PackedFieldMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as the hash code defined by Map, but without creating entries
+        Object[] current = mappings;
+        int hashCode = 0;
+        for (int i = 0; i < current.length; i += 2) {
+            hashCode += current[i].hashCode() ^ current[i + 1].hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Map)) {
+            return false;
+        }
+
+        Map<?, ?> otherMap = (Map<?, ?>) other;
+        Object[] current = mappings;
+        if (otherMap.size() != (current.length / 2)) {
+            return false;
+        }
+        for (int i = 0; i < current.length; i += 2) {
+            if (!current[i + 1].equals(otherMap.get(current[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private class SnapshotIterator implements Iterator<Entry<Field, V>> {
+
+        private final Object[] snapshot;
+        private int next;
+        private Field last;
+
+        SnapshotIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<Field, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            last = (Field) snapshot[next];
+            Entry<Field, V> entry = new SimpleImmutableEntry<>(last, (V) snapshot[next + 1]);
+            next += 2;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            PackedFieldMap.this.remove(last);
+            last = null;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.jabref.model.entry.event;
+
+/**
+ * Is notified directly by an entry about changes of its fields. In contrast to listeners registered via
+ * {@link org.jabref.model.entry.BibEntry#registerListener(Object)}, this does not require an event bus per entry.
+ */
+@FunctionalInterface
+public interface FieldChangedListener {
+
+    void fieldChanged(FieldChangedEvent event);
+}
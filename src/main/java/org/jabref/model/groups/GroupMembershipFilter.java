@@ -0,0 +1,160 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.model.search.matchers.MatcherSet;
+import org.jabref.model.search.matchers.MatcherSets;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Decides whether an entry belongs to a combination of groups, for example to the selected groups in the group tree.
+ * <p>
+ * On creation, every group is matched once against all given entries and the results are stored in one bitset per
+ * group. The bitsets are then intersected or united, depending on the given {@link MatcherSets.MatcherType}, so that
+ * testing one of the given entries is a single bit lookup.
+ * <p>
+ * Entries which are not known to the filter (because they were added later on) are matched directly. The same holds
+ * for entries which changed after the creation of the filter, provided the filter is registered as listener for
+ * {@link FieldChangedEvent}s of the database. If too many entries changed, all entries are matched directly and the
+ * filter reports itself as outdated, so that it is created again.
+ */
+public class GroupMembershipFilter implements Predicate<BibEntry> {
+
+    /**
+     * Number of changed entries which are tracked before all entries are matched directly
+     */
+    static final int MAX_CHANGED_ENTRIES = 1000;
+
+    private final List<GroupTreeNode> groupNodes;
+    private final List<AbstractGroup> involvedGroups;
+    private final MatcherSets.MatcherType type;
+    private final MatcherSet matcher;
+    private final Map<BibEntry, Integer> positions = new IdentityHashMap<>();
+    private final BitSet members;
+    private final Set<BibEntry> changedEntries = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    private volatile boolean tooManyChangedEntries;
+
+    public GroupMembershipFilter(List<BibEntry> entries, List<GroupTreeNode> groups, MatcherSets.MatcherType type) {
+        groupNodes = new ArrayList<>(groups);
+        involvedGroups = getInvolvedGroups(groups);
+        this.type = type;
+        // The matcher of a group depends on the group hierarchy and is thus only built once
+        List<SearchMatcher> groupMatchers = groups.stream()
+                                                  .map(GroupTreeNode::getSearchMatcher)
+                                                  .collect(Collectors.toList());
+        matcher = MatcherSets.build(type);
+        groupMatchers.forEach(matcher::addRule);
+
+        for (int position = 0; position < entries.size(); position++) {
+            positions.put(entries.get(position), position);
+        }
+        members = computeMembers(entries, groupMatchers, type);
+    }
+
+    private static BitSet computeMembers(List<BibEntry> entries, List<SearchMatcher> groupMatchers, MatcherSets.MatcherType type) {
+        BitSet result = null;
+        for (SearchMatcher groupMatcher : groupMatchers) {
+            BitSet membersOfGroup = new BitSet(entries.size());
+            for (int position = 0; position < entries.size(); position++) {
+                if (groupMatcher.isMatch(entries.get(position))) {
+                    membersOfGroup.set(position);
+                }
+            }
+
+            if (result == null) {
+                result = membersOfGroup;
+            } else if (type == MatcherSets.MatcherType.AND) {
+                result.and(membersOfGroup);
+            } else {
+                result.or(membersOfGroup);
+            }
+        }
+
+        if (result == null) {
+            // Same semantics as an empty matcher set: everything is matched by AND, nothing by OR
+            result = new BitSet(entries.size());
+            if (type == MatcherSets.MatcherType.AND) {
+                result.set(0, entries.size());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the groups the matcher of the given nodes depends on, i.e., the groups of the nodes themselves, of their
+     * ancestors and of their descendants.
+     */
+    private static List<AbstractGroup> getInvolvedGroups(List<GroupTreeNode> groups) {
+        List<AbstractGroup> result = new ArrayList<>();
+        for (GroupTreeNode group : groups) {
+            for (GroupTreeNode ancestor : group.getPathFromRoot()) {
+                result.add(ancestor.getGroup());
+            }
+            addGroupsOfDescendants(group, result);
+        }
+        return result;
+    }
+
+    private static void addGroupsOfDescendants(GroupTreeNode node, List<AbstractGroup> result) {
+        for (GroupTreeNode child : node.getChildren()) {
+            result.add(child.getGroup());
+            addGroupsOfDescendants(child, result);
+        }
+    }
+
+    /**
+     * Checks whether this filter still describes the given groups. This is not the case if other groups are given,
+     * if one of the involved groups was edited (which replaces the group of its node) or if too many entries changed.
+     */
+    public boolean isUpToDate(List<GroupTreeNode> groups, MatcherSets.MatcherType type) {
+        if (tooManyChangedEntries || !groupNodes.equals(groups) || (this.type != type)) {
+            return false;
+        }
+
+        List<AbstractGroup> currentGroups = getInvolvedGroups(groups);
+        if (currentGroups.size() != involvedGroups.size()) {
+            return false;
+        }
+        for (int i = 0; i < currentGroups.size(); i++) {
+            // Groups are compared by content, but an edited group has to be matched again in any case
+            if (currentGroups.get(i) != involvedGroups.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean test(BibEntry entry) {
+        Integer position = positions.get(entry);
+        if ((position == null) || tooManyChangedEntries || changedEntries.contains(entry)) {
+            return matcher.isMatch(entry);
+        }
+        return members.get(position);
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        if (tooManyChangedEntries) {
+            return;
+        }
+
+        changedEntries.add(event.getBibEntry());
+        if (changedEntries.size() > MAX_CHANGED_ENTRIES) {
+            tooManyChangedEntries = true;
+            changedEntries.clear();
+        }
+    }
+}
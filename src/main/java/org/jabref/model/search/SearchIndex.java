@@ -0,0 +1,459 @@
+package org.jabref.model.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntryAddedEvent;
+import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.search.rules.ContainBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule;
+import org.jabref.model.search.rules.SearchRule;
+import org.jabref.model.search.rules.SentenceAnalyzer;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Inverted index from terms to the entries of a {@link BibDatabase}.
+ * <p>
+ * A term is a maximal run of letters and digits of the latex-free content of a field, case folded. The terms
+ * containing a token are found via a second index from the trigrams to the terms containing them. The index does not
+ * decide whether an entry matches a query: it only narrows down the set of entries that can possibly match. Every
+ * candidate still has to be checked with {@link SearchRule#applyRule(String, BibEntry)}. This keeps the semantics of
+ * the search rules (substring matching, case sensitivity, field restrictions) unchanged.
+ * <p>
+ * The index is kept in sync with the database by listening to {@link EntryAddedEvent}, {@link EntryRemovedEvent} and
+ * {@link FieldChangedEvent}.
+ */
+public class SearchIndex {
+
+    private static final String[] NO_TERMS = new String[0];
+    /**
+     * Length of the grams of the index from grams to terms. Shorter tokens are looked up by scanning all terms.
+     */
+    private static final int GRAM_SIZE = 3;
+
+    /**
+     * Entries by their ordinal. The ordinals are handed out in the order the entries are added, thus iterating over the
+     * ordinals preserves the order of the entries in the database. Removed entries leave a <code>null</code> hole.
+     */
+    private final List<BibEntry> entriesByOrdinal = new ArrayList<>();
+    private final Map<BibEntry, Integer> ordinals = new IdentityHashMap<>();
+    private final Map<BibEntry, String[]> termsOfEntry = new IdentityHashMap<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, Set<PostingList>> postingsByGram = new HashMap<>();
+    /**
+     * Value of {@link #modificationCount} when the entry with the given ordinal was last added or changed
+     */
+    private long[] modificationStamps = new long[16];
+    private long modificationCount;
+
+    public SearchIndex(BibDatabase database) {
+        database.getEntries().forEach(this::addEntry);
+        database.registerListener(this);
+    }
+
+    /**
+     * Determines the entries which might be matched by the given rule and query.
+     *
+     * @return the candidates in database order or an empty optional if the index cannot restrict the search for this
+     * kind of rule or query (in which case all entries have to be checked)
+     */
+    public synchronized Optional<List<BibEntry>> getCandidates(SearchRule rule, String query) {
+        return computeCandidates(rule, query).map(this::toEntries);
+    }
+
+    private Optional<BitSet> computeCandidates(SearchRule rule, String query) {
+        Optional<BitSet> candidates = Optional.empty();
+        if (rule instanceof ContainBasedSearchRule) {
+            candidates = getCandidatesContainingAll(new SentenceAnalyzer(query).getWords());
+        } else if (rule instanceof GrammarBasedSearchRule) {
+            GrammarBasedSearchRule grammarRule = (GrammarBasedSearchRule) rule;
+            if (grammarRule.validateSearchStrings(query)) {
+                candidates = new CandidateVisitor(grammarRule.isRegExpSearch()).visit(grammarRule.getTree());
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Determines the entries which might be matched by the given rule and query, like
+     * {@link #getCandidates(SearchRule, String)}. The returned filter stays valid when the database changes: entries
+     * which are added or changed later on are always accepted, so that the caller checks them again.
+     *
+     * @return an empty optional if the index cannot restrict the search for this kind of rule or query
+     */
+    public synchronized Optional<Predicate<BibEntry>> getCandidateFilter(SearchRule rule, String query) {
+        Optional<BitSet> candidates = computeCandidates(rule, query);
+        if (!candidates.isPresent()) {
+            return Optional.empty();
+        }
+
+        BitSet snapshot = candidates.get();
+        long snapshotModificationCount = modificationCount;
+        return Optional.of(entry -> {
+            synchronized (SearchIndex.this) {
+                Integer ordinal = ordinals.get(entry);
+                return (ordinal == null)
+                        || snapshot.get(ordinal)
+                        || (modificationStamps[ordinal] > snapshotModificationCount);
+            }
+        });
+    }
+
+    /**
+     * Returns the number of distinct terms stored in the index.
+     */
+    public synchronized int getNumberOfTerms() {
+        return postings.size();
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryAddedEvent event) {
+        addEntry(event.getBibEntry());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryRemovedEvent event) {
+        BibEntry entry = findIndexedEntry(event.getBibEntry());
+        Integer ordinal = ordinals.remove(entry);
+        if (ordinal == null) {
+            return;
+        }
+        for (String term : termsOfEntry.remove(entry)) {
+            removePosting(term, ordinal);
+        }
+        entriesByOrdinal.set(ordinal, null);
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        Integer ordinal = ordinals.get(entry);
+        if ((ordinal == null) || InternalField.INTERNAL_ID_FIELD.equals(event.getField())) {
+            return;
+        }
+
+        String[] oldTerms = termsOfEntry.get(entry);
+        String[] newTerms = extractTerms(entry);
+        for (String term : oldTerms) {
+            if (Arrays.binarySearch(newTerms, term) < 0) {
+                removePosting(term, ordinal);
+            }
+        }
+        for (int i = 0; i < newTerms.length; i++) {
+            if (Arrays.binarySearch(oldTerms, newTerms[i]) < 0) {
+                newTerms[i] = addPosting(newTerms[i], ordinal);
+            }
+        }
+        termsOfEntry.put(entry, newTerms);
+        modificationStamps[ordinal] = ++modificationCount;
+    }
+
+    /**
+     * The database removes entries by their id, thus the removed instance is not necessarily the indexed one.
+     */
+    private BibEntry findIndexedEntry(BibEntry entry) {
+        if (ordinals.containsKey(entry)) {
+            return entry;
+        }
+        return entriesByOrdinal.stream()
+                               .filter(indexedEntry -> (indexedEntry != null) && indexedEntry.getId().equals(entry.getId()))
+                               .findFirst()
+                               .orElse(entry);
+    }
+
+    private void addEntry(BibEntry entry) {
+        if (ordinals.containsKey(entry)) {
+            return;
+        }
+        int ordinal = entriesByOrdinal.size();
+        entriesByOrdinal.add(entry);
+        ordinals.put(entry, ordinal);
+        if (ordinal == modificationStamps.length) {
+            modificationStamps = Arrays.copyOf(modificationStamps, ordinal * 2);
+        }
+        modificationStamps[ordinal] = ++modificationCount;
+
+        String[] terms = extractTerms(entry);
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = addPosting(terms[i], ordinal);
+        }
+        termsOfEntry.put(entry, terms);
+    }
+
+    /**
+     * Adds the ordinal to the posting list of the term.
+     *
+     * @return the term instance used as key in the index, so that all entries share the same string instance
+     */
+    private String addPosting(String term, int ordinal) {
+        PostingList postingList = postings.get(term);
+        if (postingList == null) {
+            postingList = new PostingList(term);
+            postings.put(term, postingList);
+            for (String gram : getGrams(term)) {
+                postingsByGram.computeIfAbsent(gram, key -> new HashSet<>()).add(postingList);
+            }
+        }
+        postingList.add(ordinal);
+        return postingList.term;
+    }
+
+    private void removePosting(String term, int ordinal) {
+        PostingList postingList = postings.get(term);
+        if (postingList != null) {
+            postingList.remove(ordinal);
+            if (postingList.isEmpty()) {
+                postings.remove(term);
+                for (String gram : getGrams(term)) {
+                    Set<PostingList> postingsOfGram = postingsByGram.get(gram);
+                    postingsOfGram.remove(postingList);
+                    if (postingsOfGram.isEmpty()) {
+                        postingsByGram.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private List<BibEntry> toEntries(BitSet candidates) {
+        List<BibEntry> result = new ArrayList<>(candidates.cardinality());
+        for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+            BibEntry entry = entriesByOrdinal.get(ordinal);
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the entries which contain all of the given words (as substrings of their fields).
+     *
+     * @return an empty optional if the words put no restriction on the entries
+     */
+    private Optional<BitSet> getCandidatesContainingAll(Collection<String> words) {
+        BitSet result = null;
+        for (String word : words) {
+            for (String token : tokenize(word)) {
+                BitSet candidates = getCandidatesContaining(token);
+                if (result == null) {
+                    result = candidates;
+                } else {
+                    result.and(candidates);
+                }
+            }
+        }
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Returns the entries having at least one term containing the given token.
+     */
+    private BitSet getCandidatesContaining(String token) {
+        BitSet result = new BitSet(entriesByOrdinal.size());
+        for (PostingList postingList : getPostingsPossiblyContaining(token)) {
+            if (postingList.term.contains(token)) {
+                postingList.addTo(result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the posting lists of the terms which contain the rarest gram of the given token. Tokens shorter than
+     * {@link #GRAM_SIZE} have no gram, thus all posting lists are returned for them.
+     */
+    private Collection<PostingList> getPostingsPossiblyContaining(String token) {
+        if (token.length() < GRAM_SIZE) {
+            return postings.values();
+        }
+
+        Set<PostingList> result = Collections.emptySet();
+        boolean first = true;
+        for (String gram : getGrams(token)) {
+            Set<PostingList> postingsOfGram = postingsByGram.getOrDefault(gram, Collections.emptySet());
+            if (first || (postingsOfGram.size() < result.size())) {
+                result = postingsOfGram;
+                first = false;
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> getGrams(String term) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; (i + GRAM_SIZE) <= term.length(); i++) {
+            grams.add(term.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static String[] extractTerms(BibEntry entry) {
+        Set<String> terms = new TreeSet<>();
+        for (Field field : entry.getFields()) {
+            entry.getLatexFreeField(field).ifPresent(content -> terms.addAll(tokenize(content)));
+        }
+        return terms.isEmpty() ? NO_TERMS : terms.toArray(NO_TERMS);
+    }
+
+    /**
+     * Splits the given text into maximal runs of letters and digits and case folds them.
+     * <p>
+     * If a text is contained in another text, each token of the first text is contained in a token of the second text,
+     * regardless of case. This is the property the index relies on.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(Character.toUpperCase(c)));
+            } else if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * Sorted list of the ordinals of all entries containing a term.
+     */
+    private static class PostingList {
+
+        private final String term;
+        private int[] ordinals = new int[2];
+        private int size;
+
+        PostingList(String term) {
+            this.term = term;
+        }
+
+        void add(int ordinal) {
+            int position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (position >= 0) {
+                return;
+            }
+            int insertionPoint = -position - 1;
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            System.arraycopy(ordinals, insertionPoint, ordinals, insertionPoint + 1, size - insertionPoint);
+            ordinals[insertionPoint] = ordinal;
+            size++;
+        }
+
+        void remove(int ordinal) {
+            int position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ordinals, position + 1, ordinals, position, size - position - 1);
+            size--;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void addTo(BitSet bitSet) {
+            for (int i = 0; i < size; i++) {
+                bitSet.set(ordinals[i]);
+            }
+        }
+    }
+
+    /**
+     * Computes the candidates of a grammar based query. An empty optional stands for "all entries".
+     */
+    private class CandidateVisitor extends SearchBaseVisitor<Optional<BitSet>> {
+
+        private final boolean regex;
+
+        CandidateVisitor(boolean regex) {
+            this.regex = regex;
+        }
+
+        @Override
+        public Optional<BitSet> visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<BitSet> visitComparison(SearchParser.ComparisonContext context) {
+            String right = context.right.getText();
+            if (right.startsWith("\"") && right.endsWith("\"")) {
+                right = right.substring(1, right.length() - 1);
+            }
+
+            if (context.left == null) {
+                return getCandidatesContainingAll(new SentenceAnalyzer(right).getWords());
+            }
+
+            String field = context.left.getText().toLowerCase(Locale.ROOT);
+            GrammarBasedSearchRule.ComparisonOperator operator = GrammarBasedSearchRule.ComparisonOperator.build(context.operator.getText());
+            if (regex
+                    || (operator == GrammarBasedSearchRule.ComparisonOperator.DOES_NOT_CONTAIN)
+                    || InternalField.TYPE_HEADER.getName().equals(field)
+                    || "anykeyword".equals(field)) {
+                // Not covered by the terms of the index
+                return Optional.empty();
+            }
+            return getCandidatesContainingAll(Collections.singletonList(right));
+        }
+
+        @Override
+        public Optional<BitSet> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<BitSet> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<BitSet> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Optional<BitSet> left = visit(ctx.left);
+            Optional<BitSet> right = visit(ctx.right);
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                if (!left.isPresent()) {
+                    return right;
+                }
+                right.ifPresent(left.get()::and);
+                return left;
+            } else {
+                if (!left.isPresent() || !right.isPresent()) {
+                    return Optional.empty();
+                }
+                left.get().or(right.get());
+                return left;
+            }
+        }
+    }
+}
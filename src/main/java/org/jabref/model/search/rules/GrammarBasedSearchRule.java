@@ -1,12 +1,12 @@
 package org.jabref.model.search.rules;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
@@ -31,6 +31,8 @@ import org.slf4j.LoggerFactory;
  * The search query must be specified in an expression that is acceptable by the Search.g4 grammar.
  *
  * This class implements the "Advanced Search Mode" described in the help
+ * <p>
+ * A query is parsed and compiled into a predicate once, which is then applied to all entries.
  */
 public class GrammarBasedSearchRule implements SearchRule {
 
@@ -40,6 +42,7 @@ public class GrammarBasedSearchRule implements SearchRule {
     private final boolean regExpSearch;
 
     private ParseTree tree;
+    private Predicate<BibEntry> predicate;
     private String query;
 
     public static class ThrowingErrorListener extends BaseErrorListener {
@@ -92,13 +95,26 @@ public class GrammarBasedSearchRule implements SearchRule {
         parser.addErrorListener(ThrowingErrorListener.INSTANCE);
         parser.setErrorHandler(new BailErrorStrategy()); // ParseCancelationException on parse errors
         tree = parser.start();
+        predicate = compile(tree);
         this.query = query;
     }
 
+    /**
+     * Compiles the parsed query into a predicate. A query with an invalid regular expression matches no entry.
+     */
+    private Predicate<BibEntry> compile(ParseTree tree) {
+        try {
+            return new SearchQueryCompiler(caseSensitiveSearch, regExpSearch).visit(tree);
+        } catch (PatternSyntaxException e) {
+            LOGGER.debug("Search query contains invalid regular expression", e);
+            return entry -> false;
+        }
+    }
+
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
         try {
-            return new BibtexSearchVisitor(caseSensitiveSearch, regExpSearch, bibEntry).visit(tree);
+            return predicate.test(bibEntry);
         } catch (Exception e) {
             LOGGER.debug("Search failed", e);
             return false;
@@ -130,99 +146,138 @@ public class GrammarBasedSearchRule implements SearchRule {
         }
     }
 
+    /**
+     * Compares the fields of entries with a value. All patterns are compiled on construction, so that a comparator can
+     * be applied to many entries. Comparators are immutable and may be used by several threads at once.
+     */
     public static class Comparator {
 
+        private static final String ANY_FIELD = "anyfield";
+        private static final String ANY_KEYWORD = "anykeyword";
+
         private final ComparisonOperator operator;
-        private final Pattern fieldPattern;
-        private final Pattern valuePattern;
+        private final boolean caseSensitive;
+        private final String field;
+        private final Optional<Pattern> fieldPattern;
+        private final String value;
+        private final Optional<Pattern> valuePattern;
+        private final boolean searchesType;
+        private final boolean searchesKeywords;
+        private final boolean searchesAnyField;
+        // Whether a field is searched, determined once per field as entries share their fields
+        private final Map<Field, Boolean> searchedFields = new ConcurrentHashMap<>();
 
         public Comparator(String field, String value, ComparisonOperator operator, boolean caseSensitive, boolean regex) {
             this.operator = operator;
+            this.caseSensitive = caseSensitive;
+            this.field = field;
+            this.value = value;
 
+            // Plain values are compared without regular expressions
             int option = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
-            this.fieldPattern = Pattern.compile(regex ? field : "\\Q" + field + "\\E", option);
-            this.valuePattern = Pattern.compile(regex ? value : "\\Q" + value + "\\E", option);
+            this.fieldPattern = regex ? Optional.of(Pattern.compile(field, option)) : Optional.empty();
+            this.valuePattern = regex ? Optional.of(Pattern.compile(value, option)) : Optional.empty();
+
+            this.searchesType = matchFieldName(InternalField.TYPE_HEADER.getName());
+            this.searchesKeywords = matchFieldName(ANY_KEYWORD);
+            this.searchesAnyField = matchFieldName(ANY_FIELD);
         }
 
         public boolean compare(BibEntry entry) {
             // special case for searching for entrytype=phdthesis
-            if (fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches()) {
+            if (searchesType) {
                 return matchFieldValue(entry.getType().getName());
             }
 
             // special case for searching a single keyword
-            if (fieldPattern.matcher("anykeyword").matches()) {
+            if (searchesKeywords) {
                 return entry.getKeywords(',').stream().map(Keyword::toString).anyMatch(this::matchFieldValue);
             }
 
             // specification of fieldsKeys to search is done in the search expression itself
-            Set<Field> fieldsKeys = entry.getFields();
-
-            // special case for searching allfields=cat and title=dog
-            if (!fieldPattern.matcher("anyfield").matches()) {
-                // Filter out the requested fields
-                fieldsKeys = fieldsKeys.stream().filter(matchFieldKey()).collect(Collectors.toSet());
-            }
-
-            for (Field field : fieldsKeys) {
-                Optional<String> fieldValue = entry.getLatexFreeField(field);
-                if (fieldValue.isPresent()) {
-                    if (matchFieldValue(fieldValue.get())) {
+            boolean searchedFieldPresent = false;
+            for (Field entryField : entry.getFields()) {
+                // special case for searching allfields=cat and title=dog
+                if (searchesAnyField || searchedFields.computeIfAbsent(entryField, key -> matchFieldName(key.getName()))) {
+                    searchedFieldPresent = true;
+                    Optional<String> fieldValue = entry.getLatexFreeField(entryField);
+                    if (fieldValue.isPresent() && matchFieldValue(fieldValue.get())) {
                         return true;
                     }
                 }
             }
 
             // special case of asdf!=whatever and entry does not contain asdf
-            return fieldsKeys.isEmpty() && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
+            return !searchedFieldPresent && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
         }
 
-        private Predicate<Field> matchFieldKey() {
-            return field -> fieldPattern.matcher(field.getName()).matches();
+        private boolean matchFieldName(String fieldName) {
+            if (fieldPattern.isPresent()) {
+                return fieldPattern.get().matcher(fieldName).matches();
+            }
+            return caseSensitive ? field.equals(fieldName) : field.equalsIgnoreCase(fieldName);
         }
 
         public boolean matchFieldValue(String content) {
-            Matcher matcher = valuePattern.matcher(content);
             if (operator == ComparisonOperator.CONTAINS) {
-                return matcher.find();
+                return find(content);
             } else if (operator == ComparisonOperator.EXACT) {
-                return matcher.matches();
+                return matches(content);
             } else if (operator == ComparisonOperator.DOES_NOT_CONTAIN) {
-                return !matcher.find();
+                return !find(content);
             } else {
                 throw new IllegalStateException("MUST NOT HAPPEN");
             }
         }
 
+        private boolean find(String content) {
+            if (valuePattern.isPresent()) {
+                return valuePattern.get().matcher(content).find();
+            }
+            if (caseSensitive) {
+                return content.indexOf(value) >= 0;
+            }
+            return indexOfIgnoreCase(content, value) >= 0;
+        }
+
+        private boolean matches(String content) {
+            if (valuePattern.isPresent()) {
+                return valuePattern.get().matcher(content).matches();
+            }
+            return caseSensitive ? content.equals(value) : content.equalsIgnoreCase(value);
+        }
+
+        private static int indexOfIgnoreCase(String content, String searched) {
+            for (int i = 0; i <= (content.length() - searched.length()); i++) {
+                if (content.regionMatches(true, i, searched, 0, searched.length())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
     }
 
     /**
-     * Search results in boolean. It may be later on converted to an int.
+     * Compiles the parse tree of a query into a predicate on entries, which can be applied to many entries without
+     * visiting the tree again.
      */
-    static class BibtexSearchVisitor extends SearchBaseVisitor<Boolean> {
+    static class SearchQueryCompiler extends SearchBaseVisitor<Predicate<BibEntry>> {
 
         private final boolean caseSensitive;
         private final boolean regex;
 
-        private final BibEntry entry;
-
-        public BibtexSearchVisitor(boolean caseSensitive, boolean regex, BibEntry bibEntry) {
+        public SearchQueryCompiler(boolean caseSensitive, boolean regex) {
             this.caseSensitive = caseSensitive;
             this.regex = regex;
-            this.entry = bibEntry;
-        }
-
-        public boolean comparison(String field, ComparisonOperator operator, String value) {
-            return new Comparator(field, value, operator, caseSensitive, regex).compare(entry);
         }
 
         @Override
-        public Boolean visitStart(SearchParser.StartContext ctx) {
+        public Predicate<BibEntry> visitStart(SearchParser.StartContext ctx) {
             return visit(ctx.expression());
         }
 
         @Override
-        public Boolean visitComparison(SearchParser.ComparisonContext context) {
+        public Predicate<BibEntry> visitComparison(SearchParser.ComparisonContext context) {
             // remove possible enclosing " symbols
             String right = context.right.getText();
             if (right.startsWith("\"") && right.endsWith("\"")) {
@@ -231,28 +286,32 @@ public class GrammarBasedSearchRule implements SearchRule {
 
             Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
             if (fieldDescriptor.isPresent()) {
-                return comparison(fieldDescriptor.get().getText(), ComparisonOperator.build(context.operator.getText()), right);
+                Comparator comparator = new Comparator(fieldDescriptor.get().getText(), right,
+                        ComparisonOperator.build(context.operator.getText()), caseSensitive, regex);
+                return comparator::compare;
             } else {
-                return new ContainBasedSearchRule(caseSensitive).applyRule(right, entry);
+                ContainBasedSearchRule containBasedSearchRule = new ContainBasedSearchRule(caseSensitive);
+                String query = right;
+                return entry -> containBasedSearchRule.applyRule(query, entry);
             }
         }
 
         @Override
-        public Boolean visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
-            return !visit(ctx.expression()); // negate
+        public Predicate<BibEntry> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return visit(ctx.expression()).negate();
         }
 
         @Override
-        public Boolean visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        public Predicate<BibEntry> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
             return visit(ctx.expression()); // ignore parenthesis
         }
 
         @Override
-        public Boolean visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        public Predicate<BibEntry> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
             if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
-                return visit(ctx.left) && visit(ctx.right); // and
+                return visit(ctx.left).and(visit(ctx.right));
             } else {
-                return visit(ctx.left) || visit(ctx.right); // or
+                return visit(ctx.left).or(visit(ctx.right));
             }
         }
     }
@@ -27,6 +27,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.prefs.BackingStoreException;
 import java.util.prefs.InvalidPreferencesFormatException;
 import java.util.prefs.Preferences;
@@ -437,6 +440,11 @@ public class JabRefPreferences implements PreferencesService {
     public List<String> fileDirForDatabase;
     private final Preferences prefs;
     private GlobalBibtexKeyPattern keyPattern;
+    // Incremented on every change of the preferences, so that outdated snapshots are not used anymore
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<PreferencesSnapshot> snapshot = new AtomicReference<>();
+    private final LongAdder backingStoreReads = new LongAdder();
+    private final LongAdder snapshotBuilds = new LongAdder();
     // Object containing info about customized entry editor tabs.
     private Map<String, Set<Field>> tabList;
 
@@ -971,8 +979,8 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public void setCustomTabsNameAndFields(String name, String fields, int defNumber) {
-        prefs.put(CUSTOM_TAB_NAME + defNumber, name);
-        prefs.put(CUSTOM_TAB_FIELDS + defNumber, fields);
+        put(CUSTOM_TAB_NAME + defNumber, name);
+        put(CUSTOM_TAB_FIELDS + defNumber, fields);
     }
 
     private List<Field> getCustomTabFieldNames() {
@@ -1010,6 +1018,45 @@ public class JabRefPreferences implements PreferencesService {
         defaults.put(EMAIL_SUBJECT, Localization.lang("References"));
     }
 
+    private void preferencesChanged() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns the snapshot of the preferences which are used often, building it if the preferences changed since the
+     * last snapshot was built. Readers do not lock: a new snapshot is published atomically, and a snapshot is only
+     * published if the preferences did not change while it was built.
+     */
+    private PreferencesSnapshot getSnapshot() {
+        PreferencesSnapshot current = snapshot.get();
+        long currentVersion = version.get();
+        if ((current != null) && (current.version == currentVersion)) {
+            return current;
+        }
+
+        PreferencesSnapshot built = new PreferencesSnapshot(currentVersion);
+        snapshotBuilds.increment();
+        if (version.get() == currentVersion) {
+            snapshot.compareAndSet(current, built);
+        }
+        return built;
+    }
+
+    /**
+     * Returns how often preferences were read from the backing store.
+     */
+    public long getBackingStoreReadCount() {
+        return backingStoreReads.sum();
+    }
+
+    /**
+     * Returns how often the snapshot of often used preferences was built, i.e., how often it was requested after the
+     * preferences changed.
+     */
+    public long getSnapshotBuildCount() {
+        return snapshotBuilds.sum();
+    }
+
     /**
      * Check whether a key is set (differently from null).
      *
@@ -1017,26 +1064,30 @@ public class JabRefPreferences implements PreferencesService {
      * @return true if the key is set, false otherwise.
      */
     public boolean hasKey(String key) {
+        backingStoreReads.increment();
         return prefs.get(key, null) != null;
     }
 
     public String get(String key) {
+        backingStoreReads.increment();
         return prefs.get(key, (String) defaults.get(key));
     }
 
     public Optional<String> getAsOptional(String key) {
-        return Optional.ofNullable(prefs.get(key, (String) defaults.get(key)));
+        return Optional.ofNullable(get(key));
     }
 
     public String get(String key, String def) {
+        backingStoreReads.increment();
         return prefs.get(key, def);
     }
 
     public boolean getBoolean(String key) {
-        return prefs.getBoolean(key, getBooleanDefault(key));
+        return getBoolean(key, getBooleanDefault(key));
     }
 
     public boolean getBoolean(String key, boolean def) {
+        backingStoreReads.increment();
         return prefs.getBoolean(key, def);
     }
 
@@ -1045,10 +1096,12 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     public int getInt(String key) {
+        backingStoreReads.increment();
         return prefs.getInt(key, getIntDefault(key));
     }
 
     public double getDouble(String key) {
+        backingStoreReads.increment();
         return prefs.getDouble(key, getDoubleDefault(key));
     }
 
@@ -1062,26 +1115,31 @@ public class JabRefPreferences implements PreferencesService {
 
     public void put(String key, String value) {
         prefs.put(key, value);
+        preferencesChanged();
     }
 
     public void putBoolean(String key, boolean value) {
         prefs.putBoolean(key, value);
+        preferencesChanged();
     }
 
     public void putInt(String key, int value) {
         prefs.putInt(key, value);
+        preferencesChanged();
     }
 
     public void putInt(String key, Number value) {
-        prefs.putInt(key, value.intValue());
+        putInt(key, value.intValue());
     }
 
     public void putDouble(String key, double value) {
         prefs.putDouble(key, value);
+        preferencesChanged();
     }
 
     public void remove(String key) {
         prefs.remove(key);
+        preferencesChanged();
     }
 
     /**
@@ -1159,6 +1217,7 @@ public class JabRefPreferences implements PreferencesService {
      */
     public void putDefaultValue(String key, Object value) {
         defaults.put(key, value);
+        preferencesChanged();
     }
 
     /**
@@ -1182,10 +1241,11 @@ public class JabRefPreferences implements PreferencesService {
         clearKeyPatterns();
         prefs.clear();
         new SharedDatabasePreferences().clear();
+        preferencesChanged();
     }
 
     public void clear(String key) {
-        prefs.remove(key);
+        remove(key);
     }
 
     /**
@@ -1215,6 +1275,7 @@ public class JabRefPreferences implements PreferencesService {
     public GlobalBibtexKeyPattern getKeyPattern() {
         keyPattern = GlobalBibtexKeyPattern.fromPattern(get(DEFAULT_BIBTEX_KEY_PATTERN));
         Preferences pre = Preferences.userNodeForPackage(PREFS_BASE_CLASS).node(BIBTEX_KEY_PATTERNS_NODE);
+        backingStoreReads.increment();
         try {
             String[] keys = pre.keys();
             if (keys.length > 0) {
@@ -1252,6 +1313,7 @@ public class JabRefPreferences implements PreferencesService {
                 pre.put(entryType.getName(), pattern.getValue(entryType).get(0));
             }
         }
+        preferencesChanged();
     }
 
     private void clearKeyPatterns() throws BackingStoreException {
@@ -1398,6 +1460,7 @@ public class JabRefPreferences implements PreferencesService {
     public void importPreferences(Path file) throws JabRefException {
         try (InputStream is = Files.newInputStream(file)) {
             Preferences.importPreferences(is);
+            preferencesChanged();
         } catch (InvalidPreferencesFormatException | IOException ex) {
             throw new JabRefException("Could not import preferences", Localization.lang("Could not import preferences"),
                                       ex);
@@ -1459,13 +1522,21 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     public LatexFieldFormatterPreferences getLatexFieldFormatterPreferences() {
+        return getSnapshot().latexFieldFormatterPreferences;
+    }
+
+    private LatexFieldFormatterPreferences loadLatexFieldFormatterPreferences(FieldContentParserPreferences fieldContentParserPreferences) {
         return new LatexFieldFormatterPreferences(
                 getBoolean(RESOLVE_STRINGS_ALL_FIELDS),
                 getStringList(DO_NOT_RESOLVE_STRINGS_FOR).stream().map(FieldFactory::parseField).collect(Collectors.toList()),
-                getFieldContentParserPreferences());
+                fieldContentParserPreferences);
     }
 
     public FieldContentParserPreferences getFieldContentParserPreferences() {
+        return getSnapshot().fieldContentParserPreferences;
+    }
+
+    private FieldContentParserPreferences loadFieldContentParserPreferences() {
         return new FieldContentParserPreferences(getStringList(NON_WRAPPABLE_FIELDS).stream().map(FieldFactory::parseField).collect(Collectors.toList()));
     }
 
@@ -1477,8 +1548,14 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public ImportFormatPreferences getImportFormatPreferences() {
+        return getSnapshot().importFormatPreferences;
+    }
+
+    private ImportFormatPreferences loadImportFormatPreferences(BibtexKeyPatternPreferences bibtexKeyPatternPreferences,
+                                                                FieldContentParserPreferences fieldContentParserPreferences,
+                                                                XmpPreferences xmpPreferences) {
         return new ImportFormatPreferences(customImports, getDefaultEncoding(), getKeywordDelimiter(),
-                                           getBibtexKeyPatternPreferences(), getFieldContentParserPreferences(), getXMPPreferences(),
+                                           bibtexKeyPatternPreferences, fieldContentParserPreferences, xmpPreferences,
                                            isKeywordSyncEnabled());
     }
 
@@ -1531,6 +1608,10 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     public BibtexKeyPatternPreferences getBibtexKeyPatternPreferences() {
+        return getSnapshot().bibtexKeyPatternPreferences;
+    }
+
+    private BibtexKeyPatternPreferences loadBibtexKeyPatternPreferences() {
         return new BibtexKeyPatternPreferences(
                                                get(KEY_PATTERN_REGEX),
                                                get(KEY_PATTERN_REPLACEMENT),
@@ -1554,6 +1635,10 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public XmpPreferences getXMPPreferences() {
+        return getSnapshot().xmpPreferences;
+    }
+
+    private XmpPreferences loadXmpPreferences() {
         return new XmpPreferences(getBoolean(USE_XMP_PRIVACY_FILTER), getStringList(XMP_PRIVACY_FILTERS).stream().map(FieldFactory::parseField).collect(Collectors.toList()),
                                   getKeywordDelimiter());
     }
@@ -1584,6 +1669,10 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     private NameFormatterPreferences getNameFormatterPreferences() {
+        return getSnapshot().nameFormatterPreferences;
+    }
+
+    private NameFormatterPreferences loadNameFormatterPreferences() {
         return new NameFormatterPreferences(getStringList(NAME_FORMATER_KEY), getStringList(NAME_FORMATTER_VALUE));
     }
 
@@ -2147,4 +2236,29 @@ public class JabRefPreferences implements PreferencesService {
         // we also have to change Globals variable as globals is not a getter, but a constant
         OS.NEWLINE = escapeChars;
     }
+
+    /**
+     * Immutable preference objects which are requested often, e.g. once per imported file, built from one version of
+     * the preferences.
+     */
+    private class PreferencesSnapshot {
+
+        private final long version;
+        private final FieldContentParserPreferences fieldContentParserPreferences;
+        private final LatexFieldFormatterPreferences latexFieldFormatterPreferences;
+        private final XmpPreferences xmpPreferences;
+        private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
+        private final ImportFormatPreferences importFormatPreferences;
+        private final NameFormatterPreferences nameFormatterPreferences;
+
+        PreferencesSnapshot(long version) {
+            this.version = version;
+            fieldContentParserPreferences = loadFieldContentParserPreferences();
+            latexFieldFormatterPreferences = loadLatexFieldFormatterPreferences(fieldContentParserPreferences);
+            xmpPreferences = loadXmpPreferences();
+            bibtexKeyPatternPreferences = loadBibtexKeyPatternPreferences();
+            importFormatPreferences = loadImportFormatPreferences(bibtexKeyPatternPreferences, fieldContentParserPreferences, xmpPreferences);
+            nameFormatterPreferences = loadNameFormatterPreferences();
+        }
+    }
 }
@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -116,4 +117,30 @@ public class BibEntrySuggestionProviderTest {
         Collection<BibEntry> result = autoCompleter.call(getRequest(("k")));
         assertEquals(Collections.singletonList(entry), result);
     }
+
+    @Test
+    public void completeChangedKeyAfterIndexingAgainReturnsEntry() {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("oldKey");
+        autoCompleter.indexEntry(entry);
+
+        entry.setCiteKey("newKey");
+        autoCompleter.indexField(entry, InternalField.KEY_FIELD);
+
+        assertEquals(Collections.singletonList(entry), autoCompleter.call(getRequest(("newKey"))));
+        assertEquals(Collections.emptyList(), autoCompleter.call(getRequest(("oldKey"))));
+    }
+
+    @Test
+    public void completeKeyOfEntriesWithSameContentReturnsBoth() {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("testKey");
+        BibEntry sameEntry = new BibEntry();
+        sameEntry.setCiteKey("testKey");
+        autoCompleter.indexEntry(entry);
+        autoCompleter.indexEntry(sameEntry);
+
+        Collection<BibEntry> result = autoCompleter.call(getRequest(("testKey")));
+        assertEquals(2, result.size());
+    }
 }
@@ -0,0 +1,70 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SuggestionIndexTest {
+
+    private SuggestionIndex<String> index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new SuggestionIndex<>(Function.identity());
+        for (String suggestion : Arrays.asList("Knuth", "Kernighan", "Ritchie", "Dijkstra", "Hoare")) {
+            index.add(suggestion);
+        }
+    }
+
+    @Test
+    public void findShortInputInAllSuggestions() {
+        assertEquals(Arrays.asList("Dijkstra", "Kernighan", "Knuth"), index.find("k", Comparator.naturalOrder(), 10));
+    }
+
+    @Test
+    public void findLongInputIgnoringCase() {
+        assertEquals(Collections.singletonList("Ritchie"), index.find("TCHI", Comparator.naturalOrder(), 10));
+    }
+
+    @Test
+    public void findInputInMiddleOfSuggestion() {
+        assertEquals(Collections.singletonList("Kernighan"), index.find("nigh", Comparator.naturalOrder(), 10));
+    }
+
+    @Test
+    public void findReturnsNothingForUnknownTrigram() {
+        assertEquals(Collections.emptyList(), index.find("xyz", Comparator.naturalOrder(), 10));
+    }
+
+    @Test
+    public void findReturnsNothingIfTrigramsAreNotAdjacent() {
+        // "knu" and "uth" are both present, but "knuuth" is not contained
+        assertEquals(Collections.emptyList(), index.find("knuuth", Comparator.naturalOrder(), 10));
+    }
+
+    @Test
+    public void findReturnsOnlyBestSuggestionsInRankingOrder() {
+        assertEquals(Arrays.asList("Ritchie", "Knuth"), index.find("h", Comparator.reverseOrder(), 2));
+    }
+
+    @Test
+    public void addingSuggestionTwiceStoresItOnce() {
+        index.add("Knuth");
+
+        assertEquals(5, index.size());
+        assertEquals(Collections.singletonList("Knuth"), index.find("knuth", Comparator.naturalOrder(), 10));
+    }
+
+    @Test
+    public void clearRemovesAllSuggestions() {
+        index.clear();
+
+        assertEquals(Collections.emptyList(), index.find("k", Comparator.naturalOrder(), 10));
+    }
+}
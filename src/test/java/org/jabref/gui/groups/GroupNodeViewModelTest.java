@@ -1,11 +1,17 @@
 package org.jabref.gui.groups;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 
 import org.jabref.gui.StateManager;
+import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.CurrentThreadTaskExecutor;
 import org.jabref.gui.util.CustomLocalDragboard;
 import org.jabref.gui.util.TaskExecutor;
@@ -166,6 +172,38 @@ public class GroupNodeViewModelTest {
         assertEquals(groupName, entry.getField(InternalField.GROUPS).get());
     }
 
+    @Test
+    public void hitsAreUpdatedOnEntryChanges() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "search");
+        databaseContext.getDatabase().insertEntry(entry);
+        assertEquals(1, viewModel.getHits().get());
+
+        entry.setField(StandardField.TITLE, "find");
+        assertEquals(0, viewModel.getHits().get());
+
+        entry.setField(StandardField.TITLE, "search");
+        databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.TITLE, "search"));
+        assertEquals(2, viewModel.getHits().get());
+
+        databaseContext.getDatabase().removeEntry(entry);
+        assertEquals(1, viewModel.getHits().get());
+    }
+
+    @Test
+    public void hitsAreCorrectIfUpdatesFinishInReverseOrder() {
+        DeferringTaskExecutor deferringExecutor = new DeferringTaskExecutor();
+        GroupNodeViewModel model = new GroupNodeViewModel(databaseContext, stateManager, deferringExecutor,
+                new WordKeywordGroup("Test group", GroupHierarchyType.INDEPENDENT, StandardField.TITLE, "search", true, ',', false),
+                new CustomLocalDragboard());
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "search");
+        databaseContext.getDatabase().insertEntry(entry);
+        databaseContext.getDatabase().removeEntry(entry);
+
+        deferringExecutor.runInReverseOrder();
+
+        assertEquals(0, model.getHits().get());
+    }
+
     private GroupNodeViewModel getViewModelForGroup(AbstractGroup group) {
         return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, group, new CustomLocalDragboard());
     }
@@ -173,4 +211,37 @@ public class GroupNodeViewModelTest {
     private GroupNodeViewModel getViewModelForGroup(GroupTreeNode group) {
         return new GroupNodeViewModel(databaseContext, stateManager, taskExecutor, group, new CustomLocalDragboard());
     }
+
+    /**
+     * Runs the submitted tasks only on request, and then in reverse order
+     */
+    private static class DeferringTaskExecutor implements TaskExecutor {
+
+        private final List<BackgroundTask<?>> tasks = new ArrayList<>();
+        private final TaskExecutor delegate = new CurrentThreadTaskExecutor();
+
+        @Override
+        public <V> Future<V> execute(BackgroundTask<V> task) {
+            tasks.add(task);
+            return null;
+        }
+
+        @Override
+        public <V> Future<V> execute(Task<V> task) {
+            return task;
+        }
+
+        @Override
+        public void shutdown() {
+            // Nothing to do here
+        }
+
+        void runInReverseOrder() {
+            Collections.reverse(tasks);
+            for (BackgroundTask<?> task : tasks) {
+                delegate.execute(task);
+            }
+            tasks.clear();
+        }
+    }
 }
@@ -0,0 +1,139 @@
+package org.jabref.gui.util;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.model.util.FileUpdateListener;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Modifications are reported to the monitor directly and the quiet period is ended by
+ * {@link DefaultFileUpdateMonitor#notifyPendingChanges()}, so that the tests do not depend on timing.
+ */
+class DefaultFileUpdateMonitorTest {
+
+    // Long enough to never pass during a test
+    private static final Duration QUIET_PERIOD = Duration.ofHours(1);
+
+    private final FileUpdateListener listener = mock(FileUpdateListener.class);
+    private WatchService watchService;
+    private DefaultFileUpdateMonitor monitor;
+    private Path file;
+
+    @BeforeEach
+    void setUp(@TempDir Path folder) throws Exception {
+        file = Files.write(folder.resolve("library.bib"), "@Article{a,}".getBytes(StandardCharsets.UTF_8));
+        watchService = FileSystems.getDefault().newWatchService();
+        monitor = new DefaultFileUpdateMonitor(QUIET_PERIOD, watchService);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        watchService.close();
+    }
+
+    @Test
+    void modificationsWithinQuietPeriodAreReportedOnce() throws Exception {
+        monitor.addListenerForFile(file, listener);
+
+        modify("@Article{b,}");
+        modify("@Article{c,}");
+        modify("@Article{d,}");
+        monitor.notifyPendingChanges();
+        monitor.notifyPendingChanges();
+
+        verify(listener, times(1)).fileUpdated();
+    }
+
+    @Test
+    void modificationIsNotReportedBeforeQuietPeriodPassed() throws Exception {
+        monitor.addListenerForFile(file, listener);
+
+        modify("@Article{b,}");
+
+        verify(listener, never()).fileUpdated();
+    }
+
+    @Test
+    void modificationWithoutChangedContentIsNotReported() throws Exception {
+        monitor.addListenerForFile(file, listener);
+
+        modify("@Article{a,}");
+        monitor.notifyPendingChanges();
+
+        verify(listener, never()).fileUpdated();
+    }
+
+    @Test
+    void allListenersOfFileAreNotified() throws Exception {
+        FileUpdateListener otherListener = mock(FileUpdateListener.class);
+        monitor.addListenerForFile(file, listener);
+        monitor.addListenerForFile(file, otherListener);
+
+        modify("@Article{b,}");
+        monitor.notifyPendingChanges();
+
+        verify(listener).fileUpdated();
+        verify(otherListener).fileUpdated();
+    }
+
+    @Test
+    void removedListenerIsNotNotified() throws Exception {
+        FileUpdateListener otherListener = mock(FileUpdateListener.class);
+        monitor.addListenerForFile(file, listener);
+        monitor.addListenerForFile(file, otherListener);
+        monitor.removeListener(file, otherListener);
+
+        modify("@Article{b,}");
+        monitor.notifyPendingChanges();
+
+        verify(listener).fileUpdated();
+        verify(otherListener, never()).fileUpdated();
+    }
+
+    @Test
+    void modificationIsReportedByWatcher() throws Exception {
+        DefaultFileUpdateMonitor runningMonitor = new DefaultFileUpdateMonitor(Duration.ZERO, watchService);
+        CountDownLatch updated = new CountDownLatch(1);
+        runningMonitor.addListenerForFile(file, updated::countDown);
+        Thread monitorThread = new Thread(runningMonitor);
+        monitorThread.setDaemon(true);
+        monitorThread.start();
+
+        try {
+            write("@Article{b,}");
+
+            assertTrue(updated.await(30, TimeUnit.SECONDS));
+        } finally {
+            monitorThread.interrupt();
+        }
+    }
+
+    /**
+     * Writes the file and reports the modification as the watcher would
+     */
+    private void modify(String content) throws Exception {
+        write(content);
+        monitor.scheduleNotification(file);
+    }
+
+    private void write(String content) throws Exception {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
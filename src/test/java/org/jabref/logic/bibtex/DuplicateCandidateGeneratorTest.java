@@ -0,0 +1,78 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.StandardEntryType;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DuplicateCandidateGeneratorTest {
+
+    @Test
+    public void entriesWithSameDoiArePairedRegardlessOfType() {
+        BibEntry article = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1000/182");
+        BibEntry book = new BibEntry(StandardEntryType.Book).withField(StandardField.DOI, "10.1000/182");
+
+        assertEquals(Collections.singletonList(Arrays.asList(article, book)),
+                new DuplicateCandidateGenerator(1).getCandidatePairs(Arrays.asList(article, book)));
+    }
+
+    @Test
+    public void entriesOfDifferentTypeWithoutIdentifierAreNotPaired() {
+        BibEntry article = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Same title");
+        BibEntry book = new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "Same title");
+
+        assertEquals(Collections.emptyList(), new DuplicateCandidateGenerator().getCandidatePairs(Arrays.asList(article, book)));
+    }
+
+    @Test
+    public void entriesWithSimilarTitleArePairedAlthoughFarApartInLibrary() {
+        List<BibEntry> entries = new ArrayList<>();
+        BibEntry first = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "A serious paper");
+        entries.add(first);
+        for (int i = 0; i < 100; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Unrelated " + i));
+        }
+        BibEntry last = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "A {S}erious Paper.");
+        entries.add(last);
+
+        List<List<BibEntry>> pairs = new DuplicateCandidateGenerator(1).getCandidatePairs(entries);
+
+        assertTrue(pairs.contains(Arrays.asList(first, last)));
+        assertFalse(pairs.contains(Arrays.asList(first, entries.get(50))));
+    }
+
+    @Test
+    public void pairsAreReportedOnceInLibraryOrder() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Title")
+                .withField(StandardField.AUTHOR, "Author")
+                .withField(StandardField.YEAR, "2000");
+        BibEntry second = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Title")
+                .withField(StandardField.AUTHOR, "Author")
+                .withField(StandardField.YEAR, "2001");
+        BibEntry third = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Title")
+                .withField(StandardField.AUTHOR, "Author")
+                .withField(StandardField.YEAR, "2002");
+
+        assertEquals(Arrays.asList(Arrays.asList(first, second), Arrays.asList(first, third), Arrays.asList(second, third)),
+                new DuplicateCandidateGenerator().getCandidatePairs(Arrays.asList(first, second, third)));
+    }
+
+    @Test
+    public void windowSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new DuplicateCandidateGenerator(0));
+    }
+}
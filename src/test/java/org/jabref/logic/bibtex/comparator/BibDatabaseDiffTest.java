@@ -1,9 +1,14 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.StandardEntryType;
+import org.jabref.model.entry.field.StandardField;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,4 +24,44 @@ public class BibDatabaseDiffTest {
         assertEquals(Collections.emptyList(), diff.getBibStringDifferences());
         assertEquals(Collections.emptyList(), diff.getEntryDifferences());
     }
+
+    @Test
+    public void unchangedEntriesAreMatchedByTheirSerialization() throws Exception {
+        BibEntry first = createParsedEntry("first", "Title");
+        BibEntry second = createParsedEntry("second", "Title");
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(createDatabase(first, second),
+                createDatabase(createParsedEntry("second", "Title"), createParsedEntry("first", "Title")));
+
+        assertEquals(Collections.emptyList(), diff.getEntryDifferences());
+    }
+
+    @Test
+    public void changedEntryIsPairedWithItsOriginal() throws Exception {
+        BibEntry unchanged = createParsedEntry("unchanged", "Some title");
+        BibEntry original = createParsedEntry("changed", "A title");
+        BibEntry changed = createParsedEntry("changed", "Another title");
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(createDatabase(unchanged, original),
+                createDatabase(createParsedEntry("unchanged", "Some title"), changed));
+
+        assertEquals(1, diff.getEntryDifferences().size());
+        assertEquals(original, diff.getEntryDifferences().get(0).getOriginalEntry());
+        assertEquals(changed, diff.getEntryDifferences().get(0).getNewEntry());
+    }
+
+    private static BibEntry createParsedEntry(String key, String title) {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setCiteKey(key);
+        entry.setField(StandardField.TITLE, title);
+        entry.setField(StandardField.AUTHOR, "Author, An");
+        entry.setParsedSerialization("@Article{" + key + ", title = {" + title + "}, author = {Author, An}}");
+        return entry;
+    }
+
+    private static BibDatabaseContext createDatabase(BibEntry... entries) {
+        BibDatabase database = new BibDatabase();
+        Arrays.stream(entries).forEach(database::insertEntry);
+        return new BibDatabaseContext(database);
+    }
 }
@@ -1,5 +1,6 @@
 package org.jabref.logic.bibtexkeypattern;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import org.jabref.model.bibtexkeypattern.DatabaseBibtexKeyPattern;
@@ -442,4 +443,48 @@ class MakeLabelWithDatabaseTest {
         new BibtexKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKey(entry);
         assertEquals(Optional.of("Aapoj"), entry.getCiteKeyOptional());
     }
+
+    @Test
+    void generateKeysResolvesDuplicatesInOrderOfEntries() {
+        BibEntry entry2 = new BibEntry();
+        entry2.setField(StandardField.AUTHOR, "John Doe");
+        entry2.setField(StandardField.YEAR, "2016");
+        database.insertEntry(entry2);
+        BibEntry entry3 = new BibEntry();
+        entry3.setField(StandardField.AUTHOR, "John Doe");
+        entry3.setField(StandardField.YEAR, "2016");
+        database.insertEntry(entry3);
+
+        new BibtexKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(database.getEntries());
+
+        assertEquals(Optional.of("Doe2016"), entry.getCiteKeyOptional());
+        assertEquals(Optional.of("Doe2016a"), entry2.getCiteKeyOptional());
+        assertEquals(Optional.of("Doe2016b"), entry3.getCiteKeyOptional());
+    }
+
+    @Test
+    void generateKeysIgnoresOldKeysOfRegeneratedEntries() {
+        entry.setCiteKey("Doe2016a");
+        BibEntry entry2 = new BibEntry();
+        entry2.setField(StandardField.AUTHOR, "John Doe");
+        entry2.setField(StandardField.YEAR, "2016");
+        entry2.setCiteKey("Doe2016");
+        database.insertEntry(entry2);
+
+        new BibtexKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(database.getEntries());
+
+        assertEquals(Optional.of("Doe2016"), entry.getCiteKeyOptional());
+        assertEquals(Optional.of("Doe2016a"), entry2.getCiteKeyOptional());
+    }
+
+    @Test
+    void generateKeysKeepsKeysOfOtherEntries() {
+        BibEntry otherEntry = new BibEntry();
+        otherEntry.setCiteKey("Doe2016");
+        database.insertEntry(otherEntry);
+
+        new BibtexKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(Collections.singletonList(entry));
+
+        assertEquals(Optional.of("Doe2016a"), entry.getCiteKeyOptional());
+    }
 }
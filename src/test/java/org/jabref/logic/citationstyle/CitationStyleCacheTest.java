@@ -0,0 +1,116 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CitationStyleCacheTest {
+
+    private BibDatabase database;
+    private CitationStyleCache cache;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        cache = new CitationStyleCache(new BibDatabaseContext(database));
+        cache.setCitationStyle(new JournalLayout());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void citationIsGeneratedAgainAfterChangeOfCrossreferencedEntry() {
+        BibEntry parent = new BibEntry();
+        parent.setCiteKey("parent");
+        parent.setField(StandardField.JOURNAL, "Old Journal");
+        BibEntry child = new BibEntry();
+        child.setField(StandardField.CROSSREF, "parent");
+        database.insertEntries(parent, child);
+        assertEquals("Old Journal", cache.getCitationFor(child));
+
+        parent.setField(StandardField.JOURNAL, "New Journal");
+
+        assertEquals("New Journal", cache.getCitationFor(child));
+    }
+
+    @Test
+    void citationIsGeneratedAgainAfterChangeOfString() {
+        BibtexString string = new BibtexString("jnl", "Old Journal");
+        database.addString(string);
+        BibEntry entry = new BibEntry();
+        entry.setField(StandardField.JOURNAL, "#jnl#");
+        database.insertEntry(entry);
+        assertEquals("Old Journal", cache.getCitationFor(entry));
+
+        string.setContent("New Journal");
+
+        assertEquals("New Journal", cache.getCitationFor(entry));
+    }
+
+    @Test
+    void citationWhichCouldNotBeGeneratedIsNotCached() {
+        FailingLayout failingLayout = new FailingLayout();
+        cache.setCitationStyle(failingLayout);
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        assertEquals("error", cache.getCitationFor(entry));
+
+        failingLayout.failing = false;
+
+        assertEquals("citation", cache.getCitationFor(entry));
+    }
+
+    /**
+     * Fails to generate previews until told otherwise
+     */
+    private static class FailingLayout implements PreviewLayout {
+
+        private boolean failing = true;
+
+        @Override
+        public String generatePreview(BibEntry entry, BibDatabase database) {
+            return failing ? "error" : "citation";
+        }
+
+        @Override
+        public List<Optional<String>> generatePreviews(List<BibEntry> entries, BibDatabase database) {
+            return Collections.nCopies(entries.size(), failing ? Optional.<String>empty() : Optional.of("citation"));
+        }
+
+        @Override
+        public String getName() {
+            return "Failing";
+        }
+    }
+
+    /**
+     * Shows the resolved journal of an entry
+     */
+    private static class JournalLayout implements PreviewLayout {
+
+        @Override
+        public String generatePreview(BibEntry entry, BibDatabase database) {
+            return entry.getResolvedFieldOrAlias(StandardField.JOURNAL, database).orElse("");
+        }
+
+        @Override
+        public String getName() {
+            return "Journal";
+        }
+    }
+}
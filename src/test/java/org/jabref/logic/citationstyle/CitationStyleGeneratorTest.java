@@ -1,5 +1,9 @@
 package org.jabref.logic.citationstyle;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.TestEntry;
 import org.jabref.model.entry.BibEntry;
@@ -115,4 +119,19 @@ public class CitationStyleGeneratorTest {
         String actualCitation = CitationStyleGenerator.generateCitation(entry, style, format);
         assertEquals(expectedCitation, actualCitation);
     }
+
+    @Test
+    public void testCitationOfEachEntryKeepsOrderOfEntries() {
+        BibEntry first = new BibEntry();
+        first.setField(StandardField.AUTHOR, "Zeta, Zoe");
+        BibEntry second = new BibEntry();
+        second.setField(StandardField.AUTHOR, "Alpha, Al");
+        String style = CitationStyle.getDefault().getSource();
+        CitationStyleOutputFormat format = CitationStyleOutputFormat.TEXT;
+
+        List<Optional<String>> citations = CitationStyleGenerator.generateCitationOfEachEntry(Arrays.asList(first, second), style, format);
+
+        assertEquals(Arrays.asList(Optional.of(CitationStyleGenerator.generateCitation(first, style, format)),
+                Optional.of(CitationStyleGenerator.generateCitation(second, style, format))), citations);
+    }
 }
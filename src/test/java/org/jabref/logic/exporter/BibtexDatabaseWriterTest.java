@@ -407,6 +407,54 @@ class BibtexDatabaseWriterTest {
                 stringWriter.toString());
     }
 
+    @Test
+    void unchangedEntriesAreWrittenIdenticallyOnRepeatedSaveAndChangedEntryIsWrittenAgain() throws Exception {
+        BibEntry firstEntry = new BibEntry(StandardEntryType.Article);
+        firstEntry.setField(StandardField.AUTHOR, "Mr. author");
+        BibEntry secondEntry = new BibEntry(StandardEntryType.Book);
+        secondEntry.setField(StandardField.TITLE, "A title");
+        database.insertEntries(firstEntry, secondEntry);
+        when(preferences.isReformatFile()).thenReturn(true);
+
+        databaseWriter.savePartOfDatabase(bibtexContext, Arrays.asList(firstEntry, secondEntry));
+        String firstSave = stringWriter.toString();
+
+        stringWriter = new StringWriter();
+        databaseWriter = new BibtexDatabaseWriter(stringWriter, preferences, entryTypesManager);
+        databaseWriter.savePartOfDatabase(bibtexContext, Arrays.asList(firstEntry, secondEntry));
+
+        assertEquals(firstSave, stringWriter.toString());
+
+        secondEntry.setField(StandardField.TITLE, "Another title");
+        stringWriter = new StringWriter();
+        databaseWriter = new BibtexDatabaseWriter(stringWriter, preferences, entryTypesManager);
+        databaseWriter.savePartOfDatabase(bibtexContext, Arrays.asList(firstEntry, secondEntry));
+
+        assertEquals(firstSave.replace("{A title}", "{Another title}"), stringWriter.toString());
+    }
+
+    @Test
+    void changedEntryIsSerializedAgainAfterCachedSave() throws Exception {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setField(StandardField.AUTHOR, "Mr. author");
+        database.insertEntry(entry);
+        when(preferences.isReformatFile()).thenReturn(true);
+        databaseWriter.savePartOfDatabase(bibtexContext, Collections.singletonList(entry));
+
+        entry.setField(StandardField.AUTHOR, "Mrs. author");
+
+        stringWriter = new StringWriter();
+        databaseWriter = new BibtexDatabaseWriter(stringWriter, preferences, entryTypesManager);
+        databaseWriter.savePartOfDatabase(bibtexContext, Collections.singletonList(entry));
+
+        assertEquals(OS.NEWLINE +
+                        "@Article{," + OS.NEWLINE + "  author = {Mrs. author}," + OS.NEWLINE + "}"
+                        + OS.NEWLINE + OS.NEWLINE
+                        + "@Comment{jabref-meta: databaseType:bibtex;}"
+                        + OS.NEWLINE,
+                stringWriter.toString());
+    }
+
     @Test
     void writeSavedSerializationOfStringIfUnchanged() throws Exception {
         BibtexString string = new BibtexString("name", "content");
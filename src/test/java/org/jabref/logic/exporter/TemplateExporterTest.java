@@ -0,0 +1,75 @@
+package org.jabref.logic.exporter;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationPreferences;
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.layout.format.FileLinkPreferences;
+import org.jabref.logic.layout.format.NameFormatterPreferences;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.StandardEntryType;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class TemplateExporterTest {
+
+    private final BibDatabaseContext databaseContext = new BibDatabaseContext();
+    private final BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Joe Doe");
+    private Path folder;
+    private TemplateExporter exporter;
+
+    @BeforeEach
+    void setUp(@TempDir Path folder) {
+        this.folder = folder;
+        LayoutFormatterPreferences layoutPreferences = new LayoutFormatterPreferences(
+                new NameFormatterPreferences(Collections.emptyList(), Collections.emptyList()),
+                mock(JournalAbbreviationPreferences.class),
+                mock(FileLinkPreferences.class),
+                mock(JournalAbbreviationLoader.class));
+        exporter = new TemplateExporter("custom", folder.resolve("custom").toString(), "txt", layoutPreferences,
+                mock(SavePreferences.class));
+        exporter.setCustomExport(true);
+    }
+
+    @Test
+    void exportWithoutEntriesAndGroupLayoutWritesNothing() throws Exception {
+        write("custom.layout", "\\begingroup{year}\\year\\endgroup{year}");
+        Path file = folder.resolve("export.txt");
+
+        exporter.export(databaseContext, file, StandardCharsets.UTF_8, Collections.emptyList());
+
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void exportUsesCurrentNameFormattersOfExportFormat() throws Exception {
+        write("custom.layout", "\\format[Names]{\\author}");
+        write("custom.formatters", "Names:1@*@{ll}");
+        assertEquals("Doe", export());
+
+        write("custom.formatters", "Names:1@*@{ff}");
+        assertEquals("Joe", export());
+    }
+
+    private String export() throws Exception {
+        Path file = folder.resolve("export.txt");
+        exporter.export(databaseContext, file, StandardCharsets.UTF_8, Collections.singletonList(entry));
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+    }
+
+    private void write(String fileName, String content) throws Exception {
+        Files.write(folder.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
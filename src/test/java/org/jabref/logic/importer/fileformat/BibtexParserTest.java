@@ -628,6 +628,32 @@ class BibtexParserTest {
         assertEquals("canh05", duplicateKeys.get(0));
     }
 
+    @Test
+    void parseManyEntriesKeepsOrderOfFile() throws IOException {
+        StringBuilder bibtex = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            bibtex.append("% comment ").append(i).append(OS.NEWLINE)
+                  .append("@article{key").append(i % 1500).append(",").append(OS.NEWLINE)
+                  .append("  title = {Title   ").append(i).append("},").append(OS.NEWLINE)
+                  .append("  author = {A}, author = \"B\"").append(OS.NEWLINE)
+                  .append("}").append(OS.NEWLINE);
+        }
+
+        ParserResult result = parser.parse(new StringReader(bibtex.toString()));
+        List<BibEntry> entries = result.getDatabase().getEntries();
+
+        assertEquals(2000, entries.size());
+        for (int i = 0; i < 2000; i++) {
+            BibEntry entry = entries.get(i);
+            assertEquals(Optional.of("key" + (i % 1500)), entry.getCiteKeyOptional());
+            assertEquals(Optional.of("Title " + i), entry.getField(StandardField.TITLE));
+            assertEquals(Optional.of("A and B"), entry.getField(StandardField.AUTHOR));
+            assertEquals("% comment " + i, entry.getUserComments());
+        }
+        assertEquals(500, result.getDuplicateKeys().size());
+        assertEquals("key0", result.getDuplicateKeys().get(0));
+    }
+
     @Test
     void parseNotWarnsAboutEntryWithoutBibtexKey() throws IOException {
         BibEntry expected = new BibEntry();
@@ -1,6 +1,8 @@
 package org.jabref.logic.importer.fileformat;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MsBibImporterTest {
 
@@ -42,6 +45,23 @@ public class MsBibImporterTest {
         }
     }
 
+    @Test
+    public final void testIsRecognizedFormatReadsOnlyUntilRootElement() throws IOException {
+        MsBibImporter testImporter = new MsBibImporter();
+        // Not well-formed after the root element, which is not read anymore
+        String document = "<?xml version=\"1.0\"?><b:Sources xmlns:b=\"http://schemas.openxmlformats.org/officeDocument/2006/bibliography\"><b:Source>";
+
+        assertTrue(testImporter.isRecognizedFormat(new BufferedReader(new StringReader(document))));
+    }
+
+    @Test
+    public final void testIsNotRecognizedFormatWithDtd() throws IOException {
+        MsBibImporter testImporter = new MsBibImporter();
+        String document = "<?xml version=\"1.0\"?><!DOCTYPE Sources [<!ENTITY e \"e\">]><Sources></Sources>";
+
+        assertFalse(testImporter.isRecognizedFormat(new BufferedReader(new StringReader(document))));
+    }
+
     @Test
     public final void testImportEntriesEmpty() throws IOException, URISyntaxException {
         MsBibImporter testImporter = new MsBibImporter();
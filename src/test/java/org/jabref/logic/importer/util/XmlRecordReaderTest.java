@@ -0,0 +1,45 @@
+package org.jabref.logic.importer.util;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class XmlRecordReaderTest {
+
+    @Test
+    void rootElementNameIsLocalName() throws XMLStreamException {
+        XmlRecordReader recordReader = new XmlRecordReader(new StringReader("<?xml version=\"1.0\"?><b:Sources xmlns:b=\"urn:test\"/>"));
+
+        assertEquals(Optional.of("Sources"), recordReader.getRootElementName());
+    }
+
+    @Test
+    void nextRecordVisitsAllRecordsInOrder() throws XMLStreamException {
+        XmlRecordReader recordReader = new XmlRecordReader(new StringReader(
+                "<records><record id=\"1\"><record-note/></record><other/><record id=\"2\"/></records>"));
+        List<String> ids = new ArrayList<>();
+
+        while (recordReader.nextRecord("record")) {
+            ids.add(recordReader.getReader().getAttributeValue(null, "id"));
+            recordReader.getReader().next();
+        }
+
+        assertEquals(Arrays.asList("1", "2"), ids);
+    }
+
+    @Test
+    void nextRecordIsFalseWithoutRecords() throws XMLStreamException {
+        XmlRecordReader recordReader = new XmlRecordReader(new StringReader("<records/>"));
+
+        assertFalse(recordReader.nextRecord("record"));
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
 import org.jabref.logic.journals.Abbreviation;
@@ -360,6 +361,95 @@ class IntegrityCheckTest {
         assertWrong(createContext(StandardField.AUTHOR, "Some unicode ⊕"));
     }
 
+    @Test
+    void changedEntryIsCheckedAgain() {
+        BibDatabaseContext context = withMode(createContext(StandardField.NOTE, "lorem ipsum"), BibDatabaseMode.BIBTEX);
+        IntegrityCheck check = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createBibtexKeyPatternPreferences(),
+                new JournalAbbreviationRepository(new Abbreviation("IEEE Software", "IEEE SW")), true, false);
+        assertNotEquals(Collections.emptyList(), check.checkDatabase());
+
+        context.getDatabase().getEntries().get(0).setField(StandardField.NOTE, "Lorem ipsum");
+
+        assertEquals(Collections.emptyList(), check.checkDatabase());
+    }
+
+    @Test
+    void abbreviationAddedToRepositoryIsConsideredByNextCheck() {
+        BibDatabaseContext context = withMode(createContext(StandardField.JOURNAL, "Some Journal"), BibDatabaseMode.BIBTEX);
+        JournalAbbreviationRepository abbreviationRepository = new JournalAbbreviationRepository();
+        IntegrityCheck check = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createBibtexKeyPatternPreferences(),
+                abbreviationRepository, true, false);
+        assertNotEquals(Collections.emptyList(), check.checkDatabase());
+
+        abbreviationRepository.addEntry(new Abbreviation("Some Journal", "Some J."));
+
+        assertEquals(Collections.emptyList(), check.checkDatabase());
+    }
+
+    @Test
+    void cachedMessagesReferToCheckedEntry() {
+        BibDatabaseContext context = withMode(createContext(StandardField.NOTE, "lorem ipsum"), BibDatabaseMode.BIBTEX);
+        IntegrityCheck check = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createBibtexKeyPatternPreferences(),
+                new JournalAbbreviationRepository(), true, false);
+        List<IntegrityMessage> messages = check.checkDatabase();
+
+        assertEquals(messages, check.checkDatabase());
+        assertEquals(context.getDatabase().getEntries().get(0), check.checkDatabase().get(0).getEntry());
+    }
+
+    @Test
+    void messagesOfCachedCheckersKeepOrderOfCheckers() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Knuth")
+                .withField(StandardField.TITLE, "The Art of Computer Programming")
+                .withField(StandardField.YEAR, "1968")
+                .withField(StandardField.JOURNAL, "Some Journal");
+        BibDatabaseContext context = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entry)), new Defaults());
+        context.setMode(BibDatabaseMode.BIBTEX);
+        IntegrityCheck check = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createBibtexKeyPatternPreferences(),
+                new JournalAbbreviationRepository(), true, false);
+        // The journal checker depends on the abbreviations and is registered before the key checker, which is cached
+        List<Field> expectedFields = Arrays.asList(StandardField.JOURNAL, InternalField.KEY_FIELD);
+
+        assertEquals(expectedFields, getJournalAndKeyFields(check.checkDatabase()));
+        assertEquals(expectedFields, getJournalAndKeyFields(check.checkDatabase()));
+    }
+
+    @Test
+    void checkDatabaseKeepsOrderOfEntries() {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < 100; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article).withField(StandardField.URL, "www.example" + i + ".com"));
+        }
+        BibDatabaseContext context = new BibDatabaseContext(database, new Defaults());
+        IntegrityCheck check = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createBibtexKeyPatternPreferences(),
+                new JournalAbbreviationRepository(), true, false);
+
+        List<IntegrityMessage> messages = check.checkDatabase();
+
+        assertEquals(database.getEntries(), messages.stream()
+                                                    .filter(message -> message.getField().equals(StandardField.URL))
+                                                    .map(IntegrityMessage::getEntry)
+                                                    .collect(Collectors.toList()));
+    }
+
+    private List<Field> getJournalAndKeyFields(List<IntegrityMessage> messages) {
+        return messages.stream()
+                       .map(IntegrityMessage::getField)
+                       .filter(field -> field.equals(StandardField.JOURNAL) || field.equals(InternalField.KEY_FIELD))
+                       .collect(Collectors.toList());
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry();
         entry.setField(field, value);
@@ -65,4 +65,60 @@ public class JournalAbbreviationRepositoryTest {
         assertEquals(1, repository.size());
         assertEquals("LA. N.", repository.getIsoAbbreviation("Long Name").orElse("WRONG"));
     }
+
+    @Test
+    public void lookupIgnoresCase() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Physical Review Letters", "Phys. Rev. Lett."));
+
+        assertTrue(repository.isKnownName("physical review LETTERS"));
+        assertTrue(repository.isKnownName(" phys. rev. lett. "));
+        assertEquals("Phys Rev Lett", repository.getMedlineAbbreviation("PHYS REV LETT").orElse("WRONG"));
+        assertTrue(repository.isAbbreviatedName("phys. rev. lett."));
+        assertFalse(repository.isAbbreviatedName("Physical Review Letters"));
+    }
+
+    @Test
+    public void abbreviationEqualToFullNameIsNotAbbreviated() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Nature", "Nature"));
+
+        assertTrue(repository.isKnownName("Nature"));
+        assertFalse(repository.isAbbreviatedName("Nature"));
+    }
+
+    @Test
+    public void replacedAbbreviationIsNotFoundAnymore() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Long Name", "L. N."));
+        repository.addEntry(new Abbreviation("Long Name", "LA. N."));
+
+        assertFalse(repository.isKnownName("L. N."));
+        assertFalse(repository.isAbbreviatedName("L N"));
+        assertTrue(repository.isAbbreviatedName("LA N"));
+    }
+
+    @Test
+    public void sharedAbbreviationIsKeptWhenOtherJournalIsReplaced() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Old Long Name", "L. N."));
+        repository.addEntry(new Abbreviation("New Long Name", "L. N."));
+        repository.addEntry(new Abbreviation("Old Long Name", "O. L. N."));
+
+        assertEquals("New Long Name", repository.getNextAbbreviation("L N").orElse("WRONG"));
+    }
+
+    @Test
+    public void sharedAbbreviationIsKeptWhenJournalAddedLastIsReplaced() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Old Long Name", "L. N."));
+        repository.addEntry(new Abbreviation("New Long Name", "L. N."));
+        assertEquals("New Long Name", repository.getNextAbbreviation("L N").orElse("WRONG"));
+
+        repository.addEntry(new Abbreviation("New Long Name", "N. L. N."));
+
+        assertTrue(repository.isAbbreviatedName("L. N."));
+        assertEquals("Old Long Name", repository.getNextAbbreviation("L N").orElse("WRONG"));
+        assertEquals("Old Long Name", repository.getAbbreviation("L. N.").map(Abbreviation::getName).orElse("WRONG"));
+    }
 }
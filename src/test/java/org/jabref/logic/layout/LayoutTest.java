@@ -136,4 +136,25 @@ class LayoutTest {
 
         assertEquals("JoeDoe and MaryJ", layoutText);
     }
+
+    @Test
+    void numberIsTakenFromLayoutState() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        Layout layout = new LayoutHelper(new StringReader("\\format[Number]{\\author}"), layoutFormatterPreferences)
+                .getLayoutFromText();
+
+        assertEquals("42", layout.doLayout(entry, null, new LayoutState(42)));
+    }
+
+    @Test
+    void groupIsOnlyStartedOnceForEqualValues() throws IOException {
+        BibEntry first = new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2019");
+        BibEntry second = new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2019");
+        Layout layout = new LayoutHelper(new StringReader("\\begingroup{year}\\year:\\endgroup{year}x"), layoutFormatterPreferences)
+                .getLayoutFromText();
+        LayoutState state = new LayoutState();
+
+        assertEquals("2019:x", layout.doLayout(first, null, state));
+        assertEquals("x", layout.doLayout(second, null, state));
+    }
 }
@@ -0,0 +1,114 @@
+package org.jabref.logic.pdf;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FileAnnotationStoreTest {
+
+    private final AnnotationImporter importer = mock(AnnotationImporter.class);
+    private final FileAnnotation note = new FileAnnotation("Jim", LocalDateTime.of(2019, 4, 1, 12, 30), 2,
+            "a note", FileAnnotationType.TEXT, Optional.empty());
+    private final FileAnnotation highlight = new FileAnnotation(null, LocalDateTime.of(2019, 4, 2, 8, 0), 3,
+            "highlighted text", FileAnnotationType.HIGHLIGHT, Optional.of(note));
+    private Path pdf;
+    private Path storeDirectory;
+
+    @BeforeEach
+    void setUp(@TempDir Path folder) throws Exception {
+        pdf = Files.createFile(folder.resolve("paper.pdf"));
+        storeDirectory = folder.resolve("store");
+        when(importer.importAnnotations(pdf)).thenReturn(Arrays.asList(note, highlight));
+    }
+
+    @Test
+    void storedAnnotationsAreReadWithoutImporting() {
+        new FileAnnotationStore(storeDirectory, importer).importAnnotations(pdf);
+
+        List<FileAnnotation> annotations = new FileAnnotationStore(storeDirectory, importer).importAnnotations(pdf);
+
+        assertEquals(Arrays.asList(note, highlight), annotations);
+        verify(importer, times(1)).importAnnotations(pdf);
+    }
+
+    @Test
+    void changedFileIsImportedAgain() throws Exception {
+        FileAnnotationStore store = new FileAnnotationStore(storeDirectory, importer);
+        store.importAnnotations(pdf);
+        Files.setLastModifiedTime(pdf, FileTime.fromMillis(Files.getLastModifiedTime(pdf).toMillis() + 10_000));
+        when(importer.importAnnotations(pdf)).thenReturn(Collections.singletonList(note));
+
+        assertEquals(Collections.singletonList(note), store.importAnnotations(pdf));
+        verify(importer, times(2)).importAnnotations(pdf);
+    }
+
+    @Test
+    void storeDirectoryIsOnlyAccessibleByOwner() throws Exception {
+        assumeTrue(storeDirectory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+
+        new FileAnnotationStore(storeDirectory, importer).importAnnotations(pdf);
+
+        assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(storeDirectory));
+    }
+
+    @Test
+    void leastRecentlyUsedFilesAreDeletedAboveMaximumSize() throws Exception {
+        Path first = Files.createFile(pdf.resolveSibling("a.pdf"));
+        Path second = Files.createFile(pdf.resolveSibling("b.pdf"));
+        Path third = Files.createFile(pdf.resolveSibling("c.pdf"));
+        Path fourth = Files.createFile(pdf.resolveSibling("d.pdf"));
+        FileAnnotationStore unlimitedStore = new FileAnnotationStore(storeDirectory, importer);
+        long storeFileSize = 0;
+        long lastUse = 1_000;
+        for (Path file : Arrays.asList(first, second, third)) {
+            Set<Path> storeFiles = listStoreDirectory();
+            unlimitedStore.importAnnotations(file);
+            Path storeFile = listStoreDirectory().stream().filter(path -> !storeFiles.contains(path)).findFirst().get();
+            Files.setLastModifiedTime(storeFile, FileTime.fromMillis(lastUse));
+            lastUse += 1_000;
+            storeFileSize = Files.size(storeFile);
+        }
+        FileAnnotationStore store = new FileAnnotationStore(storeDirectory, importer, (storeFileSize * 7) / 2);
+
+        // Marks the first file as recently used, so that the second and third one are deleted to store the fourth
+        store.importAnnotations(first);
+        store.importAnnotations(fourth);
+        store.importAnnotations(first);
+        store.importAnnotations(second);
+
+        verify(importer, times(1)).importAnnotations(first);
+        verify(importer, times(2)).importAnnotations(second);
+    }
+
+    private Set<Path> listStoreDirectory() throws Exception {
+        if (!Files.exists(storeDirectory)) {
+            return Collections.emptySet();
+        }
+        try (Stream<Path> files = Files.list(storeDirectory)) {
+            return files.collect(Collectors.toSet());
+        }
+    }
+}
@@ -5,10 +5,13 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
@@ -96,6 +99,39 @@ class DBMSProcessorTest {
         assertEquals(expectedFieldMap, actualFieldMap);
     }
 
+    @ParameterizedTest
+    @MethodSource("getTestingDatabaseSystems")
+    void testInsertEntries(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws SQLException {
+        dbmsProcessor.setupSharedDatabase();
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        secondEntry.setField(StandardField.YEAR, "1995");
+
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry));
+        // does not insert again, due to the already set sharedIDs.
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry));
+
+        assertEquals(1, firstEntry.getSharedBibEntryData().getSharedID());
+        assertEquals(2, secondEntry.getSharedBibEntryData().getSharedID());
+        assertEquals(Arrays.asList(firstEntry, secondEntry), dbmsProcessor.getSharedEntries());
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTestingDatabaseSystems")
+    void testInsertEntriesWithMoreSharedIDsThanOneInList(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws SQLException {
+        dbmsProcessor.setupSharedDatabase();
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i <= DBMSProcessor.MAX_IN_LIST_SIZE; i++) {
+            entries.add(getBibEntryExample());
+        }
+        dbmsProcessor.insertEntries(entries);
+
+        // does not insert again, although the sharedIDs do not fit into one lookup
+        dbmsProcessor.insertEntries(entries);
+
+        assertEquals(entries.size(), dbmsProcessor.getSharedIDVersionMapping().size());
+    }
+
     @ParameterizedTest
     @MethodSource("getTestingDatabaseSystems")
     void testUpdateEntry(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws OfflineLockException, SQLException {
@@ -236,6 +272,63 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @ParameterizedTest
+    @MethodSource("getTestingDatabaseSystems")
+    void testGetSharedIDVersionMappingOfMoreIDsThanOneInList(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws SQLException {
+        dbmsProcessor.setupSharedDatabase();
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry));
+
+        List<Integer> sharedIDs = new ArrayList<>();
+        for (int sharedID = 1; sharedID <= (2 * DBMSProcessor.MAX_IN_LIST_SIZE) + 1; sharedID++) {
+            sharedIDs.add(sharedID);
+        }
+
+        Map<Integer, Integer> expectedIDVersionMap = new HashMap<>();
+        expectedIDVersionMap.put(firstEntry.getSharedBibEntryData().getSharedID(), 1);
+        expectedIDVersionMap.put(secondEntry.getSharedBibEntryData().getSharedID(), 1);
+
+        assertEquals(expectedIDVersionMap, dbmsProcessor.getSharedIDVersionMapping(sharedIDs));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTestingDatabaseSystems")
+    void testGetChangedSharedIDs(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws OfflineLockException, SQLException {
+        dbmsProcessor.setupSharedDatabase();
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        BibEntry thirdEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry, thirdEntry));
+        long changeIDAfterInsert = dbmsProcessor.getLatestChangeID();
+        dbmsProcessor.updateEntry(secondEntry);
+        dbmsProcessor.removeEntry(thirdEntry);
+
+        Set<Integer> expectedSharedIDs = new HashSet<>(Arrays.asList(
+                secondEntry.getSharedBibEntryData().getSharedID(),
+                thirdEntry.getSharedBibEntryData().getSharedID()));
+
+        assertEquals(expectedSharedIDs, dbmsProcessor.getChangedSharedIDs(changeIDAfterInsert));
+        assertEquals(changeIDAfterInsert + 2, dbmsProcessor.getLatestChangeID());
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTestingDatabaseSystems")
+    void testChangeOfClientWithoutChangeLogIsLogged(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws SQLException {
+        dbmsProcessor.setupSharedDatabase();
+        BibEntry bibEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(bibEntry);
+        long changeIDAfterInsert = dbmsProcessor.getLatestChangeID();
+
+        // an older client only increments the version
+        dbmsConnection.getConnection().createStatement().executeUpdate("UPDATE " + escape("ENTRY", dbmsProcessor)
+                + " SET " + escape("VERSION", dbmsProcessor) + " = " + escape("VERSION", dbmsProcessor) + " + 1");
+
+        assertEquals(Collections.singleton(bibEntry.getSharedBibEntryData().getSharedID()),
+                dbmsProcessor.getChangedSharedIDs(changeIDAfterInsert));
+    }
+
     @ParameterizedTest
     @MethodSource("getTestingDatabaseSystems")
     void testGetSharedMetaData(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws SQLException {
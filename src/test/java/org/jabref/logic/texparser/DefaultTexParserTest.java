@@ -1,15 +1,20 @@
 package org.jabref.logic.texparser;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 
 import org.jabref.model.texparser.TexParserResult;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class DefaultTexParserTest {
     private final static String DARWIN = "Darwin1888";
@@ -183,4 +188,49 @@ public class DefaultTexParserTest {
 
         assertEquals(expectedParserResult, parserResult);
     }
+
+    @Test
+    public void testCyclicNestedFiles(@TempDir Path directory) throws IOException {
+        Path texFile = Files.write(directory.resolve("main.tex"), Arrays.asList("\\input{chapter}"));
+        Path texFile2 = Files.write(directory.resolve("chapter.tex"), Arrays.asList("\\input{main}", "\\cite{Darwin1888}"));
+
+        TexParserResult parserResult = new DefaultTexParser().parse(texFile);
+        TexParserResult expectedParserResult = new TexParserResult();
+
+        expectedParserResult.getFileList().add(texFile);
+        expectedParserResult.getNestedFiles().add(texFile2);
+        expectedParserResult.addKey(DARWIN, texFile2, 2, 0, 17, "\\cite{Darwin1888}");
+
+        assertEquals(expectedParserResult, parserResult);
+    }
+
+    @Test
+    public void testChangedFileIsParsedAgain(@TempDir Path directory) throws IOException {
+        Path texFile = Files.write(directory.resolve("paper.tex"), Arrays.asList("\\cite{Darwin1888}"));
+        new DefaultTexParser().parse(texFile);
+        FileTime lastModified = Files.getLastModifiedTime(texFile);
+
+        // Same size and modification time, as after a quick edit on a file system with a coarse time resolution
+        Files.write(texFile, Arrays.asList("\\cite{Newton1999}"));
+        Files.setLastModifiedTime(texFile, lastModified);
+        TexParserResult parserResult = new DefaultTexParser().parse(texFile);
+        TexParserResult expectedParserResult = new TexParserResult();
+
+        expectedParserResult.getFileList().add(texFile);
+        expectedParserResult.addKey(NEWTON, texFile, 1, 0, 17, "\\cite{Newton1999}");
+
+        assertEquals(expectedParserResult, parserResult);
+    }
+
+    @Test
+    public void testParsingIsCancelledIfThreadIsInterrupted(@TempDir Path directory) throws IOException {
+        Path texFile = Files.write(directory.resolve("paper.tex"), Arrays.asList("\\cite{Darwin1888}"));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertNull(new DefaultTexParser().parse(texFile));
+        } finally {
+            Thread.interrupted();
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileIndexTest {
+
+    private Path rootDir;
+    private Path pdfFile;
+    private Path jpgFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        rootDir = temporaryFolder;
+        Path subDir = Files.createDirectories(rootDir.resolve("sub").resolve("subsub"));
+        pdfFile = Files.createFile(subDir.resolve("HipKro03.pdf"));
+        jpgFile = Files.createFile(rootDir.resolve("HipKro03 - Hello.jpg"));
+        Files.createFile(rootDir.resolve("Other.pdf"));
+    }
+
+    @Test
+    void findByBaseNameFindsFilesInSubdirectories() throws Exception {
+        FileIndex index = FileIndex.of(Collections.singletonList(rootDir));
+
+        assertEquals(Collections.singletonList(pdfFile), index.findByBaseName("HipKro03", Arrays.asList("pdf", "jpg")));
+    }
+
+    @Test
+    void findByNamePrefixFiltersByExtension() throws Exception {
+        FileIndex index = FileIndex.of(Collections.singletonList(rootDir));
+
+        assertEquals(Collections.singletonList(jpgFile), index.findByNamePrefix("HipKro03", Collections.singletonList("jpg")));
+    }
+
+    @Test
+    void deletedFileIsNotFound() throws Exception {
+        FileIndex index = FileIndex.of(Collections.singletonList(rootDir));
+        Files.delete(pdfFile);
+
+        assertEquals(Collections.emptyList(), index.findByBaseName("HipKro03", Collections.singletonList("pdf")));
+    }
+
+    @Test
+    void indexIsSharedForSameDirectories() throws Exception {
+        List<Path> directories = Collections.singletonList(rootDir);
+
+        assertSame(FileIndex.of(directories), FileIndex.of(directories));
+    }
+
+    @Test
+    void indexIsRebuiltWhenMissingDirectoryIsCreated() throws Exception {
+        Path missingDir = rootDir.resolve("missing");
+        List<Path> directories = Collections.singletonList(missingDir);
+        assertEquals(Collections.emptyList(), FileIndex.of(directories).findByBaseName("HipKro03", Collections.singletonList("pdf")));
+
+        Path newFile = Files.createFile(Files.createDirectory(missingDir).resolve("HipKro03.pdf"));
+
+        assertEquals(Collections.singletonList(newFile), FileIndex.of(directories).findByBaseName("HipKro03", Collections.singletonList("pdf")));
+    }
+
+    @Test
+    void fileCreatedInSubdirectoryIsIndexedByWatcher() throws Exception {
+        FileIndex index = FileIndex.of(Collections.singletonList(rootDir));
+        List<String> extensions = Collections.singletonList("pdf");
+        CountDownLatch indexed = new CountDownLatch(1);
+        index.setUpdateListener(() -> {
+            if (!index.findByBaseName("New", extensions).isEmpty()) {
+                indexed.countDown();
+            }
+        });
+
+        // Files in subdirectories are not looked up directly, so only the watcher can find this one
+        Path newFile = Files.createFile(rootDir.resolve("sub").resolve("New.pdf"));
+
+        assertTrue(indexed.await(30, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(newFile), index.findByBaseName("New", extensions));
+    }
+
+    @Test
+    void fileCreatedInTopLevelDirectoryIsFoundBeforeWatcherReportsIt() throws Exception {
+        FileIndex index = FileIndex.of(Collections.singletonList(rootDir));
+
+        Path newFile = Files.createFile(rootDir.resolve("New.pdf"));
+
+        assertEquals(Collections.singletonList(newFile), index.findByBaseName("New", Collections.singletonList("pdf")));
+        assertEquals(Collections.singletonList(newFile), index.findByNamePrefix("Ne", Collections.singletonList("pdf")));
+    }
+}
@@ -10,6 +10,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import javafx.collections.ListChangeListener;
+
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.StandardEntryType;
@@ -201,6 +203,25 @@ public class BibDatabaseTest {
         assertEquals(entry, tel.getBibEntry());
     }
 
+    @Test
+    public void changingEntryUpdatesEntriesList() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(new BibEntry());
+        database.insertEntry(entry);
+        List<Integer> updatedIndices = new ArrayList<>();
+        database.getEntries().addListener((ListChangeListener<BibEntry>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updatedIndices.add(change.getFrom());
+                }
+            }
+        });
+
+        entry.setField(StandardField.TITLE, "some title");
+
+        assertEquals(Collections.singletonList(1), updatedIndices);
+    }
+
     @Test
     public void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
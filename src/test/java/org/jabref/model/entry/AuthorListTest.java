@@ -31,6 +31,26 @@ public class AuthorListTest {
                         .fixAuthorNatbib("John von Neumann and John Smith and Black Brown, Peter")));
     }
 
+    @Test
+    public void parseCountsCacheHitForRepeatedInput() {
+        String authors = "Smith, John and Black Brown, Peter and von Neumann, John";
+        AuthorList.parse(authors);
+        long hits = AuthorList.getCacheStatistics().hitCount();
+
+        AuthorList.parse(authors);
+
+        // Other tests may use the cache at the same time
+        assertTrue(AuthorList.getCacheStatistics().hitCount() > hits);
+    }
+
+    @Test
+    public void parseOfCommaSeparatedNamesIsCachedByUnprocessedInput() {
+        AuthorList expected = AuthorList.parse("Muhammad Ali Babar and Torgeir Dingsøyr and Hans van der Vliet");
+
+        assertEquals(expected, AuthorList.parse("Muhammad Ali Babar, Torgeir Dingsøyr, Hans van der Vliet"));
+        assertEquals(expected, AuthorList.parse("Muhammad Ali Babar, Torgeir Dingsøyr, Hans van der Vliet"));
+    }
+
     @Test
     public void testGetAuthorList() {
         // Test caching in authorCache.
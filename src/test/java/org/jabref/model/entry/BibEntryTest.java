@@ -68,6 +68,34 @@ public class BibEntryTest {
         assertEquals(Arrays.asList(new LinkedFile("", "", "")), entry.getFiles());
     }
 
+    @Test
+    public void inProceedingsResolvesBookTitleFromTitleOfCrossref() {
+        BibDatabase database = new BibDatabase();
+        BibEntry proceedings = new BibEntry(StandardEntryType.Proceedings)
+                .withField(StandardField.TITLE, "Proceedings of the Conference")
+                .withField(StandardField.AUTHOR, "Editor, Erika");
+        proceedings.setCiteKey("proceedings");
+        BibEntry inProceedings = new BibEntry(StandardEntryType.InProceedings)
+                .withField(StandardField.CROSSREF, "proceedings");
+        database.insertEntries(proceedings, inProceedings);
+
+        assertEquals(Optional.of("Proceedings of the Conference"), inProceedings.getResolvedFieldOrAlias(StandardField.BOOKTITLE, database));
+        assertEquals(Optional.of("Editor, Erika"), inProceedings.getResolvedFieldOrAlias(StandardField.BOOKAUTHOR, database));
+    }
+
+    @Test
+    public void articleDoesNotResolveBookTitleFromTitleOfCrossref() {
+        BibDatabase database = new BibDatabase();
+        BibEntry proceedings = new BibEntry(StandardEntryType.Proceedings)
+                .withField(StandardField.TITLE, "Proceedings of the Conference");
+        proceedings.setCiteKey("proceedings");
+        BibEntry article = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.CROSSREF, "proceedings");
+        database.insertEntries(proceedings, article);
+
+        assertEquals(Optional.empty(), article.getResolvedFieldOrAlias(StandardField.BOOKTITLE, database));
+    }
+
     @Test
     public void testGetEmptyKeywords() {
         KeywordList actual = entry.getKeywords(',');
@@ -1,10 +1,15 @@
 package org.jabref.model.entry;
 
 import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class IdGeneratorTest {
 
@@ -18,4 +23,20 @@ public class IdGeneratorTest {
             set.add(string);
         }
     }
+
+    @Test
+    public void idsCreatedConcurrentlyAreUnique() {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 100_000).parallel().forEach(i -> assertTrue(ids.add(IdGenerator.next())));
+
+        assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    public void formatPadsWithZeros() {
+        assertEquals("00000000", IdGenerator.format(0));
+        assertEquals("00000042", IdGenerator.format(42));
+        assertEquals("12345678", IdGenerator.format(12345678));
+        assertEquals("123456789", IdGenerator.format(123456789));
+    }
 }
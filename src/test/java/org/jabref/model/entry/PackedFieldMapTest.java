@@ -0,0 +1,89 @@
+package org.jabref.model.entry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PackedFieldMapTest {
+
+    private final PackedFieldMap<String> map = new PackedFieldMap<>();
+
+    @Test
+    public void putReplacesValueOfContainedField() {
+        assertNull(map.put(StandardField.TITLE, "first"));
+        assertEquals("first", map.put(StandardField.TITLE, "second"));
+
+        assertEquals("second", map.get(StandardField.TITLE));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void removeKeepsOtherFields() {
+        map.put(StandardField.TITLE, "title");
+        map.put(StandardField.AUTHOR, "author");
+        map.put(StandardField.YEAR, "2019");
+
+        assertEquals("author", map.remove(StandardField.AUTHOR));
+
+        assertEquals("title", map.get(StandardField.TITLE));
+        assertEquals("2019", map.get(StandardField.YEAR));
+        assertFalse(map.containsKey(StandardField.AUTHOR));
+        assertNull(map.remove(StandardField.AUTHOR));
+    }
+
+    @Test
+    public void equalsMapWithSameMappings() {
+        Map<Field, String> expected = new HashMap<>();
+        expected.put(StandardField.TITLE, "title");
+        expected.put(new UnknownField("custom"), "value");
+
+        map.putAll(expected);
+
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void unknownFieldDoesNotMatchStandardFieldWithSameName() {
+        map.put(StandardField.TITLE, "title");
+
+        assertNull(map.get(new UnknownField("title")));
+    }
+
+    @Test
+    public void unknownFieldsAreMatchedByEquality() {
+        map.put(new UnknownField("custom"), "value");
+
+        assertEquals("value", map.get(new UnknownField("CUSTOM")));
+    }
+
+    @Test
+    public void iteratorRemovesCurrentField() {
+        map.put(StandardField.TITLE, "title");
+        map.put(StandardField.AUTHOR, "author");
+
+        Iterator<Map.Entry<Field, String>> iterator = map.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(1, map.size());
+        assertEquals("author", map.get(StandardField.AUTHOR));
+    }
+
+    @Test
+    public void nullValueIsRejected() {
+        assertThrows(NullPointerException.class, () -> map.put(StandardField.TITLE, null));
+    }
+}
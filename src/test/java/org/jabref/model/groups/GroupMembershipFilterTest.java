@@ -0,0 +1,101 @@
+package org.jabref.model.groups;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.matchers.MatcherSets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GroupMembershipFilterTest {
+
+    private BibDatabase database;
+    private BibEntry entryA;
+    private BibEntry entryAB;
+    private BibEntry entryB;
+    private List<GroupTreeNode> groups;
+
+    @BeforeEach
+    public void setUp() {
+        entryA = new BibEntry().withField(StandardField.KEYWORDS, "A");
+        entryAB = new BibEntry().withField(StandardField.KEYWORDS, "A, B");
+        entryB = new BibEntry().withField(StandardField.KEYWORDS, "B");
+        database = new BibDatabase(Arrays.asList(entryA, entryAB, entryB));
+
+        groups = Arrays.asList(
+                new GroupTreeNode(new WordKeywordGroup("A", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "A", true, ',', false)),
+                new GroupTreeNode(new WordKeywordGroup("B", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "B", true, ',', false)));
+    }
+
+    @Test
+    public void intersectionContainsOnlyEntriesOfAllGroups() {
+        GroupMembershipFilter filter = new GroupMembershipFilter(database.getEntries(), groups, MatcherSets.MatcherType.AND);
+
+        assertFalse(filter.test(entryA));
+        assertTrue(filter.test(entryAB));
+        assertFalse(filter.test(entryB));
+    }
+
+    @Test
+    public void unionContainsEntriesOfAnyGroup() {
+        GroupMembershipFilter filter = new GroupMembershipFilter(database.getEntries(), groups, MatcherSets.MatcherType.OR);
+
+        assertTrue(filter.test(entryA));
+        assertTrue(filter.test(entryAB));
+        assertTrue(filter.test(entryB));
+    }
+
+    @Test
+    public void addedEntryIsMatchedDirectly() {
+        GroupMembershipFilter filter = new GroupMembershipFilter(database.getEntries(), groups, MatcherSets.MatcherType.AND);
+        BibEntry entry = new BibEntry().withField(StandardField.KEYWORDS, "B, A");
+        database.insertEntry(entry);
+
+        assertTrue(filter.test(entry));
+    }
+
+    @Test
+    public void changedEntryIsMatchedAgain() {
+        GroupMembershipFilter filter = new GroupMembershipFilter(database.getEntries(), groups, MatcherSets.MatcherType.AND);
+        database.registerListener(filter);
+
+        entryA.setField(StandardField.KEYWORDS, "A, B");
+        entryAB.setField(StandardField.KEYWORDS, "A");
+
+        assertTrue(filter.test(entryA));
+        assertFalse(filter.test(entryAB));
+    }
+
+    @Test
+    public void filterIsOutdatedAfterEditOfGroup() {
+        GroupMembershipFilter filter = new GroupMembershipFilter(database.getEntries(), groups, MatcherSets.MatcherType.AND);
+
+        groups.get(1).setGroup(new WordKeywordGroup("B", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "C", true, ',', false));
+
+        assertFalse(filter.isUpToDate(groups, MatcherSets.MatcherType.AND));
+    }
+
+    @Test
+    public void filterIsOutdatedAfterManyChangedEntries() {
+        GroupMembershipFilter filter = new GroupMembershipFilter(database.getEntries(), groups, MatcherSets.MatcherType.AND);
+        database.registerListener(filter);
+        assertTrue(filter.isUpToDate(groups, MatcherSets.MatcherType.AND));
+
+        for (int i = 0; i <= GroupMembershipFilter.MAX_CHANGED_ENTRIES; i++) {
+            BibEntry entry = new BibEntry();
+            database.insertEntry(entry);
+            entry.setField(StandardField.KEYWORDS, "A");
+        }
+        entryA.setField(StandardField.KEYWORDS, "A, B");
+
+        assertFalse(filter.isUpToDate(groups, MatcherSets.MatcherType.AND));
+        assertTrue(filter.test(entryA));
+    }
+}
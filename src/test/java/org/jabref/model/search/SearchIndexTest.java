@@ -0,0 +1,147 @@
+package org.jabref.model.search;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.rules.ContainBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule;
+import org.jabref.model.search.rules.RegexBasedSearchRule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SearchIndexTest {
+
+    private BibDatabase database;
+    private BibEntry smith;
+    private BibEntry miller;
+
+    @BeforeEach
+    public void setUp() {
+        smith = new BibEntry()
+                .withField(StandardField.AUTHOR, "John Smith")
+                .withField(StandardField.TITLE, "Effective {J}ava");
+        miller = new BibEntry()
+                .withField(StandardField.AUTHOR, "Anna Miller")
+                .withField(StandardField.TITLE, "Refactoring");
+        database = new BibDatabase(Arrays.asList(smith, miller));
+    }
+
+    @Test
+    public void containBasedCandidatesAreRestrictedToMatchingTerms() {
+        assertEquals(Optional.of(Collections.singletonList(smith)), getCandidates("mit java"));
+    }
+
+    @Test
+    public void containBasedCandidatesIgnoreCase() {
+        assertEquals(Optional.of(Collections.singletonList(miller)), getCandidates("MILL"));
+    }
+
+    @Test
+    public void containBasedCandidatesKeepDatabaseOrder() {
+        assertEquals(Optional.of(Arrays.asList(smith, miller)), getCandidates("n"));
+    }
+
+    @Test
+    public void containBasedCandidatesContainTermsWithTokenInTheMiddle() {
+        assertEquals(Optional.of(Collections.singletonList(miller)), getCandidates("factor"));
+    }
+
+    @Test
+    public void containBasedCandidatesOfTokenShorterThanGramContainTermsWithTokenInTheMiddle() {
+        assertEquals(Optional.of(Collections.singletonList(smith)), getCandidates("av"));
+    }
+
+    @Test
+    public void addedEntryIsIndexed() {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Clean Code");
+        database.insertEntry(entry);
+
+        assertEquals(Optional.of(Collections.singletonList(entry)), getCandidates("clean"));
+    }
+
+    @Test
+    public void removedEntryIsNoCandidate() {
+        database.getSearchIndex();
+        database.removeEntry(smith);
+
+        assertEquals(Optional.of(Collections.emptyList()), getCandidates("smith"));
+    }
+
+    @Test
+    public void changedFieldIsReindexed() {
+        database.getSearchIndex();
+        smith.setField(StandardField.AUTHOR, "John Doe");
+
+        assertEquals(Optional.of(Collections.emptyList()), getCandidates("smith"));
+        assertEquals(Optional.of(Collections.singletonList(smith)), getCandidates("doe"));
+    }
+
+    @Test
+    public void termRemovedByChangeIsFoundAfterItIsAddedAgain() {
+        database.getSearchIndex();
+        smith.setField(StandardField.AUTHOR, "John Doe");
+        miller.setField(StandardField.AUTHOR, "Anna Smithers");
+
+        assertEquals(Optional.of(Collections.singletonList(miller)), getCandidates("mith"));
+    }
+
+    @Test
+    public void regexRuleIsNotRestricted() {
+        assertEquals(Optional.empty(), database.getSearchIndex().getCandidates(new RegexBasedSearchRule(false), "sm.th"));
+    }
+
+    @Test
+    public void grammarBasedAndIntersectsCandidates() {
+        assertEquals(Optional.of(Collections.singletonList(miller)), getGrammarCandidates("author=anna and title=factor"));
+    }
+
+    @Test
+    public void grammarBasedOrUnitesCandidates() {
+        assertEquals(Optional.of(Arrays.asList(smith, miller)), getGrammarCandidates("author=smith or author=miller"));
+    }
+
+    @Test
+    public void grammarBasedNegationIsNotRestricted() {
+        assertEquals(Optional.empty(), getGrammarCandidates("not author=smith"));
+    }
+
+    @Test
+    public void candidateFilterAcceptsEntriesChangedAfterCreation() {
+        SearchIndex index = database.getSearchIndex();
+        ContainBasedSearchRule rule = new ContainBasedSearchRule(false);
+        Predicate<BibEntry> filter = index.getCandidateFilter(rule, "doe").get();
+        assertFalse(filter.test(smith));
+
+        smith.setField(StandardField.AUTHOR, "John Doe");
+
+        assertTrue(filter.test(smith));
+        assertFalse(filter.test(miller));
+    }
+
+    @Test
+    public void tokenizeSplitsAtNonAlphanumericCharacters() {
+        List<String> expected = Arrays.asList("o", "brien", "2019");
+        assertEquals(expected, SearchIndex.tokenize("O'Brien, 2019"));
+    }
+
+    private Optional<List<BibEntry>> getCandidates(String query) {
+        return database.getSearchIndex().getCandidates(new ContainBasedSearchRule(false), query);
+    }
+
+    private Optional<List<BibEntry>> getGrammarCandidates(String query) {
+        GrammarBasedSearchRule rule = new GrammarBasedSearchRule(false, false);
+        rule.validateSearchStrings(query);
+        return database.getSearchIndex().getCandidates(rule, query);
+    }
+}
@@ -0,0 +1,87 @@
+package org.jabref.model.search.rules;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.StandardEntryType;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GrammarBasedSearchRuleTest {
+
+    private final BibEntry entry = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Smith, John")
+            .withField(StandardField.TITLE, "Fast searching (with special characters)")
+            .withField(StandardField.YEAR, "2010");
+
+    @Test
+    public void plainComparisonIsCaseInsensitive() {
+        assertTrue(matches("author=SMITH and year=2010", false, false));
+    }
+
+    @Test
+    public void plainComparisonRespectsCase() {
+        assertFalse(matches("author=SMITH", true, false));
+        assertTrue(matches("author=Smith", true, false));
+    }
+
+    @Test
+    public void plainComparisonDoesNotInterpretRegularExpression() {
+        assertTrue(matches("title=\"(with special\"", false, false));
+        assertFalse(matches("title=\"search.*with\"", false, false));
+    }
+
+    @Test
+    public void regularExpressionComparison() {
+        assertTrue(matches("title=\"search.*with\"", false, true));
+        assertTrue(matches("auth.*=smith", false, true));
+    }
+
+    @Test
+    public void exactComparison() {
+        assertTrue(matches("year==2010", false, false));
+        assertFalse(matches("year==201", false, false));
+    }
+
+    @Test
+    public void doesNotContainMatchesEntryWithoutField() {
+        assertTrue(matches("journal!=nature", false, false));
+        assertFalse(matches("author!=smith", false, false));
+    }
+
+    @Test
+    public void specialFields() {
+        assertTrue(matches("entrytype=article", false, false));
+        assertTrue(matches("anyfield=2010", false, false));
+    }
+
+    @Test
+    public void negationAndAlternatives() {
+        assertTrue(matches("not author=miller or year=2011", false, false));
+        assertFalse(matches("not (author=smith or year=2011)", false, false));
+    }
+
+    @Test
+    public void invalidRegularExpressionMatchesNothing() {
+        assertFalse(matches("title=\"(with\"", false, true));
+    }
+
+    @Test
+    public void compiledRuleCanBeAppliedRepeatedly() {
+        GrammarBasedSearchRule rule = new GrammarBasedSearchRule(false, false);
+        String query = "author=smith";
+        assertTrue(rule.validateSearchStrings(query));
+
+        assertTrue(rule.applyRule(query, entry));
+        assertFalse(rule.applyRule(query, new BibEntry().withField(StandardField.AUTHOR, "Miller, Jane")));
+        assertTrue(rule.applyRule(query, entry));
+    }
+
+    private boolean matches(String query, boolean caseSensitive, boolean regex) {
+        GrammarBasedSearchRule rule = new GrammarBasedSearchRule(caseSensitive, regex);
+        assertTrue(rule.validateSearchStrings(query));
+        return rule.applyRule(query, entry);
+    }
+}
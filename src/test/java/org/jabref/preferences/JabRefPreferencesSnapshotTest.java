@@ -0,0 +1,58 @@
+package org.jabref.preferences;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class JabRefPreferencesSnapshotTest {
+
+    private static String previousValue;
+
+    @BeforeAll
+    public static void savePreferenceKeyPatternRegex() {
+        previousValue = JabRefPreferences.getInstance().get(JabRefPreferences.KEY_PATTERN_REGEX);
+    }
+
+    @AfterAll
+    public static void restorePreferenceKeyPatternRegex() {
+        if (previousValue != null) {
+            JabRefPreferences.getInstance().put(JabRefPreferences.KEY_PATTERN_REGEX, previousValue);
+        }
+    }
+
+    @Test
+    public void testRepeatedGettersReturnSameInstance() {
+        JabRefPreferences prefs = JabRefPreferences.getInstance();
+
+        assertSame(prefs.getBibtexKeyPatternPreferences(), prefs.getBibtexKeyPatternPreferences());
+        assertSame(prefs.getImportFormatPreferences(), prefs.getImportFormatPreferences());
+        assertSame(prefs.getFieldContentParserPreferences(), prefs.getFieldContentParserPreferences());
+    }
+
+    @Test
+    public void testRepeatedGettersDoNotRebuildSnapshot() {
+        JabRefPreferences prefs = JabRefPreferences.getInstance();
+        prefs.getBibtexKeyPatternPreferences();
+        long snapshotBuildCount = prefs.getSnapshotBuildCount();
+
+        prefs.getBibtexKeyPatternPreferences();
+        prefs.getImportFormatPreferences();
+
+        assertEquals(snapshotBuildCount, prefs.getSnapshotBuildCount());
+    }
+
+    @Test
+    public void testPutInvalidatesSnapshot() {
+        JabRefPreferences prefs = JabRefPreferences.getInstance();
+        prefs.put(JabRefPreferences.KEY_PATTERN_REGEX, "a");
+        assertEquals("a", prefs.getBibtexKeyPatternPreferences().getKeyPatternRegex());
+
+        prefs.put(JabRefPreferences.KEY_PATTERN_REGEX, "b");
+
+        assertEquals("b", prefs.getBibtexKeyPatternPreferences().getKeyPatternRegex());
+        assertEquals("b", prefs.getImportFormatPreferences().getBibtexKeyPatternPreferences().getKeyPatternRegex());
+    }
+}